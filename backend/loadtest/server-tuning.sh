@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+#
+# Server tuning load test
+#
+# Compares HTTP/1.1 and HTTP/2 (h2c) against a running backend with the same workload:
+# the React list view fires several parallel requests per page, which is what
+# -m (concurrent streams per connection) models on HTTP/2.
+#
+# Requires h2load (nghttp2-client package) and curl.
+#
+# Usage:
+#   ./server-tuning.sh [base-url] [clients] [requests]
+#   ./server-tuning.sh http://localhost:8080 50 20000
+#
+# Run it once per setting you want to compare (e.g. restart the backend with
+# SERVER_MAX_THREADS=64, or build with -Dserver=undertow) and keep the printed summaries.
+
+set -euo pipefail
+
+BASE_URL="${1:-http://localhost:8080}"
+CLIENTS="${2:-50}"
+REQUESTS="${3:-20000}"
+STREAMS="${STREAMS:-6}"
+EMAIL="loadtest-$(date +%s)@example.com"
+PASSWORD="loadtest-password"
+
+command -v h2load >/dev/null || { echo "h2load not found (install nghttp2-client)"; exit 1; }
+
+# Register a throwaway user and seed a few tasks so the list endpoint has a realistic payload
+TOKEN=$(curl -sf -X POST "$BASE_URL/api/auth/register" \
+  -H 'Content-Type: application/json' \
+  -d "{\"name\":\"Load Test\",\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" \
+  | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+for i in $(seq 1 25); do
+  curl -sf -o /dev/null -X POST "$BASE_URL/api/tasks" \
+    -H 'Content-Type: application/json' -H "Authorization: Bearer $TOKEN" \
+    -d "{\"title\":\"Task $i\",\"description\":\"Seeded by server-tuning.sh\",\"status\":\"PENDING\"}"
+done
+
+echo "== HTTP/1.1: $CLIENTS connections, 1 request in flight each"
+h2load --h1 -n "$REQUESTS" -c "$CLIENTS" \
+  -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/tasks" | grep -E 'finished in|requests:|time for request|req/s'
+
+echo "== HTTP/2 (h2c): $CLIENTS connections, $STREAMS streams each"
+h2load -n "$REQUESTS" -c "$CLIENTS" -m "$STREAMS" \
+  -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/tasks" | grep -E 'finished in|requests:|time for request|req/s'
@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+#
+# Soak monitor
+#
+# Samples the backend process while a soak test runs (mvn gatling:test -Dmode=soak) and writes
+# a CSV: resident memory, heap and old generation use, live threads and open file descriptors.
+# A leak shows up as a floor that keeps rising: old gen after collections, threads or descriptors
+# (e.g. connections that are never returned). Ctrl-C prints first-hour vs last-hour minimums.
+#
+# Requires jstat (JDK) and Linux /proc.
+#
+# Usage:
+#   ./soak-monitor.sh <backend-pid> [interval-seconds] [output.csv]
+
+set -euo pipefail
+
+PID="${1:?usage: soak-monitor.sh <backend-pid> [interval-seconds] [output.csv]}"
+INTERVAL="${2:-60}"
+OUT="${3:-soak-$(date +%Y%m%d-%H%M%S).csv}"
+
+command -v jstat >/dev/null || { echo "jstat not found (needs a JDK)"; exit 1; }
+
+echo "epoch_s,rss_kb,heap_used_kb,old_used_kb,threads,open_fds" > "$OUT"
+echo "Sampling process $PID every ${INTERVAL}s into $OUT (Ctrl-C to stop)"
+
+summary() {
+  echo
+  awk -F, -v interval="$INTERVAL" '
+    NR == 2 { start = $1 }
+    NR > 1 {
+      hour = int(($1 - start) / 3600)
+      if (!(hour in oldMin) || $4 < oldMin[hour]) oldMin[hour] = $4
+      if (!(hour in fdMin) || $6 < fdMin[hour]) fdMin[hour] = $6
+      if (!(hour in thrMin) || $5 < thrMin[hour]) thrMin[hour] = $5
+      last = hour
+    }
+    END {
+      if (NR < 2) { print "No samples"; exit }
+      printf "Minimum old gen: first hour %d KB, last hour %d KB\n", oldMin[0], oldMin[last]
+      printf "Minimum threads: first hour %d, last hour %d\n", thrMin[0], thrMin[last]
+      printf "Minimum open fds: first hour %d, last hour %d\n", fdMin[0], fdMin[last]
+    }' "$OUT"
+  exit 0
+}
+trap summary INT TERM
+
+while kill -0 "$PID" 2>/dev/null; do
+  # jstat -gc columns: S0C S1C S0U S1U EC EU OC OU ... (sizes in KB)
+  read -r S0U S1U EU OU < <(jstat -gc "$PID" | awk 'NR == 2 { print $3, $4, $6, $8 }')
+  RSS=$(awk '/VmRSS/ { print $2 }' "/proc/$PID/status")
+  THREADS=$(awk '/Threads/ { print $2 }' "/proc/$PID/status")
+  FDS=$(ls "/proc/$PID/fd" | wc -l)
+  HEAP=$(awk -v a="$S0U" -v b="$S1U" -v c="$EU" -v d="$OU" 'BEGIN { printf "%d", a + b + c + d }')
+  OLD=$(awk -v d="$OU" 'BEGIN { printf "%d", d }')
+  echo "$(date +%s),$RSS,$HEAP,$OLD,$THREADS,$FDS" >> "$OUT"
+  sleep "$INTERVAL"
+done
+summary
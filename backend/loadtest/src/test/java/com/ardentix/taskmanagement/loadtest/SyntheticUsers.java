@@ -0,0 +1,39 @@
+package com.ardentix.taskmanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic User Generator
+ *
+ * The same seed always produces the same users with the same task counts, so two runs
+ * (e.g. before and after a change) put exactly the same data into the database.
+ * Emails contain the seed, so runs with different seeds can share a database.
+ */
+public final class SyntheticUsers {
+
+    public static final String PASSWORD = "load-test-password";
+
+    private SyntheticUsers() {
+    }
+
+    /**
+     * Feeder records: name, email, password and taskCount (Zipf-distributed over 1..maxTasks)
+     */
+    public static List<Map<String, Object>> generate(int count, int maxTasks, double zipfExponent, long seed) {
+        Random random = new Random(seed);
+        ZipfDistribution taskCounts = new ZipfDistribution(maxTasks, zipfExponent);
+        List<Map<String, Object>> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(Map.of(
+                    "name", "Load User " + i,
+                    "email", "load-" + seed + "-" + i + "@example.com",
+                    "password", PASSWORD,
+                    "taskCount", taskCounts.sample(random)
+            ));
+        }
+        return users;
+    }
+}
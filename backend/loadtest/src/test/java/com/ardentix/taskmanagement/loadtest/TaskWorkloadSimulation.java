@@ -0,0 +1,228 @@
+package com.ardentix.taskmanagement.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Task Workload Simulation
+ *
+ * Each virtual user is one synthetic account (SyntheticUsers): it registers (or logs in if it
+ * already exists), seeds its Zipf-distributed number of tasks, then runs the mix below with
+ * think time until the run ends:
+ * - 45% list all tasks, 15% list one sorted page, 5% read one task
+ * - 20% status change (PUT /api/tasks/{id})
+ * - 10% create, 5% delete
+ * A second scenario fires bursts of logins for the same accounts, like a shift starting.
+ * Access tokens expire (15 minutes by default), so each virtual user exchanges its refresh
+ * token at /api/auth/refresh once its access token is refreshAfterSeconds old.
+ *
+ * Settings (-Dname=value):
+ * - baseUrl (http://localhost:8080), users (100), rampSeconds (60), seed (42)
+ * - maxTasks (200), zipfExponent (1.1)
+ * - mode: load (default, 10 minutes) or soak (4 hours, longer think time)
+ * - durationMinutes, thinkMinMs/thinkMaxMs: override the mode's values
+ * - loginBurstSize (50), loginBurstIntervalSeconds (60)
+ * - refreshAfterSeconds (600): must stay below the server's jwt.expiration
+ * - maxErrorPercent (1.0), maxP99Ms (1000): assertions that fail the run
+ */
+public class TaskWorkloadSimulation extends Simulation {
+
+    private static final List<String> STATUSES = List.of("PENDING", "IN_PROGRESS", "COMPLETED");
+    private static final List<String> SORTS = List.of("createdAt", "updatedAt", "status", "title");
+
+    private final String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+    private final int users = Integer.getInteger("users", 100);
+    private final int rampSeconds = Integer.getInteger("rampSeconds", 60);
+    private final long seed = Long.getLong("seed", 42L);
+    private final int maxTasks = Integer.getInteger("maxTasks", 200);
+    private final double zipfExponent = Double.parseDouble(System.getProperty("zipfExponent", "1.1"));
+    private final boolean soak = "soak".equals(System.getProperty("mode", "load"));
+    private final int durationMinutes = Integer.getInteger("durationMinutes", soak ? 240 : 10);
+    private final int thinkMinMs = Integer.getInteger("thinkMinMs", soak ? 2000 : 200);
+    private final int thinkMaxMs = Integer.getInteger("thinkMaxMs", soak ? 8000 : 1000);
+    private final int loginBurstSize = Integer.getInteger("loginBurstSize", 50);
+    private final int loginBurstIntervalSeconds = Integer.getInteger("loginBurstIntervalSeconds", 60);
+    private final double maxErrorPercent = Double.parseDouble(System.getProperty("maxErrorPercent", "1.0"));
+    private final int maxP99Ms = Integer.getInteger("maxP99Ms", 1000);
+    private final long refreshAfterMs = Integer.getInteger("refreshAfterSeconds", 600) * 1000L;
+
+    private final List<Map<String, Object>> accounts = SyntheticUsers.generate(users, maxTasks, zipfExponent, seed);
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(baseUrl)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .shareConnections();
+
+    private final ChainBuilder login = exec(
+            http("login")
+                    .post("/api/auth/login")
+                    .body(StringBody("{\"email\":\"#{email}\",\"password\":\"#{password}\"}"))
+                    .check(jsonPath("$.token").saveAs("token"), jsonPath("$.refreshToken").saveAs("refreshToken"))
+    ).exec(TaskWorkloadSimulation::rememberTokenTime);
+
+    /**
+     * Register; an account left over from an earlier run with the same seed logs in instead
+     */
+    private final ChainBuilder signUp = exec(
+            http("register")
+                    .post("/api/auth/register")
+                    .body(StringBody("{\"name\":\"#{name}\",\"email\":\"#{email}\",\"password\":\"#{password}\"}"))
+                    .check(status().in(200, 400), jsonPath("$.token").optional().saveAs("token"),
+                            jsonPath("$.refreshToken").optional().saveAs("refreshToken"))
+    ).exec(TaskWorkloadSimulation::rememberTokenTime)
+            .doIf(session -> !session.contains("token")).then(login);
+
+    /**
+     * New token pair once the access token is refreshAfterMs old (logs in again if the refresh fails)
+     */
+    private final ChainBuilder refreshToken = doIf(session ->
+            System.currentTimeMillis() - session.getLong("tokenTime") > refreshAfterMs).then(
+            exec(session -> session.remove("token"))
+                    .exec(http("refresh token")
+                            .post("/api/auth/refresh")
+                            .body(StringBody("{\"refreshToken\":\"#{refreshToken}\"}"))
+                            .check(jsonPath("$.token").saveAs("token"), jsonPath("$.refreshToken").saveAs("refreshToken")))
+                    .exec(TaskWorkloadSimulation::rememberTokenTime)
+                    .doIf(session -> !session.contains("token")).then(login));
+
+    private final ChainBuilder createTask = exec(
+            http("create task")
+                    .post("/api/tasks")
+                    .header("Authorization", "Bearer #{token}")
+                    .body(StringBody(session -> "{\"title\":\"Task " + ThreadLocalRandom.current().nextInt(1_000_000)
+                            + "\",\"description\":\"Synthetic load test task\",\"status\":\"PENDING\"}"))
+                    .check(status().is(201), jsonPath("$.id").ofLong().saveAs("newTaskId"))
+    ).exec(TaskWorkloadSimulation::rememberNewTask);
+
+    private final ChainBuilder seedTasks = exec(session -> session.set("taskIds", List.of()))
+            .repeat("#{taskCount}").on(createTask);
+
+    private final ChainBuilder listTasks = exec(
+            http("list tasks")
+                    .get("/api/tasks")
+                    .header("Authorization", "Bearer #{token}")
+                    .check(status().is(200))
+    );
+
+    private final ChainBuilder listPage = exec(session -> session.set("sort", randomOf(SORTS)))
+            .exec(http("list page")
+                    .get("/api/tasks?sort=#{sort}&limit=20")
+                    .header("Authorization", "Bearer #{token}")
+                    .check(status().is(200)));
+
+    private final ChainBuilder readTask = exec(TaskWorkloadSimulation::pickTask)
+            .doIf(session -> session.contains("taskId")).then(
+                    exec(http("get task")
+                            .get("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200))));
+
+    private final ChainBuilder toggleStatus = exec(TaskWorkloadSimulation::pickTask)
+            .doIf(session -> session.contains("taskId")).then(
+                    exec(session -> session.set("status", randomOf(STATUSES)))
+                            .exec(http("update status")
+                                    .put("/api/tasks/#{taskId}")
+                                    .header("Authorization", "Bearer #{token}")
+                                    .body(StringBody("{\"title\":\"Task #{taskId}\",\"status\":\"#{status}\"}"))
+                                    .check(status().is(200))));
+
+    private final ChainBuilder deleteTask = exec(TaskWorkloadSimulation::pickTask)
+            .doIf(session -> session.contains("taskId")).then(
+                    exec(http("delete task")
+                            .delete("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(204)))
+                            .exec(TaskWorkloadSimulation::forgetPickedTask));
+
+    private final ScenarioBuilder workload = scenario("workload")
+            .feed(listFeeder(accounts).queue())
+            .exec(signUp)
+            .exec(seedTasks)
+            .during(Duration.ofMinutes(durationMinutes)).on(
+                    pause(Duration.ofMillis(thinkMinMs), Duration.ofMillis(thinkMaxMs))
+                            .exec(refreshToken)
+                            .randomSwitch().on(
+                                    percent(45.0).then(listTasks),
+                                    percent(15.0).then(listPage),
+                                    percent(5.0).then(readTask),
+                                    percent(20.0).then(toggleStatus),
+                                    percent(10.0).then(createTask),
+                                    percent(5.0).then(deleteTask)
+                            )
+            );
+
+    private final ScenarioBuilder loginBursts = scenario("login bursts")
+            .feed(listFeeder(accounts).circular())
+            .exec(login);
+
+    {
+        setUp(
+                workload.injectOpen(rampUsers(users).during(Duration.ofSeconds(rampSeconds))),
+                loginBursts.injectOpen(loginBurstSteps())
+        )
+                .protocols(httpProtocol)
+                .assertions(
+                        global().failedRequests().percent().lt(maxErrorPercent),
+                        global().responseTime().percentile4().lt(maxP99Ms)
+                );
+    }
+
+    /**
+     * Bursts start once every account has registered (ramp plus a minute for seeding)
+     */
+    private OpenInjectionStep[] loginBurstSteps() {
+        List<OpenInjectionStep> steps = new ArrayList<>();
+        steps.add(nothingFor(Duration.ofSeconds(rampSeconds + 60L)));
+        long bursts = Math.max(1, (durationMinutes * 60L - 60) / loginBurstIntervalSeconds);
+        for (long i = 0; i < bursts; i++) {
+            steps.add(atOnceUsers(loginBurstSize));
+            steps.add(nothingFor(Duration.ofSeconds(loginBurstIntervalSeconds)));
+        }
+        return steps.toArray(new OpenInjectionStep[0]);
+    }
+
+    private static Session rememberTokenTime(Session session) {
+        return session.set("tokenTime", System.currentTimeMillis());
+    }
+
+    private static Session rememberNewTask(Session session) {
+        List<Long> ids = new ArrayList<>(session.getList("taskIds"));
+        ids.add(session.getLong("newTaskId"));
+        return session.set("taskIds", ids);
+    }
+
+    /**
+     * Puts one of the user's own tasks into "taskId" (removed when the user has none left)
+     */
+    private static Session pickTask(Session session) {
+        List<Long> ids = session.getList("taskIds");
+        if (ids.isEmpty()) {
+            return session.remove("taskId");
+        }
+        return session.set("taskId", ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    private static Session forgetPickedTask(Session session) {
+        List<Long> ids = new ArrayList<>(session.getList("taskIds"));
+        ids.remove(Long.valueOf(session.getLong("taskId")));
+        return session.set("taskIds", ids);
+    }
+
+    private static String randomOf(List<String> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
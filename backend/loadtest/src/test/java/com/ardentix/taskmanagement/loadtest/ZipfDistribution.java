@@ -0,0 +1,39 @@
+package com.ardentix.taskmanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf Distribution over 1..n
+ *
+ * P(k) is proportional to 1 / k^exponent: most users have a few tasks, a few users have many,
+ * like real accounts. The cumulative probabilities are computed once; sampling is a binary search.
+ */
+public class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be at least 1");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * A value in 1..n
+     */
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int k = index >= 0 ? index + 1 : -index;
+        return Math.min(k, cumulative.length);
+    }
+}
@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# Servlet vs reactive stack benchmark
+#
+# Runs the Gatling task workload (TaskWorkloadSimulation) against two builds of the backend,
+# one after the other, each on a fresh in-memory H2 database:
+#   servlet   mvn package                  -> Spring MVC + JDBC on Tomcat
+#   reactive  mvn package -Dserver=netty   -> WebFlux + R2DBC on Reactor Netty (profile "reactive")
+# and prints Gatling's global statistics next to the thread count and memory of each process.
+#
+# Build the two jars first (from the backend directory), e.g.:
+#   mvn package && cp target/task-management-*.jar /tmp/servlet.jar
+#   mvn package -Dserver=netty && cp target/task-management-*.jar /tmp/reactive.jar
+#
+# Usage:
+#   ./loadtest/stack-benchmark.sh servlet-jar reactive-jar [users] [durationMinutes] [port]
+#   ./loadtest/stack-benchmark.sh /tmp/servlet.jar /tmp/reactive.jar 500 5 8080
+
+set -euo pipefail
+
+SERVLET_JAR="${1:?servlet jar}"
+REACTIVE_JAR="${2:?reactive jar}"
+USERS="${3:-500}"
+DURATION_MINUTES="${4:-5}"
+PORT="${5:-8080}"
+BASE_URL="http://localhost:$PORT"
+LOADTEST_DIR="$(cd "$(dirname "$0")" && pwd)"
+
+run_stack() {
+  local name="$1" jar="$2"
+  shift 2
+  echo "== $name: starting $jar"
+  java -Dserver.port="$PORT" "$@" -jar "$jar" >"/tmp/stack-benchmark-$name.log" 2>&1 &
+  local pid=$!
+  trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+  # Readiness flips to UP once the warm-up is done
+  until curl -sf -o /dev/null "$BASE_URL/actuator/health/readiness"; do
+    kill -0 "$pid" 2>/dev/null || { echo "$name did not start, see /tmp/stack-benchmark-$name.log"; exit 1; }
+    sleep 0.5
+  done
+
+  (cd "$LOADTEST_DIR" && mvn -q gatling:test -DbaseUrl="$BASE_URL" -Dusers="$USERS" \
+      -DdurationMinutes="$DURATION_MINUTES") | sed -n '/Global Information/,/^====/p' || true
+
+  echo "$name threads: $(ls "/proc/$pid/task" | wc -l)"
+  echo "$name RSS: $(awk '/VmRSS/ {print $2, $3}' "/proc/$pid/status")"
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_stack servlet "$SERVLET_JAR" \
+  -Dspring.profiles.active=prod \
+  -Dspring.datasource.url='jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1'
+
+run_stack reactive "$REACTIVE_JAR" \
+  -Dspring.profiles.active=prod,reactive \
+  -Dspring.datasource.url='jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1' \
+  -Dspring.r2dbc.url='r2dbc:h2:mem:///bench;DB_CLOSE_DELAY=-1'
@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark
+#
+# Measures what a user waiting on a cold start sees: the time from launching the backend
+# until the first successful GET /api/tasks (register a user, then list their tasks).
+# Each run starts a fresh process on an in-memory H2 database and stops it afterwards.
+#
+# Modes (build the matching artifact first, from the backend directory):
+#   jar     mvn package                        -> java -jar target/*.jar
+#   cds     mvn -Pappcds package               -> java -XX:SharedArchiveFile=... (target/app)
+#   crac    mvn -Pcrac package                 -> checkpoint once, then restore (CRaC JDK on Linux)
+#   native  mvn -Pnative native:compile        -> target/task-management
+#
+# Usage:
+#   ./loadtest/startup-benchmark.sh [mode] [runs] [port]
+#   ./loadtest/startup-benchmark.sh cds 5 8080
+
+set -euo pipefail
+
+MODE="${1:-jar}"
+RUNS="${2:-5}"
+PORT="${3:-8080}"
+BASE_URL="http://localhost:$PORT"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+SPRING_ARGS=(-Dspring.profiles.active=prod -Dspring.datasource.url=jdbc:h2:mem:startup -Dserver.port="$PORT")
+JAR="$(ls "$TARGET"/*.jar 2>/dev/null | head -n 1 || true)"
+MAIN_CLASS=com.ardentix.taskmanagement.TaskManagementApplication
+
+now_ms() {
+  date +%s%3N
+}
+
+start_backend() {
+  case "$MODE" in
+    jar)
+      java "${SPRING_ARGS[@]}" -jar "$JAR" >/dev/null 2>&1 &
+      ;;
+    cds)
+      (cd "$TARGET/app" && exec java -XX:SharedArchiveFile=application.jsa "${SPRING_ARGS[@]}" \
+        -cp "BOOT-INF/classes:BOOT-INF/lib/*" "$MAIN_CLASS") >/dev/null 2>&1 &
+      ;;
+    crac)
+      java -XX:CRaCRestoreFrom="$TARGET/crac" >/dev/null 2>&1 &
+      ;;
+    native)
+      "$TARGET/task-management" "${SPRING_ARGS[@]}" >/dev/null 2>&1 &
+      ;;
+    *)
+      echo "Unknown mode: $MODE (jar, cds, crac or native)"; exit 1
+      ;;
+  esac
+  PID=$!
+}
+
+# CRaC: take the checkpoint once; the process exits when the image is written
+if [ "$MODE" = "crac" ] && [ ! -d "$TARGET/crac" ]; then
+  echo "== Creating CRaC checkpoint in $TARGET/crac"
+  java -XX:CRaCCheckpointTo="$TARGET/crac" -Dspring.context.checkpoint=onRefresh \
+    "${SPRING_ARGS[@]}" -jar "$JAR" || true
+fi
+
+RESULTS=()
+for run in $(seq 1 "$RUNS"); do
+  START=$(now_ms)
+  start_backend
+  EMAIL="startup-$run-$(date +%s%N)@example.com"
+
+  # Register as soon as the server answers, then list tasks until it succeeds
+  TOKEN=""
+  until [ -n "$TOKEN" ]; do
+    TOKEN=$(curl -s -X POST "$BASE_URL/api/auth/register" -H 'Content-Type: application/json' \
+      -d "{\"name\":\"Startup\",\"email\":\"$EMAIL\",\"password\":\"startup-password\"}" 2>/dev/null \
+      | sed -nE 's/.*"token":"([^"]+)".*/\1/p' || true)
+    [ -n "$TOKEN" ] || sleep 0.02
+  done
+  until curl -sf -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/tasks"; do
+    sleep 0.02
+  done
+
+  ELAPSED=$(( $(now_ms) - START ))
+  RESULTS+=("$ELAPSED")
+  echo "run $run: first GET /api/tasks after ${ELAPSED}ms"
+
+  kill "$PID" 2>/dev/null || true
+  wait "$PID" 2>/dev/null || true
+done
+
+SORTED=($(printf '%s\n' "${RESULTS[@]}" | sort -n))
+echo "== $MODE: median ${SORTED[$(( ${#SORTED[@]} / 2 ))]}ms, best ${SORTED[0]}ms over $RUNS runs"
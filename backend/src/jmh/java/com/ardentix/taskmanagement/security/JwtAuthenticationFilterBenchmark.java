@@ -0,0 +1,199 @@
+package com.ardentix.taskmanagement.security;
+
+import com.ardentix.taskmanagement.service.RefreshTokenService;
+import com.ardentix.taskmanagement.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT Filter Benchmark
+ *
+ * Time and allocation of one pass through JwtAuthenticationFilter, next to the filter as it was
+ * before the hot path was trimmed (LegacyFilter below). Run with the jmh Maven profile (see pom.xml).
+ *
+ * - valid: a valid ES256 token on /api/tasks
+ * - invalid: a token with a broken signature (no authentication is set)
+ * - publicRoute: /api/auth/login, which the filter should not look at
+ * - Both filters verify with the same key; the current one also runs its (no-op) observation,
+ *   the MDC user ID and the request-attribute security context added since
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter current;
+    private LegacyFilter legacy;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest invalidRequest;
+    private MockHttpServletRequest publicRequest;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setUp() {
+        KeyPair keys = Jwts.SIG.ES256.keyPair().build();
+        JwtKeyManager keyManager = new JwtKeyManager(null) {
+            @Override
+            public ActiveKey activeKey() {
+                return new ActiveKey("bench", keys.getPrivate());
+            }
+
+            @Override
+            public PublicKey verificationKey(String kid) {
+                return "bench".equals(kid) ? keys.getPublic() : null;
+            }
+        };
+        JwtUtil jwtUtil = new JwtUtil(keyManager);
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-that-is-long-enough-for-hmac");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        current = new JwtAuthenticationFilter(jwtUtil, new RefreshTokenService(null), ObservationRegistry.NOOP);
+        legacy = new LegacyFilter(keys.getPublic());
+
+        String token = jwtUtil.generateToken("bench@example.com", 42L);
+        validRequest = request("/api/tasks", token);
+        invalidRequest = request("/api/tasks", token.substring(0, token.length() - 4) + "AAAA");
+        publicRequest = request("/api/auth/login", null);
+    }
+
+    @Benchmark
+    public Object validCurrent() throws Exception {
+        return run(current, validRequest);
+    }
+
+    @Benchmark
+    public Object validLegacy() throws Exception {
+        return run(legacy, validRequest);
+    }
+
+    @Benchmark
+    public Object invalidCurrent() throws Exception {
+        return run(current, invalidRequest);
+    }
+
+    @Benchmark
+    public Object invalidLegacy() throws Exception {
+        return run(legacy, invalidRequest);
+    }
+
+    @Benchmark
+    public Object publicRouteCurrent() throws Exception {
+        return run(current, publicRequest);
+    }
+
+    @Benchmark
+    public Object publicRouteLegacy() throws Exception {
+        return run(legacy, publicRequest);
+    }
+
+    /**
+     * One request: filter, read what it authenticated, then clear the context as the request ends
+     */
+    private Object run(OncePerRequestFilter filter, MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, response, CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    /**
+     * JwtAuthenticationFilter and JwtUtil's parsing as they were before the hot path was trimmed:
+     * path checks inside the filter, a new parser per parse, two parses per token (validate, then
+     * read the email), a new authorities list and request details for every request
+     */
+    static class LegacyFilter extends OncePerRequestFilter {
+
+        private final PublicKey key;
+
+        LegacyFilter(PublicKey key) {
+            this.key = key;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String path = request.getRequestURI();
+            if (path.startsWith("/api/auth/") || path.startsWith("/h2-console/")) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            String authHeader = request.getHeader("Authorization");
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            String token = authHeader.substring(7);
+            try {
+                if (validateToken(token)) {
+                    String email = claims(token).getSubject();
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(email, null, new ArrayList<>());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } catch (Exception e) {
+                logger.error("JWT validation failed", e);
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private boolean validateToken(String token) {
+            try {
+                claims(token);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        private Claims claims(String token) {
+            return Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.ardentix.taskmanagement;
 
+import com.ardentix.taskmanagement.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main Application Class
@@ -16,12 +18,14 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * 2. Scans for components (@Service, @Repository, @Controller, etc.)
  * 3. Configures beans and dependencies
  * 4. Connects to database
+ * 
+ * @ImportRuntimeHints: Extra reflection hints for the GraalVM native image (mvn -Pnative)
  */
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class TaskManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskManagementApplication.class, args);
-        System.out.println("✅ Task Management System is running on http://localhost:8080");
     }
 }
 
@@ -0,0 +1,97 @@
+package com.ardentix.taskmanagement.config;
+
+import com.ardentix.taskmanagement.sharding.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connection Pool Health Indicator
+ *
+ * The "connectionPool" component of the readiness probe, read from Hikari's counters
+ * (no query is run, so probing does not take a connection from a busy pool):
+ * - DOWN when a pool has no open connection: the database is unreachable
+ * - OUT_OF_SERVICE when more than db.pool.readiness-max-waiting requests are queued
+ *   for a connection (0 = never), so a load balancer sends new traffic elsewhere
+ * - UP otherwise
+ *
+ * Covers every shard's pool when sharding is enabled.
+ */
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final List<DataSource> dataSources;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+
+    @Value("${db.pool.readiness-max-waiting:0}")
+    private int maxWaiting;
+
+    public ConnectionPoolHealthIndicator(List<DataSource> dataSources,
+                                         ObjectProvider<ShardDataSources> shardDataSources) {
+        this.dataSources = dataSources;
+        this.shardDataSources = shardDataSources;
+    }
+
+    @Override
+    public Health health() {
+        Status status = Status.UP;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (HikariDataSource pool : pools()) {
+            HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+            if (stats == null) {
+                // Not started yet: Hikari opens the pool on the first getConnection()
+                continue;
+            }
+            int waiting = stats.getThreadsAwaitingConnection();
+            Status poolStatus = Status.UP;
+            if (stats.getTotalConnections() == 0) {
+                poolStatus = Status.DOWN;
+            } else if (maxWaiting > 0 && waiting > maxWaiting) {
+                poolStatus = Status.OUT_OF_SERVICE;
+            }
+            if (poolStatus == Status.DOWN || (poolStatus == Status.OUT_OF_SERVICE && status == Status.UP)) {
+                status = poolStatus;
+            }
+            details.put(pool.getPoolName(), Map.of(
+                    "status", poolStatus.getCode(),
+                    "active", stats.getActiveConnections(),
+                    "idle", stats.getIdleConnections(),
+                    "max", pool.getMaximumPoolSize(),
+                    "waiting", waiting));
+        }
+        return Health.status(status).withDetails(details).build();
+    }
+
+    private List<HikariDataSource> pools() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        if (shards != null) {
+            for (int shard = 0; shard < shards.size(); shard++) {
+                pools.add(shards.pool(shard));
+            }
+            return pools;
+        }
+        for (DataSource dataSource : dataSources) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(dataSource.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException e) {
+                // Not a Hikari pool
+            }
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ardentix.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection Pool Warmer
+ *
+ * Hikari fills the pool up to minimumIdle in the background after the first connection,
+ * so the first requests after a deploy can still wait for TCP + TLS + authentication.
+ * This runner borrows minimumIdle connections at startup (opening them right away)
+ * and hands them back, so the pool is full before traffic arrives.
+ * Runs before WarmUpRunner, whose workload then finds the connections open.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolWarmer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolWarmer.class);
+
+    private final List<DataSource> dataSources;
+
+    @Value("${db.pool.warm-up:true}")
+    private boolean enabled;
+
+    public ConnectionPoolWarmer(List<DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        for (DataSource dataSource : dataSources) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    warmUp(dataSource.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException e) {
+                logger.warn("Connection pool warm-up skipped: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Opens minimumIdle connections and returns them to the pool
+     */
+    public void warmUp(HikariDataSource dataSource) throws SQLException {
+        long start = System.nanoTime();
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < dataSource.getMinimumIdle(); i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        logger.info("Connection pool {} warmed up with {} connections in {}ms",
+                dataSource.getPoolName(), connections.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ardentix.taskmanagement.config;
+
+import com.ardentix.taskmanagement.exception.UnsupportedFeatureException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Embedded Store Web Configuration (task-store.type=embedded)
+ *
+ * Labels, subtasks, blockers, the label filter and recurrence query the tasks table, which
+ * the embedded store does not fill. Instead of answering 404 for tasks that do exist,
+ * their endpoints answer 501 with a problem response:
+ *   {"status": 501, "message": "Labels need task-store.type=jpa", "error": "NOT_IMPLEMENTED"}
+ *
+ * - The check runs after authentication, so anonymous clients still get 401
+ * - GET /api/tasks?from=...&to=... (recurring occurrences) is rejected the same way
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "task-store.type", havingValue = "embedded")
+public class EmbeddedStoreWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(unsupported("Labels"))
+                .addPathPatterns("/api/tasks/filter", "/api/tasks/*/labels");
+        registry.addInterceptor(unsupported("Subtasks and blockers"))
+                .addPathPatterns("/api/tasks/*/parent", "/api/tasks/*/tree",
+                        "/api/tasks/*/blockers", "/api/tasks/*/blockers/**");
+        registry.addInterceptor(unsupported("Recurring tasks"))
+                .addPathPatterns("/api/recurrences", "/api/recurrences/**");
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (request.getParameter("from") != null || request.getParameter("to") != null) {
+                    throw notSupported("Recurring tasks");
+                }
+                return true;
+            }
+        }).addPathPatterns("/api/tasks");
+    }
+
+    private static HandlerInterceptor unsupported(String feature) {
+        return new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                throw notSupported(feature);
+            }
+        };
+    }
+
+    private static UnsupportedFeatureException notSupported(String feature) {
+        return new UnsupportedFeatureException(feature + " need task-store.type=jpa");
+    }
+}
@@ -0,0 +1,32 @@
+package com.ardentix.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jetty Server Tuning
+ *
+ * Worker pool from ServerTuningConfig (server.jetty.threads.max / min).
+ * Only created in the -Dserver=jetty build.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "org.eclipse.jetty.server.Server")
+public class JettyServerTuning {
+
+    @Bean
+    WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> jettyThreadsCustomizer(
+            ServerTuningConfig tuning, ServerProperties serverProperties) {
+        return ServerTuningConfig.beforeServerCustomizers(() -> {
+            int threads = tuning.workerThreads();
+            ServerProperties.Jetty.Threads jettyThreads = serverProperties.getJetty().getThreads();
+            jettyThreads.setMax(threads);
+            jettyThreads.setMin(tuning.minSpareThreads(threads));
+        });
+    }
+}
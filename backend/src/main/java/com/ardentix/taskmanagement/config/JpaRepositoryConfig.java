@@ -0,0 +1,16 @@
+package com.ardentix.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA Repository Configuration
+ *
+ * Spring Data JPA and R2DBC are both on the classpath, so each scans only its own package:
+ * - JPA: the repository package (every profile)
+ * - R2DBC: the reactive package (reactive profile only, see ReactiveDataConfig)
+ */
+@Configuration
+@EnableJpaRepositories(basePackages = "com.ardentix.taskmanagement.repository")
+public class JpaRepositoryConfig {
+}
@@ -0,0 +1,95 @@
+package com.ardentix.taskmanagement.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Native Runtime Hints
+ *
+ * GraalVM native images only keep the reflection the build can see. Spring AOT works out most of it
+ * (beans, entities, repositories), but not:
+ * - DTOs returned as ResponseEntity<?> or read from request bodies through generic types
+ *   (Jackson needs their getters/setters at runtime)
+ * - jjwt, which creates its builders, parsers and algorithm registries by class name
+ * - the logstash encoder and async appender named in logback-spring.xml (logback creates them reflectively)
+ *
+ * The registrar only runs during the AOT build (mvn -Pnative), so scanning the DTO and entity
+ * packages here costs nothing at runtime, and new DTOs are picked up without touching this class.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.ardentix.taskmanagement";
+
+    /**
+     * Packages whose classes are (de)serialized by Jackson
+     */
+    private static final List<String> BINDING_PACKAGES = List.of(BASE_PACKAGE + ".dto", BASE_PACKAGE + ".entity");
+
+    /**
+     * jjwt implementation classes loaded reflectively through io.jsonwebtoken.lang.Classes
+     */
+    private static final List<String> JJWT_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    /**
+     * Classes logback instantiates and configures from logback-spring.xml
+     */
+    private static final List<String> LOGGING_CLASSES = List.of(
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "net.logstash.logback.stacktrace.ShortenedThrowableConverter",
+            "net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        for (String basePackage : BINDING_PACKAGES) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+
+        for (String className : JJWT_CLASSES) {
+            hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String className : LOGGING_CLASSES) {
+            hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        // jjwt finds its JSON serializer through ServiceLoader
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+}
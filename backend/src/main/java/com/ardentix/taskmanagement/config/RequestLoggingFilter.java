@@ -0,0 +1,104 @@
+package com.ardentix.taskmanagement.config;
+
+import com.ardentix.taskmanagement.util.LogRateLimiter;
+import com.ardentix.taskmanagement.warmup.WarmUpRequests;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Request Logging Filter
+ *
+ * Runs first on every request and:
+ * - gives it a correlation ID: the caller's X-Request-Id if it looks sane, otherwise a new one.
+ *   It is put in the MDC as "requestId" (so every log line of the request carries it)
+ *   and returned in the X-Request-Id response header.
+ *   JwtAuthenticationFilter adds "userId" once the token is validated.
+ * - writes a one-line access log for a sample of requests (request-logging.sample-rate),
+ *   not for every request: at thousands of requests per second a full access log costs more
+ *   than it tells
+ * - always reports requests slower than request-logging.slow-request-ms, at most one line per
+ *   interval with the number of slow requests since the last one
+ * - marks WarmUpRunner's requests (WarmUpRequests) and leaves them out of both logs
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USER_ID = "userId";
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final double sampleRate;
+    private final long slowRequestNanos;
+    private final LogRateLimiter slowRequestLog;
+
+    public RequestLoggingFilter(@Value("${request-logging.sample-rate:0.01}") double sampleRate,
+                                @Value("${request-logging.slow-request-ms:1000}") long slowRequestMs,
+                                @Value("${request-logging.slow-log-interval-ms:10000}") long slowLogIntervalMs) {
+        this.sampleRate = sampleRate;
+        this.slowRequestNanos = slowRequestMs * 1_000_000;
+        this.slowRequestLog = new LogRateLimiter(slowLogIntervalMs);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            // Not UUID.randomUUID(): that draws from SecureRandom, which is shared and can block
+            requestId = HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        boolean warmUp = WarmUpRequests.isWarmUp(request.getHeader(WarmUpRequests.HEADER));
+        if (warmUp) {
+            request.setAttribute(WarmUpRequests.WARM_UP_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (warmUp) {
+                // WarmUpRunner: neither logged nor counted as slow
+            } else if (elapsed >= slowRequestNanos) {
+                long slow = slowRequestLog.record();
+                if (slow > 0) {
+                    logger.warn("Slow request {} {} -> {} in {}ms ({} slow requests since last report)",
+                            request.getMethod(), request.getRequestURI(), response.getStatus(),
+                            elapsed / 1_000_000, slow);
+                }
+            } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                logger.info("{} {} -> {} in {}ms", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), elapsed / 1_000_000);
+            }
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_USER_ID);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ardentix.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled background jobs (e.g. TaskArchiver)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
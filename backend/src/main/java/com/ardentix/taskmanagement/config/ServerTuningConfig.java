@@ -0,0 +1,83 @@
+package com.ardentix.taskmanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Server Tuning Configuration
+ *
+ * Sizes the embedded server's worker pool from the database pool:
+ * nearly every API request needs a connection, so threads far beyond
+ * (pool size * threads-per-db-connection) would only queue inside Hikari.
+ * Keep-alive, connection limits and HTTP/2 are plain server.* properties.
+ *
+ * The sizes are applied by one configuration per server (TomcatServerTuning, UndertowServerTuning,
+ * JettyServerTuning); only the one whose classes are on the classpath is created (see the
+ * tomcat/undertow/jetty profiles in pom.xml). They only write Spring Boot's server.* thread
+ * properties, so no server's classes are needed to compile the others.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTuningConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerTuningConfig.class);
+
+    private final ConnectionPoolTuner poolTuner;
+
+    @Value("${server.tuning.max-threads:0}")
+    private int maxThreads;
+
+    @Value("${server.tuning.threads-per-db-connection:4}")
+    private int threadsPerDbConnection;
+
+    @Value("${server.tuning.min-spare-threads:10}")
+    private int minSpareThreads;
+
+    public ServerTuningConfig(ConnectionPoolTuner poolTuner) {
+        this.poolTuner = poolTuner;
+    }
+
+    /**
+     * Worker threads: explicit server.tuning.max-threads, otherwise derived from the DB pool
+     */
+    int workerThreads() {
+        int threads = maxThreads > 0 ? maxThreads : poolTuner.poolSize() * threadsPerDbConnection;
+        logger.info("Embedded server worker threads: {}", threads);
+        return threads;
+    }
+
+    /**
+     * Idle threads kept around, never more than the worker threads
+     */
+    int minSpareThreads(int workerThreads) {
+        return Math.min(minSpareThreads, workerThreads);
+    }
+
+    /**
+     * Customizer that runs before Spring Boot's own server customizers, which read the
+     * server.tomcat/undertow/jetty.threads properties when the server is created
+     */
+    static WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> beforeServerCustomizers(Runnable applyThreads) {
+        return new ThreadsCustomizer(applyThreads);
+    }
+
+    private record ThreadsCustomizer(Runnable applyThreads)
+            implements WebServerFactoryCustomizer<ConfigurableServletWebServerFactory>, Ordered {
+
+        @Override
+        public void customize(ConfigurableServletWebServerFactory factory) {
+            applyThreads.run();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ardentix.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat Server Tuning
+ *
+ * Worker pool from ServerTuningConfig (server.tomcat.threads.max / min-spare).
+ * Only created when Tomcat is the embedded server (the default build).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+public class TomcatServerTuning {
+
+    @Bean
+    WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> tomcatThreadsCustomizer(
+            ServerTuningConfig tuning, ServerProperties serverProperties) {
+        return ServerTuningConfig.beforeServerCustomizers(() -> {
+            int threads = tuning.workerThreads();
+            ServerProperties.Tomcat.Threads tomcatThreads = serverProperties.getTomcat().getThreads();
+            tomcatThreads.setMax(threads);
+            tomcatThreads.setMinSpare(tuning.minSpareThreads(threads));
+        });
+    }
+}
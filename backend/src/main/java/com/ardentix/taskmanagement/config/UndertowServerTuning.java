@@ -0,0 +1,28 @@
+package com.ardentix.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Undertow Server Tuning
+ *
+ * Worker pool from ServerTuningConfig (server.undertow.threads.worker).
+ * Only created in the -Dserver=undertow build.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "io.undertow.Undertow")
+public class UndertowServerTuning {
+
+    @Bean
+    WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> undertowThreadsCustomizer(
+            ServerTuningConfig tuning, ServerProperties serverProperties) {
+        return ServerTuningConfig.beforeServerCustomizers(
+                () -> serverProperties.getUndertow().getThreads().setWorker(tuning.workerThreads()));
+    }
+}
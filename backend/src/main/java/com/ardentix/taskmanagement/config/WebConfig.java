@@ -0,0 +1,46 @@
+package com.ardentix.taskmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC Configuration
+ *
+ * Content negotiation for the REST API:
+ * - Accept: application/json (default) - JSON, gzip-compressed above server.compression.min-response-size
+ * - Accept: application/cbor - the same DTOs in binary CBOR; dates are written as numeric
+ *   [year, month, day, hour, minute, second, nanos] arrays instead of ISO strings
+ *
+ * Spring MVC already registers a CBOR converter (after JSON, so clients sending "Accept: *&#47;*"
+ * keep getting JSON) when jackson-dataformat-cbor is on the classpath. Its ObjectMapper is
+ * replaced here; a converter is only added if there is none.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        boolean found = false;
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2CborHttpMessageConverter cborConverter) {
+                cborConverter.setObjectMapper(cborMapper);
+                found = true;
+            }
+        }
+        if (!found) {
+            converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.ardentix.taskmanagement.controller;
 
 import com.ardentix.taskmanagement.dto.AuthResponse;
-import com.ardentix.taskmanagement.dto.ErrorResponse;
 import com.ardentix.taskmanagement.dto.LoginRequest;
+import com.ardentix.taskmanagement.dto.RefreshTokenRequest;
 import com.ardentix.taskmanagement.dto.RegisterRequest;
 import com.ardentix.taskmanagement.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,8 +23,11 @@ import org.springframework.web.bind.annotation.*;
  * REST API Endpoints:
  * - POST /api/auth/register - Register new user
  * - POST /api/auth/login - Login user
+ * - POST /api/auth/refresh - Exchange refresh token for a new token pair
+ * - POST /api/auth/logout - Revoke refresh token (and its access tokens)
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/auth")
 public class AuthController {
     
@@ -43,33 +47,41 @@ public class AuthController {
      * HTTP Status Codes:
      * - 200 OK: Success
      * - 400 Bad Request: Validation failed
+     * - 409 Conflict: Email already registered
      * - 500 Internal Server Error: Server error
      */
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
-        try {
-            AuthResponse response = authService.register(request);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            // Email already exists or other error
-            ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), "REGISTRATION_ERROR");
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
+        AuthResponse response = authService.register(request);
+        return ResponseEntity.ok(response);
     }
     
     /**
      * Login Endpoint
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
-        try {
-            AuthResponse response = authService.login(request);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            // Invalid credentials
-            ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), "LOGIN_ERROR");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
-        }
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // Behind a proxy this is the client address (server.forward-headers-strategy)
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Refresh Endpoint
+     * Access tokens are short-lived; the client calls this when one expires
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Logout Endpoint
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
     }
 }
-
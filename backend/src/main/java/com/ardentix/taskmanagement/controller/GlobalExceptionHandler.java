@@ -1,34 +1,140 @@
 package com.ardentix.taskmanagement.controller;
 
-import com.ardentix.taskmanagement.dto.ErrorResponse;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.DomainException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.exception.TooManyRequestsException;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import com.ardentix.taskmanagement.exception.UnsupportedFeatureException;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.util.stream.Collectors;
 
 /**
  * Global Exception Handler
- * Handles validation errors and other exceptions globally
+ *
+ * Turns every error into an RFC 7807 problem response (Content-Type: application/problem+json):
+ *   {"type": "about:blank", "title": "Not Found", "status": 404, "detail": "Task not found",
+ *    "instance": "/api/tasks/7", "message": "Task not found", "error": "NOT_FOUND"}
+ *
+ * "message" and "error" are the fields of the old ErrorResponse, kept so existing clients
+ * (the React frontend reads "message") work unchanged.
+ *
+ * - DomainException subclasses: 404 / 401 / 409 / 400 / 429 / 501, see the handlers below
+ * - AccessDeniedException (workspace role too low): 403
+ * - Spring MVC errors (malformed JSON, missing parameter, wrong method, ...): their usual status,
+ *   handled by ResponseEntityExceptionHandler
+ * - Anything else is a bug: 500 with a generic message, logged with its stack trace
  */
 @RestControllerAdvice
-public class GlobalExceptionHandler {
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(NotFoundException.class)
+    public ProblemDetail handleNotFound(NotFoundException ex) {
+        return problem(HttpStatus.NOT_FOUND, ex);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ProblemDetail handleUnauthorized(UnauthorizedException ex) {
+        return problem(HttpStatus.UNAUTHORIZED, ex);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ProblemDetail handleConflict(ConflictException ex) {
+        return problem(HttpStatus.CONFLICT, ex);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ProblemDetail handleValidation(ValidationException ex) {
+        return problem(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    @ExceptionHandler(UnsupportedFeatureException.class)
+    public ProblemDetail handleUnsupported(UnsupportedFeatureException ex) {
+        return problem(HttpStatus.NOT_IMPLEMENTED, ex);
+    }
+
+    /**
+     * 429 with Retry-After, so clients know when to try again
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ProblemDetail> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(problem(HttpStatus.TOO_MANY_REQUESTS, ex));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ProblemDetail handleAccessDenied(AccessDeniedException ex) {
+        return problem(HttpStatus.FORBIDDEN, ex.getMessage(), "FORBIDDEN");
+    }
+
+    /**
+     * Unexpected errors: the details stay in the log, the client gets a generic message
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ProblemDetail handleUnexpected(RuntimeException ex) {
+        log.error("Unhandled error", ex);
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "Something went wrong, please try again", "INTERNAL_ERROR");
+    }
 
     /**
      * Handles validation errors from @Valid annotation
      */
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(
+            MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
         String errorMessage = ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
                 .map(error -> error.getDefaultMessage())
                 .collect(Collectors.joining(", "));
-        
-        ErrorResponse errorResponse = new ErrorResponse(errorMessage, "VALIDATION_ERROR");
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(problem(HttpStatus.BAD_REQUEST, errorMessage, "VALIDATION_ERROR"));
     }
-}
 
+    /**
+     * Adds "message" and "error" to the problem responses Spring MVC builds for its own exceptions
+     */
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(
+            Exception ex, @Nullable Object body, HttpHeaders headers, HttpStatusCode statusCode, WebRequest request) {
+        ResponseEntity<Object> response = super.handleExceptionInternal(ex, body, headers, statusCode, request);
+        if (response != null && response.getBody() instanceof ProblemDetail problem) {
+            HttpStatus status = HttpStatus.resolve(statusCode.value());
+            problem.setProperty("message", problem.getDetail());
+            problem.setProperty("error", status != null ? status.name() : "ERROR");
+        }
+        return response;
+    }
+
+    private static ProblemDetail problem(HttpStatus status, DomainException ex) {
+        return problem(status, ex.getMessage(), ex.getErrorCode());
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String message, String errorCode) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, message);
+        problem.setProperty("message", message);
+        problem.setProperty("error", errorCode);
+        return problem;
+    }
+}
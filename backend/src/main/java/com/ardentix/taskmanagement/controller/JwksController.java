@@ -0,0 +1,69 @@
+package com.ardentix.taskmanagement.controller;
+
+import com.ardentix.taskmanagement.entity.SigningKey;
+import com.ardentix.taskmanagement.security.JwtKeyManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS Controller
+ *
+ * Publishes the public JWT verification keys as a JSON Web Key Set (RFC 7517),
+ * so an edge proxy or another service can verify access tokens without calling this backend.
+ *
+ * REST API Endpoints:
+ * - GET /.well-known/jwks.json - Public keys (upcoming, active and verify-only), cacheable for 5 minutes
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyManager keyManager;
+
+    public JwksController(JwtKeyManager keyManager) {
+        this.keyManager = keyManager;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        List<Map<String, Object>> keys = keyManager.publishedKeys().stream()
+                .map(this::toJwk)
+                .toList();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+
+    private Map<String, Object> toJwk(SigningKey key) {
+        ECPublicKey publicKey = (ECPublicKey) keyManager.decodePublicKey(key);
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", key.getKid());
+        jwk.put("use", "sig");
+        jwk.put("alg", key.getAlgorithm());
+        jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * P-256 coordinates are exactly 32 bytes, unsigned big-endian, Base64url without padding
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ardentix.taskmanagement.controller;
+
+import com.ardentix.taskmanagement.dto.LabelRequest;
+import com.ardentix.taskmanagement.dto.LabelResponse;
+import com.ardentix.taskmanagement.service.LabelService;
+import com.ardentix.taskmanagement.util.SecurityUtil;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Label Controller
+ *
+ * REST API Endpoints:
+ * - GET    /api/labels - Labels of the current user (with task counts)
+ * - POST   /api/labels - Create label
+ * - DELETE /api/labels/{id} - Delete label (removes it from all tasks)
+ *
+ * Labels are put on tasks with PUT /api/tasks/{id}/labels and used in GET /api/tasks/filter.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/labels")
+public class LabelController {
+
+    private final LabelService labelService;
+    private final SecurityUtil securityUtil;
+
+    public LabelController(LabelService labelService, SecurityUtil securityUtil) {
+        this.labelService = labelService;
+        this.securityUtil = securityUtil;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<LabelResponse>> getLabels() {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(labelService.getLabels(userId));
+    }
+
+    @PostMapping
+    public ResponseEntity<LabelResponse> createLabel(@Valid @RequestBody LabelRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        LabelResponse label = labelService.createLabel(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(label);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteLabel(@PathVariable Long id) {
+        Long userId = securityUtil.getCurrentUserId();
+        labelService.deleteLabel(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
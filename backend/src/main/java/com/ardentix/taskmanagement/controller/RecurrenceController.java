@@ -0,0 +1,93 @@
+package com.ardentix.taskmanagement.controller;
+
+import com.ardentix.taskmanagement.dto.OccurrenceRequest;
+import com.ardentix.taskmanagement.dto.OccurrenceResponse;
+import com.ardentix.taskmanagement.dto.RecurrenceRequest;
+import com.ardentix.taskmanagement.dto.RecurrenceResponse;
+import com.ardentix.taskmanagement.dto.RecurrenceStats;
+import com.ardentix.taskmanagement.service.RecurrenceService;
+import com.ardentix.taskmanagement.util.SecurityUtil;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Recurrence Controller
+ *
+ * REST API Endpoints:
+ * - GET    /api/recurrences - Recurring tasks of the current user
+ * - PUT    /api/recurrences/{taskId} - Make a task recurring (or change its rule)
+ * - DELETE /api/recurrences/{taskId} - Stop a task from recurring
+ * - GET    /api/recurrences/occurrences?from=...&to=... - Occurrences in a window, by time
+ * - GET    /api/recurrences/stats?from=...&to=... - Occurrence counts by status in a window
+ * - PUT    /api/recurrences/{taskId}/occurrences/{occursAt} - Change or complete one occurrence
+ *
+ * Times are ISO date-times, e.g. 2024-05-01T09:00:00
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/recurrences")
+public class RecurrenceController {
+
+    private final RecurrenceService recurrenceService;
+    private final SecurityUtil securityUtil;
+
+    public RecurrenceController(RecurrenceService recurrenceService, SecurityUtil securityUtil) {
+        this.recurrenceService = recurrenceService;
+        this.securityUtil = securityUtil;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecurrenceResponse>> getRecurrences() {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(recurrenceService.getRecurrences(userId));
+    }
+
+    @PutMapping("/{taskId}")
+    public ResponseEntity<RecurrenceResponse> setRecurrence(@PathVariable Long taskId,
+                                                            @Valid @RequestBody RecurrenceRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(recurrenceService.setRecurrence(userId, taskId, request));
+    }
+
+    @DeleteMapping("/{taskId}")
+    public ResponseEntity<Void> removeRecurrence(@PathVariable Long taskId) {
+        Long userId = securityUtil.getCurrentUserId();
+        recurrenceService.removeRecurrence(userId, taskId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Occurrences are computed from the rules; stored=true marks the ones a user changed
+     */
+    @GetMapping("/occurrences")
+    public ResponseEntity<List<OccurrenceResponse>> getOccurrences(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(recurrenceService.getOccurrences(userId, from, to));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<RecurrenceStats> getStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(recurrenceService.getStats(userId, from, to));
+    }
+
+    @PutMapping("/{taskId}/occurrences/{occursAt}")
+    public ResponseEntity<OccurrenceResponse> updateOccurrence(
+            @PathVariable Long taskId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occursAt,
+            @Valid @RequestBody OccurrenceRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        OccurrenceResponse occurrence = recurrenceService.updateOccurrence(userId, taskId, occursAt, request);
+        return ResponseEntity.ok(occurrence);
+    }
+}
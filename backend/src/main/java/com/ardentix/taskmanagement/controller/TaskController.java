@@ -1,14 +1,33 @@
 package com.ardentix.taskmanagement.controller;
 
+import com.ardentix.taskmanagement.dto.LabelResponse;
+import com.ardentix.taskmanagement.dto.TaskDependencyRequest;
+import com.ardentix.taskmanagement.dto.TaskLabelsRequest;
+import com.ardentix.taskmanagement.dto.TaskPage;
+import com.ardentix.taskmanagement.dto.TaskParentRequest;
 import com.ardentix.taskmanagement.dto.TaskRequest;
 import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.dto.TaskTreeNode;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.service.LabelService;
+import com.ardentix.taskmanagement.service.RecurrenceService;
+import com.ardentix.taskmanagement.service.TaskHierarchyService;
 import com.ardentix.taskmanagement.service.TaskService;
 import com.ardentix.taskmanagement.util.SecurityUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,40 +36,217 @@ import java.util.List;
  * All endpoints require authentication (JWT token in Authorization header)
  * 
  * REST API Endpoints:
- * - GET    /api/tasks - Get all tasks
+ * - GET    /api/tasks - Get all tasks (?includeArchived=true to add archived ones)
+ *   ?sort=createdAt|updatedAt|status|title, ?limit=n&cursor=... for keyset paging
+ *   ?from=...&to=... also lists the occurrences of recurring tasks in that window
+ * - GET    /api/tasks/export - All tasks as newline-delimited JSON (one task per line)
+ * - GET    /api/tasks/filter - Filter by label/status combinations
+ * - GET    /api/tasks/{id}/labels - Labels of a task
+ * - PUT    /api/tasks/{id}/labels - Replace labels of a task
+ * - PUT    /api/tasks/{id}/parent - Move a task under another task (subtasks)
+ * - GET    /api/tasks/{id}/tree - Task with all its subtasks
+ * - GET    /api/tasks/{id}/blockers - Tasks blocking this one, in the order they can be done
+ * - POST   /api/tasks/{id}/blockers - Mark a task as blocked by another task
+ * - DELETE /api/tasks/{id}/blockers/{blockerId} - Remove a blocker
  * - GET    /api/tasks/{id} - Get task by ID
  * - POST   /api/tasks - Create new task
  * - PUT    /api/tasks/{id} - Update task
  * - DELETE /api/tasks/{id} - Delete task
+ *
+ * Errors (task not found, invalid sort, ...) are thrown as DomainExceptions and turned into
+ * problem responses by GlobalExceptionHandler.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/tasks")
 public class TaskController {
     
+    /**
+     * Response header carrying the cursor for the next page (absent on the last page)
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    /**
+     * Response header with the number of tasks matching a filter
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final TaskService taskService;
+    private final LabelService labelService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final RecurrenceService recurrenceService;
     private final SecurityUtil securityUtil;
+    private final ObjectMapper objectMapper;
     
-    public TaskController(TaskService taskService, SecurityUtil securityUtil) {
+    public TaskController(TaskService taskService, LabelService labelService,
+                          TaskHierarchyService taskHierarchyService, RecurrenceService recurrenceService,
+                          SecurityUtil securityUtil, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.labelService = labelService;
+        this.taskHierarchyService = taskHierarchyService;
+        this.recurrenceService = recurrenceService;
         this.securityUtil = securityUtil;
+        this.objectMapper = objectMapper;
     }
     
     /**
      * Get all tasks for current user
      * 
      * @GetMapping: Handles GET requests
+     * @RequestParam includeArchived: also return archived (old completed) tasks
+     * @RequestParam sort: one of the index-backed TaskSort orders (400 for anything else)
+     * @RequestParam limit/cursor: return one page; the next page's cursor is in X-Next-Cursor
+     * @RequestParam from/to: add the occurrences of recurring tasks in [from, to) after the tasks,
+     *   by time (computed on the fly, same limits as /api/recurrences/occurrences)
      * Returns list of tasks
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        try {
-            Long userId = securityUtil.getCurrentUserId();
-            List<TaskResponse> tasks = taskService.getAllTasks(userId);
+    public ResponseEntity<List<TaskResponse>> getAllTasks(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Long userId = securityUtil.getCurrentUserId();
+        TaskSort taskSort = TaskSort.fromParam(sort);
+        boolean withOccurrences = from != null || to != null;
+        
+        if (limit == null && cursor == null) {
+            List<TaskResponse> tasks = taskService.getAllTasks(userId, taskSort, includeArchived);
+            if (withOccurrences) {
+                tasks = new ArrayList<>(tasks);
+                tasks.addAll(recurrenceService.getOccurrenceTasks(userId, from, to));
+            }
             return ResponseEntity.ok(tasks);
-        } catch (RuntimeException e) {
-            System.err.println("Error getting tasks: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
+        
+        if (includeArchived || withOccurrences) {
+            throw new ValidationException("Paging is not supported with includeArchived or from/to", "INVALID_QUERY");
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TaskPage page = taskService.getTaskPage(userId, taskSort, cursor, pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+    
+    /**
+     * Export all tasks as newline-delimited JSON (application/x-ndjson)
+     * Same format as the reactive stack, where the tasks are streamed while they are read
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "createdAt") String sort) {
+        Long userId = securityUtil.getCurrentUserId();
+        List<TaskResponse> tasks = taskService.getAllTasks(userId, TaskSort.fromParam(sort), false);
+        StreamingResponseBody body = out -> {
+            for (TaskResponse task : tasks) {
+                out.write(objectMapper.writeValueAsBytes(task));
+                out.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+    
+    /**
+     * Filter tasks by labels and status
+     * 
+     * Example: ?labels=1&excludeLabels=2&status=IN_PROGRESS is "label 1 and not label 2 and in progress"
+     * @RequestParam labels: task has all of these labels
+     * @RequestParam anyLabels: task has at least one of these labels
+     * @RequestParam excludeLabels: task has none of these labels
+     * @RequestParam status: task has one of these statuses
+     * Returns newest first; X-Total-Count has the number of matches, X-Next-Cursor the next page
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<List<TaskResponse>> filterTasks(
+            @RequestParam(defaultValue = "") List<Long> labels,
+            @RequestParam(defaultValue = "") List<Long> anyLabels,
+            @RequestParam(defaultValue = "") List<Long> excludeLabels,
+            @RequestParam(defaultValue = "") List<Task.TaskStatus> status,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        Long userId = securityUtil.getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TaskPage page = taskService.filterTasks(userId, labels, anyLabels, excludeLabels, status, cursor, pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotal()));
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+    
+    /**
+     * Get labels of a task
+     */
+    @GetMapping("/{id}/labels")
+    public ResponseEntity<List<LabelResponse>> getTaskLabels(@PathVariable Long id) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(labelService.getTaskLabels(id, userId));
+    }
+    
+    /**
+     * Replace labels of a task
+     */
+    @PutMapping("/{id}/labels")
+    public ResponseEntity<List<LabelResponse>> setTaskLabels(@PathVariable Long id,
+                                                             @Valid @RequestBody TaskLabelsRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(labelService.setTaskLabels(id, request.getLabelIds(), userId));
+    }
+    
+    /**
+     * Move a task under another task; {"parentId": null} makes it a top-level task again
+     * 409 if the new parent is the task itself or one of its subtasks
+     */
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<TaskResponse> setParent(@PathVariable Long id, @RequestBody TaskParentRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(taskHierarchyService.setParent(userId, id, request.getParentId()));
+    }
+    
+    /**
+     * Get a task with all its subtasks, nested
+     */
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<TaskTreeNode> getTaskTree(@PathVariable Long id) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(taskHierarchyService.getTree(userId, id));
+    }
+    
+    /**
+     * Get every task blocking this one (directly or indirectly), the first one to do first
+     */
+    @GetMapping("/{id}/blockers")
+    public ResponseEntity<List<TaskResponse>> getBlockers(@PathVariable Long id) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(taskHierarchyService.getBlockerChain(userId, id));
+    }
+    
+    /**
+     * Mark a task as blocked by another task
+     * 409 if the other task already waits for this one (directly or indirectly)
+     */
+    @PostMapping("/{id}/blockers")
+    public ResponseEntity<Void> addBlocker(@PathVariable Long id, @Valid @RequestBody TaskDependencyRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        taskHierarchyService.addBlocker(userId, id, request.getBlockedById());
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Remove a blocker from a task
+     */
+    @DeleteMapping("/{id}/blockers/{blockerId}")
+    public ResponseEntity<Void> removeBlocker(@PathVariable Long id, @PathVariable Long blockerId) {
+        Long userId = securityUtil.getCurrentUserId();
+        taskHierarchyService.removeBlocker(userId, id, blockerId);
+        return ResponseEntity.noContent().build();
     }
     
     /**
@@ -60,13 +256,9 @@ public class TaskController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        try {
-            Long userId = securityUtil.getCurrentUserId();
-            TaskResponse task = taskService.getTaskById(id, userId);
-            return ResponseEntity.ok(task);
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        }
+        Long userId = securityUtil.getCurrentUserId();
+        TaskResponse task = taskService.getTaskById(id, userId);
+        return ResponseEntity.ok(task);
     }
     
     /**
@@ -74,13 +266,9 @@ public class TaskController {
      */
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request) {
-        try {
-            Long userId = securityUtil.getCurrentUserId();
-            TaskResponse task = taskService.createTask(request, userId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(task);
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-        }
+        Long userId = securityUtil.getCurrentUserId();
+        TaskResponse task = taskService.createTask(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
     
     /**
@@ -90,13 +278,9 @@ public class TaskController {
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
             @Valid @RequestBody TaskRequest request) {
-        try {
-            Long userId = securityUtil.getCurrentUserId();
-            TaskResponse task = taskService.updateTask(id, request, userId);
-            return ResponseEntity.ok(task);
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        }
+        Long userId = securityUtil.getCurrentUserId();
+        TaskResponse task = taskService.updateTask(id, request, userId);
+        return ResponseEntity.ok(task);
     }
     
     /**
@@ -104,13 +288,8 @@ public class TaskController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        try {
-            Long userId = securityUtil.getCurrentUserId();
-            taskService.deleteTask(id, userId);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        }
+        Long userId = securityUtil.getCurrentUserId();
+        taskService.deleteTask(id, userId);
+        return ResponseEntity.noContent().build();
     }
 }
-
@@ -0,0 +1,135 @@
+package com.ardentix.taskmanagement.controller;
+
+import com.ardentix.taskmanagement.dto.TaskPage;
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.dto.WorkspaceMemberRequest;
+import com.ardentix.taskmanagement.dto.WorkspaceMemberResponse;
+import com.ardentix.taskmanagement.dto.WorkspaceRequest;
+import com.ardentix.taskmanagement.dto.WorkspaceResponse;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.service.TaskService;
+import com.ardentix.taskmanagement.service.WorkspaceService;
+import com.ardentix.taskmanagement.util.SecurityUtil;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Workspace Controller
+ *
+ * Shared task lists. All endpoints require authentication; what a user may do
+ * depends on their role in the workspace (VIEWER, EDITOR, OWNER).
+ *
+ * REST API Endpoints:
+ * - GET    /api/workspaces - Workspaces of the current user
+ * - POST   /api/workspaces - Create workspace (current user becomes OWNER)
+ * - GET    /api/workspaces/{id}/members - List members
+ * - POST   /api/workspaces/{id}/members - Add member / change role (OWNER)
+ * - DELETE /api/workspaces/{id}/members/{userId} - Remove member (OWNER) or leave (self)
+ * - GET    /api/workspaces/{id}/tasks - Workspace tasks (same sort/limit/cursor as /api/tasks)
+ * - POST   /api/workspaces/{id}/tasks - Create task (EDITOR)
+ * - PUT    /api/workspaces/{id}/tasks/{taskId} - Update task (EDITOR)
+ * - DELETE /api/workspaces/{id}/tasks/{taskId} - Delete task (EDITOR)
+ *
+ * Non-members get 404 (existence is not revealed), members with too low a role get 403.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/workspaces")
+public class WorkspaceController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final WorkspaceService workspaceService;
+    private final TaskService taskService;
+    private final SecurityUtil securityUtil;
+
+    public WorkspaceController(WorkspaceService workspaceService, TaskService taskService, SecurityUtil securityUtil) {
+        this.workspaceService = workspaceService;
+        this.taskService = taskService;
+        this.securityUtil = securityUtil;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WorkspaceResponse>> getWorkspaces() {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(workspaceService.getWorkspaces(userId));
+    }
+
+    @PostMapping
+    public ResponseEntity<WorkspaceResponse> createWorkspace(@Valid @RequestBody WorkspaceRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        WorkspaceResponse workspace = workspaceService.createWorkspace(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(workspace);
+    }
+
+    @GetMapping("/{id}/members")
+    public ResponseEntity<List<WorkspaceMemberResponse>> getMembers(@PathVariable Long id) {
+        Long userId = securityUtil.getCurrentUserId();
+        List<WorkspaceMemberResponse> members = workspaceService.getMembers(id, userId);
+        return ResponseEntity.ok(members);
+    }
+
+    @PostMapping("/{id}/members")
+    public ResponseEntity<WorkspaceMemberResponse> addMember(@PathVariable Long id,
+                                                             @Valid @RequestBody WorkspaceMemberRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        WorkspaceMemberResponse member = workspaceService.addMember(id, request, userId);
+        return ResponseEntity.ok(member);
+    }
+
+    @DeleteMapping("/{id}/members/{memberUserId}")
+    public ResponseEntity<Void> removeMember(@PathVariable Long id, @PathVariable Long memberUserId) {
+        Long userId = securityUtil.getCurrentUserId();
+        workspaceService.removeMember(id, memberUserId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/tasks")
+    public ResponseEntity<List<TaskResponse>> getTasks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        Long userId = securityUtil.getCurrentUserId();
+        TaskSort taskSort = TaskSort.fromParam(sort);
+
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(taskService.getWorkspaceTasks(userId, id, taskSort));
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TaskPage page = taskService.getWorkspaceTaskPage(userId, id, taskSort, cursor, pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(TaskController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+
+    @PostMapping("/{id}/tasks")
+    public ResponseEntity<TaskResponse> createTask(@PathVariable Long id, @Valid @RequestBody TaskRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        TaskResponse task = taskService.createWorkspaceTask(userId, id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(task);
+    }
+
+    @PutMapping("/{id}/tasks/{taskId}")
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @PathVariable Long taskId,
+                                                   @Valid @RequestBody TaskRequest request) {
+        Long userId = securityUtil.getCurrentUserId();
+        TaskResponse task = taskService.updateWorkspaceTask(userId, id, taskId, request);
+        return ResponseEntity.ok(task);
+    }
+
+    @DeleteMapping("/{id}/tasks/{taskId}")
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @PathVariable Long taskId) {
+        Long userId = securityUtil.getCurrentUserId();
+        taskService.deleteWorkspaceTask(userId, id, taskId);
+        return ResponseEntity.noContent().build();
+    }
+}
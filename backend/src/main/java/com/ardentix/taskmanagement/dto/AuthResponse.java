@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 public class AuthResponse {
-    private String token; // JWT token for authentication
+    private String token; // JWT token for authentication (short-lived)
+    private String refreshToken; // Exchanged at /api/auth/refresh for a new token pair
     private String email;
     private String name;
     private Long userId;
@@ -23,6 +24,11 @@ public class AuthResponse {
         this.userId = userId;
     }
 
+    public AuthResponse(String token, String refreshToken, String email, String name, Long userId) {
+        this(token, email, name, userId);
+        this.refreshToken = refreshToken;
+    }
+
     // Getters and Setters
     public String getToken() {
         return token;
@@ -32,6 +38,14 @@ public class AuthResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -1,18 +0,0 @@
-package com.ardentix.taskmanagement.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-/**
- * Error Response DTO
- * Used to return error messages to the frontend
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class ErrorResponse {
-    private String message;
-    private String error;
-}
-
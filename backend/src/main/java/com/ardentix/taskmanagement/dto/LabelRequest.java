@@ -0,0 +1,37 @@
+package com.ardentix.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for Creating a Label
+ */
+@Data
+public class LabelRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 50, message = "Name must not exceed 50 characters")
+    private String name;
+
+    @Pattern(regexp = "#[0-9a-fA-F]{6}", message = "Color must look like #1a2b3c")
+    private String color;
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+}
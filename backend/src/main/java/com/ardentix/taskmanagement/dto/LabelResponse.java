@@ -0,0 +1,19 @@
+package com.ardentix.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for Label Response
+ * taskCount comes from the bitmap index (no COUNT query)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LabelResponse {
+    private Long id;
+    private String name;
+    private String color;
+    private long taskCount;
+}
@@ -0,0 +1,48 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.Task;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for Changing or Completing One Occurrence of a Recurring Task
+ * Null title/description keep the template's values
+ */
+@Data
+public class OccurrenceRequest {
+
+    @NotNull(message = "status is required")
+    private Task.TaskStatus status;
+
+    @Size(max = 200, message = "Title must not exceed 200 characters")
+    private String title;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    private String description;
+
+    // Getters and Setters
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
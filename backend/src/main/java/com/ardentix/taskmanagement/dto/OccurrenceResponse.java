@@ -0,0 +1,82 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for One Occurrence of a Recurring Task
+ * stored = false means the occurrence was computed from the rule and never changed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccurrenceResponse {
+    private Long taskId;
+    private LocalDateTime occursAt;
+    private String title;
+    private String description;
+    private Task.TaskStatus status;
+    private Task.TaskPriority priority;
+    private boolean stored;
+
+    // Getters and Setters
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDateTime getOccursAt() {
+        return occursAt;
+    }
+
+    public void setOccursAt(LocalDateTime occursAt) {
+        this.occursAt = occursAt;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public Task.TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Task.TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public boolean isStored() {
+        return stored;
+    }
+
+    public void setStored(boolean stored) {
+        this.stored = stored;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.TaskRecurrence;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for Making a Task Recurring
+ *
+ * Examples:
+ * - {"frequency": "DAILY", "interval": 2} - every other day
+ * - {"frequency": "WEEKLY", "daysOfWeek": ["MONDAY", "THURSDAY"]}
+ * - {"frequency": "CRON", "cronExpression": "0 0 9 1 * *"} - 9:00 on the 1st of every month
+ * startsAt defaults to the task's due date, or now
+ */
+@Data
+public class RecurrenceRequest {
+
+    @NotNull(message = "frequency is required")
+    private TaskRecurrence.Frequency frequency;
+
+    @Min(value = 1, message = "interval must be at least 1")
+    private int interval = 1;
+
+    private List<DayOfWeek> daysOfWeek = new ArrayList<>();
+
+    @Size(max = 120, message = "cronExpression must not exceed 120 characters")
+    private String cronExpression;
+
+    private LocalDateTime startsAt;
+
+    private LocalDateTime endsAt; // optional
+
+    // Getters and Setters
+    public TaskRecurrence.Frequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(TaskRecurrence.Frequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        this.interval = interval;
+    }
+
+    public List<DayOfWeek> getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(List<DayOfWeek> daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.TaskRecurrence;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a Recurrence Rule
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurrenceResponse {
+    private Long taskId;
+    private String title;
+    private TaskRecurrence.Frequency frequency;
+    private int interval;
+    private List<DayOfWeek> daysOfWeek;
+    private String cronExpression;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+
+    // Getters and Setters
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskRecurrence.Frequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(TaskRecurrence.Frequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        this.interval = interval;
+    }
+
+    public List<DayOfWeek> getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(List<DayOfWeek> daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+}
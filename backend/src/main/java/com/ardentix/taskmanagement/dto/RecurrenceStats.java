@@ -0,0 +1,90 @@
+package com.ardentix.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for Recurring Task Statistics over a Window
+ * total counts every occurrence in the window; stored only those kept in the database
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurrenceStats {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long total;
+    private long pending;
+    private long inProgress;
+    private long completed;
+    private long stored;
+    private double completionRate; // completed / total, 0 when there are no occurrences
+
+    // Getters and Setters
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public long getInProgress() {
+        return inProgress;
+    }
+
+    public void setInProgress(long inProgress) {
+        this.inProgress = inProgress;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getStored() {
+        return stored;
+    }
+
+    public void setStored(long stored) {
+        this.stored = stored;
+    }
+
+    public double getCompletionRate() {
+        return completionRate;
+    }
+
+    public void setCompletionRate(double completionRate) {
+        this.completionRate = completionRate;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ardentix.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * DTO for Adding a Blocker to a Task
+ */
+@Data
+public class TaskDependencyRequest {
+
+    @NotNull(message = "blockedById is required")
+    private Long blockedById;
+
+    // Getters and Setters
+    public Long getBlockedById() {
+        return blockedById;
+    }
+
+    public void setBlockedById(Long blockedById) {
+        this.blockedById = blockedById;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ardentix.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for Replacing the Labels of a Task
+ */
+@Data
+public class TaskLabelsRequest {
+
+    @NotNull(message = "labelIds is required")
+    private List<Long> labelIds = new ArrayList<>();
+
+    // Getters and Setters
+    public List<Long> getLabelIds() {
+        return labelIds;
+    }
+
+    public void setLabelIds(List<Long> labelIds) {
+        this.labelIds = labelIds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ardentix.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the task list
+ * nextCursor is null when there are no more tasks
+ * total is the number of matching tasks when it is known cheaply (filter results), otherwise null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+    private List<TaskResponse> tasks;
+    private String nextCursor;
+    private Long total;
+}
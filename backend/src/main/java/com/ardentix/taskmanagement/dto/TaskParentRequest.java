@@ -0,0 +1,22 @@
+package com.ardentix.taskmanagement.dto;
+
+import lombok.Data;
+
+/**
+ * DTO for Moving a Task under Another Task
+ * parentId = null makes the task a top-level task again
+ */
+@Data
+public class TaskParentRequest {
+
+    private Long parentId;
+
+    // Getters and Setters
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+}
@@ -1,13 +1,18 @@
 package com.ardentix.taskmanagement.dto;
 
 import com.ardentix.taskmanagement.entity.Task;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 /**
  * DTO for Creating/Updating Tasks
+ * Accepted as JSON or CBOR; field order is fixed like TaskResponse
  */
+@JsonPropertyOrder({"title", "description", "status", "dueAt", "priority"})
 @Data
 public class TaskRequest {
     
@@ -19,6 +24,10 @@ public class TaskRequest {
     private String description;
     
     private Task.TaskStatus status = Task.TaskStatus.PENDING;
+    
+    private LocalDateTime dueAt; // optional
+    
+    private Task.TaskPriority priority = Task.TaskPriority.MEDIUM;
 
     // Getters and Setters
     public String getTitle() {
@@ -44,5 +53,20 @@ public class TaskRequest {
     public void setStatus(Task.TaskStatus status) {
         this.status = status;
     }
-}
 
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Task.TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Task.TaskPriority priority) {
+        this.priority = priority;
+    }
+}
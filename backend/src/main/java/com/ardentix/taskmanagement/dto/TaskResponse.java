@@ -1,6 +1,8 @@
 package com.ardentix.taskmanagement.dto;
 
 import com.ardentix.taskmanagement.entity.Task;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,7 +12,11 @@ import java.time.LocalDateTime;
 /**
  * DTO for Task Response
  * Used to send task data to frontend
+ *
+ * @JsonPropertyOrder: fixed field order, so JSON and CBOR payloads have a stable schema
+ * (new fields are only ever appended)
  */
+@JsonPropertyOrder({"id", "title", "description", "status", "createdAt", "updatedAt", "archived", "dueAt", "priority", "workspaceId", "parentId", "occursAt"})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,6 +27,13 @@ public class TaskResponse {
     private Task.TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean archived; // true for tasks read from tasks_archive
+    private LocalDateTime dueAt;
+    private Task.TaskPriority priority;
+    private Long workspaceId; // null for personal tasks
+    private Long parentId; // null for top-level tasks
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime occursAt; // set only on occurrences of a recurring task (GET /api/tasks?from=&to=)
 
     // Getters and Setters
     public Long getId() {
@@ -70,5 +83,52 @@ public class TaskResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
 
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Task.TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Task.TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public void setWorkspaceId(Long workspaceId) {
+        this.workspaceId = workspaceId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public LocalDateTime getOccursAt() {
+        return occursAt;
+    }
+
+    public void setOccursAt(LocalDateTime occursAt) {
+        this.occursAt = occursAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ardentix.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a Task with its Subtasks (nested to any depth)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTreeNode {
+    private TaskResponse task;
+    private List<TaskTreeNode> children = new ArrayList<>();
+
+    // Getters and Setters
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+
+    public List<TaskTreeNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<TaskTreeNode> children) {
+        this.children = children;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * DTO for Adding a Member to a Workspace (or changing their role)
+ */
+@Data
+public class WorkspaceMemberRequest {
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email must be valid")
+    private String email;
+
+    @NotNull(message = "Role is required")
+    private WorkspaceMember.Role role = WorkspaceMember.Role.EDITOR;
+
+    // Getters and Setters
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public WorkspaceMember.Role getRole() {
+        return role;
+    }
+
+    public void setRole(WorkspaceMember.Role role) {
+        this.role = role;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one Workspace Member
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspaceMemberResponse {
+    private Long userId;
+    private String name;
+    private String email;
+    private WorkspaceMember.Role role;
+}
@@ -0,0 +1,20 @@
+package com.ardentix.taskmanagement.dto;
+
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for Workspace Response
+ * role is the current user's role in the workspace
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspaceResponse {
+    private Long id;
+    private String name;
+    private Long ownerId;
+    private WorkspaceMember.Role role;
+}
@@ -0,0 +1,77 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Label Entity
+ *
+ * A user's own tag for personal tasks (Task.labels, stored in task_labels).
+ * Names are unique per user.
+ *
+ * Equality is by ID only: labels sit in Task.labels (a HashSet), and hashing the
+ * lazy user relation would load the user and all of their tasks.
+ */
+@Entity
+@Table(name = "labels", uniqueConstraints = @UniqueConstraint(name = "uk_labels_user_name",
+        columnNames = {"user_id", "name"}))
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(exclude = "user")
+public class Label {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    /**
+     * Display color as #rrggbb (optional)
+     */
+    @Column(length = 7)
+    private String color;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Signing Key Entity
+ *
+ * One asymmetric JWT signing key pair, identified by its kid (key ID).
+ * Lifecycle (see JwtKeyManager):
+ * - published: in the JWKS from creation, so verifiers learn it before it is used
+ * - signing: between activatesAt and retiresAt
+ * - verify-only: after retiresAt until expiresAt (tokens it signed may still be valid)
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+@Data
+@NoArgsConstructor
+public class SigningKey {
+
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Column(nullable = false, length = 16)
+    private String algorithm;
+
+    /**
+     * X.509 (SubjectPublicKeyInfo) encoding, Base64
+     */
+    @Column(nullable = false, length = 1024)
+    private String publicKey;
+
+    /**
+     * PKCS#8 encoding encrypted with AES-GCM under a key derived from jwt.secret, Base64
+     */
+    @Column(nullable = false, length = 2048)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private LocalDateTime activatesAt;
+
+    @Column(nullable = false)
+    private LocalDateTime retiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Getters and Setters
+    public String getKid() {
+        return kid;
+    }
+
+    public void setKid(String kid) {
+        this.kid = kid;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public void setPublicKey(String publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public LocalDateTime getActivatesAt() {
+        return activatesAt;
+    }
+
+    public void setActivatesAt(LocalDateTime activatesAt) {
+        this.activatesAt = activatesAt;
+    }
+
+    public LocalDateTime getRetiresAt() {
+        return retiresAt;
+    }
+
+    public void setRetiresAt(LocalDateTime retiresAt) {
+        this.retiresAt = retiresAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Task Entity Class
@@ -14,7 +16,22 @@ import java.time.LocalDateTime;
  * Each task belongs to one user (Many-to-One relationship)
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_status_updated", columnList = "status, updated_at"),
+        // One index per TaskSort order, so listing a user's (personal, workspace_id IS NULL)
+        // or a workspace's tasks never needs a filesort
+        @Index(name = "idx_tasks_user_created", columnList = "user_id, workspace_id, created_at, id"),
+        @Index(name = "idx_tasks_user_updated", columnList = "user_id, workspace_id, updated_at, id"),
+        @Index(name = "idx_tasks_user_status_title", columnList = "user_id, workspace_id, status, title, id"),
+        @Index(name = "idx_tasks_user_title", columnList = "user_id, workspace_id, title, id"),
+        @Index(name = "idx_tasks_workspace_created", columnList = "workspace_id, created_at, id"),
+        @Index(name = "idx_tasks_workspace_updated", columnList = "workspace_id, updated_at, id"),
+        @Index(name = "idx_tasks_workspace_status_title", columnList = "workspace_id, status, title, id"),
+        @Index(name = "idx_tasks_workspace_title", columnList = "workspace_id, title, id"),
+        // ReminderEngine loads upcoming reminders in due_at order, one horizon at a time
+        @Index(name = "idx_tasks_due", columnList = "due_at"),
+        @Index(name = "idx_tasks_parent", columnList = "parent_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,13 +64,57 @@ public class Task {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    /**
+     * Workspace the task is shared in (null = personal task)
+     * A plain ID rather than a relation: workspaces live in the directory database,
+     * while tasks may live on another shard
+     */
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+    
+    /**
+     * Parent task (null = top-level task)
+     * The full hierarchy is kept in the task_closure table by TaskHierarchyService
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+    
+    /**
+     * @ManyToMany: A task can have many labels, a label can be on many tasks
+     * @JoinTable: Link table task_labels (task_id, label_id); label_id is indexed for label deletes
+     * Filtering by labels goes through TaskBitmapIndex, not joins on this table
+     */
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "task_labels",
+            joinColumns = @JoinColumn(name = "task_id"),
+            inverseJoinColumns = @JoinColumn(name = "label_id"),
+            indexes = @Index(name = "idx_task_labels_label", columnList = "label_id"))
+    private Set<Label> labels = new HashSet<>();
+    
+    /**
+     * Optional deadline; a reminder is sent when it is reached
+     */
+    private LocalDateTime dueAt;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private TaskPriority priority = TaskPriority.MEDIUM;
+    
+    /**
+     * When the due reminder was sent (null = not sent yet)
+     * Reset when dueAt changes, so a rescheduled task is reminded again
+     */
+    private LocalDateTime reminderSentAt;
+    
     /**
      * @Column(updatable = false): Once set, cannot be updated
      * This ensures creation time is never changed
+     * Never null (a TaskSort key): rows from older schemas are filled in by TaskTimestampBackfill
      */
-    @Column(updatable = false)
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    @Column(nullable = false)
     private LocalDateTime updatedAt;
     
     /**
@@ -84,6 +145,16 @@ public class Task {
         IN_PROGRESS,
         COMPLETED
     }
+    
+    /**
+     * Task Priority Enumeration
+     */
+    public enum TaskPriority {
+        LOW,
+        MEDIUM,
+        HIGH,
+        URGENT
+    }
 
     // Getters and Setters
     public Long getId() {
@@ -126,6 +197,54 @@ public class Task {
         this.user = user;
     }
 
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public void setWorkspaceId(Long workspaceId) {
+        this.workspaceId = workspaceId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Set<Label> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<Label> labels) {
+        this.labels = labels;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
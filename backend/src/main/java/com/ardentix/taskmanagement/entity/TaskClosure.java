@@ -0,0 +1,109 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * Task Closure Entity
+ *
+ * Closure table for the subtask hierarchy: one row per (ancestor, descendant) pair,
+ * with depth = number of parent links between them (a task's own row is implied, not stored).
+ * A whole subtree is one indexed query (WHERE ancestor_id = ?) no matter how deep it is.
+ *
+ * Rows are maintained by TaskHierarchyService; user_id is the tasks' owner so the rows
+ * move with them between shards.
+ *
+ * Rows are only ever inserted and bulk-deleted, never updated. Persistable tells Spring Data
+ * that a row built in code is new, so saveAll() inserts instead of selecting each key first.
+ */
+@Entity
+@Table(name = "task_closure", indexes = {
+        @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth")
+})
+@IdClass(TaskClosure.Key.class)
+@Data
+@NoArgsConstructor
+public class TaskClosure implements Persistable<TaskClosure.Key> {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(ancestorId, descendantId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Composite primary key (ancestor_id, descendant_id)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+
+    // Getters and Setters
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+
+    public void setAncestorId(Long ancestorId) {
+        this.ancestorId = ancestorId;
+    }
+
+    public Long getDescendantId() {
+        return descendantId;
+    }
+
+    public void setDescendantId(Long descendantId) {
+        this.descendantId = descendantId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task Dependency Entity
+ *
+ * "taskId is blocked by blockedById": the blocker has to be done first.
+ * The dependencies form a directed acyclic graph; TaskHierarchyService rejects edges
+ * that would close a cycle.
+ */
+@Entity
+@Table(name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_edge",
+                columnNames = {"task_id", "blocked_by_id"}),
+        indexes = @Index(name = "idx_task_dependencies_blocker", columnList = "blocked_by_id"))
+@Data
+@NoArgsConstructor
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "blocked_by_id", nullable = false)
+    private Long blockedById;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getBlockedById() {
+        return blockedById;
+    }
+
+    public void setBlockedById(Long blockedById) {
+        this.blockedById = blockedById;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task Occurrence Entity
+ *
+ * A stored occurrence of a recurring task: only written when a user changes or completes
+ * that occurrence. Every other occurrence is computed from the TaskRecurrence rule and
+ * looks exactly like the template task.
+ * Null title/description mean "same as the template".
+ */
+@Entity
+@Table(name = "task_occurrences",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_occurrences_task_time",
+                columnNames = {"task_id", "occurs_at"}),
+        indexes = @Index(name = "idx_task_occurrences_user_time", columnList = "user_id, occurs_at"))
+@Data
+@NoArgsConstructor
+public class TaskOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The template task
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "occurs_at", nullable = false)
+    private LocalDateTime occursAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.TaskStatus status;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getOccursAt() {
+        return occursAt;
+    }
+
+    public void setOccursAt(LocalDateTime occursAt) {
+        this.occursAt = occursAt;
+    }
+
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
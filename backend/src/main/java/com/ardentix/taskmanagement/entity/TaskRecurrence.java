@@ -0,0 +1,164 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task Recurrence Entity
+ *
+ * Makes a personal task a template that repeats (daily, weekly or on a cron schedule).
+ * Occurrences are not stored as tasks: they are computed from the rule when a window is read,
+ * and only occurrences a user changes or completes get a TaskOccurrence row.
+ */
+@Entity
+@Table(name = "task_recurrences", indexes = {
+        @Index(name = "idx_task_recurrences_user", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+public class TaskRecurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The template task; one rule per task
+     */
+    @Column(name = "task_id", nullable = false, unique = true)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Frequency frequency;
+
+    /**
+     * Every n days (DAILY) or every n weeks (WEEKLY)
+     */
+    @Column(name = "repeat_interval", nullable = false)
+    private int interval = 1;
+
+    /**
+     * WEEKLY only: comma separated days, e.g. "MONDAY,THURSDAY" (empty = the start day)
+     */
+    @Column(length = 80)
+    private String daysOfWeek;
+
+    /**
+     * CRON only: Spring cron expression (second minute hour day month weekday)
+     */
+    @Column(length = 120)
+    private String cronExpression;
+
+    /**
+     * First occurrence (DAILY/WEEKLY) or the point from which the cron schedule starts
+     */
+    @Column(nullable = false)
+    private LocalDateTime startsAt;
+
+    /**
+     * No occurrences after this point (null = forever)
+     */
+    private LocalDateTime endsAt;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        CRON
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(Frequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        this.interval = interval;
+    }
+
+    public String getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(String daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ardentix.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Workspace Member Entity
+ *
+ * Gives a user a role in a workspace (the owner has an OWNER row too).
+ * The unique (workspace_id, user_id) constraint doubles as the index for member lists,
+ * and (user_id) serves "which workspaces can this user see" (the permission cache load).
+ */
+@Entity
+@Table(name = "workspace_members",
+        uniqueConstraints = @UniqueConstraint(name = "uk_workspace_members_workspace_user",
+                columnNames = {"workspace_id", "user_id"}),
+        indexes = @Index(name = "idx_workspace_members_user", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+public class WorkspaceMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workspace_id", nullable = false)
+    private Workspace workspace;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Role role = Role.VIEWER;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Workspace roles, from least to most privileged
+     * VIEWER: read tasks, EDITOR: also create/update/delete tasks, OWNER: also manage members
+     */
+    public enum Role {
+        VIEWER,
+        EDITOR,
+        OWNER;
+
+        public boolean allows(Role required) {
+            return ordinal() >= required.ordinal();
+        }
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Workspace getWorkspace() {
+        return workspace;
+    }
+
+    public void setWorkspace(Workspace workspace) {
+        this.workspace = workspace;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public void setRole(Role role) {
+        this.role = role;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Conflict Exception
+ *
+ * The change is valid on its own but conflicts with existing data,
+ * e.g. a duplicate or a dependency cycle (409).
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message, "CONFLICT");
+    }
+
+    public ConflictException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public ConflictException(String message, String errorCode, Throwable cause) {
+        super(message, errorCode, cause);
+    }
+}
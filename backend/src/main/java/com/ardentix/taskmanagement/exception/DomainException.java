@@ -0,0 +1,34 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Domain Exception
+ *
+ * Base class for the expected failures of a request: something is not found, the caller is not
+ * allowed, the change conflicts with existing data, or the input is invalid.
+ * GlobalExceptionHandler turns each subclass into an RFC 7807 problem response, so controllers
+ * do not catch them.
+ *
+ * These exceptions do not capture a stack trace. They are thrown on routine paths
+ * (a scanner probing task IDs, an expired token) where the trace would never be read,
+ * and filling it in is the expensive part of creating an exception.
+ *
+ * errorCode is the machine-readable "error" field of the response (e.g. "INVALID_QUERY").
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final String errorCode;
+
+    protected DomainException(String message, String errorCode) {
+        this(message, errorCode, null);
+    }
+
+    protected DomainException(String message, String errorCode, Throwable cause) {
+        // No suppressed exceptions, no stack trace
+        super(message, cause, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
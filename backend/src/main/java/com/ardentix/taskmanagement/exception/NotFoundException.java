@@ -0,0 +1,17 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Not Found Exception
+ *
+ * The requested resource does not exist, or belongs to someone else (404).
+ */
+public class NotFoundException extends DomainException {
+
+    public NotFoundException(String message) {
+        super(message, "NOT_FOUND");
+    }
+
+    public NotFoundException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Too Many Requests Exception
+ *
+ * The caller is throttled, e.g. locked out after repeated failed logins (429).
+ * The response carries a Retry-After header with retryAfterSeconds.
+ */
+public class TooManyRequestsException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, String errorCode, long retryAfterSeconds) {
+        super(message, errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Unauthorized Exception
+ *
+ * The caller could not be authenticated: bad credentials, an expired or revoked token,
+ * or an account that no longer exists (401).
+ */
+public class UnauthorizedException extends DomainException {
+
+    public UnauthorizedException(String message) {
+        super(message, "UNAUTHORIZED");
+    }
+
+    public UnauthorizedException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
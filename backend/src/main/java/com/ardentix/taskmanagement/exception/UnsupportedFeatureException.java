@@ -0,0 +1,18 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Unsupported Feature Exception
+ *
+ * The request is valid, but this deployment cannot serve it, e.g. labels or subtasks
+ * with the embedded task store (501).
+ */
+public class UnsupportedFeatureException extends DomainException {
+
+    public UnsupportedFeatureException(String message) {
+        super(message, "NOT_IMPLEMENTED");
+    }
+
+    public UnsupportedFeatureException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ardentix.taskmanagement.exception;
+
+/**
+ * Validation Exception
+ *
+ * The request itself is invalid: an unknown sort, a malformed cursor, a bad recurrence rule (400).
+ */
+public class ValidationException extends DomainException {
+
+    public ValidationException(String message) {
+        super(message, "VALIDATION_ERROR");
+    }
+
+    public ValidationException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ardentix.taskmanagement.graphql;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLTypeUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL Configuration
+ *
+ * Limits checked before a query runs (it is rejected with an error instead):
+ * - graphql.max-depth: nesting depth, e.g. tasks { subtasks { subtasks { ... } } }
+ * - graphql.max-complexity: every field costs 1; a list field multiplies the cost of its
+ *   sub-selection by its limit argument, or by graphql.list-weight when it has none
+ *   (tasks(limit: 100) { labels { name } } costs about 100 * 10 * 2)
+ *
+ * Persisted queries: see PersistedQueryDocumentProvider.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${graphql.max-complexity:5000}") int maxComplexity,
+            @Value("${graphql.list-weight:10}") int listWeight) {
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            if (!GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))) {
+                return 1 + childComplexity;
+            }
+            Object limit = environment.getArguments().get("limit");
+            int size = limit instanceof Integer requested ? Math.max(1, requested) : listWeight;
+            return 1 + size * Math.max(1, childComplexity);
+        };
+        return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(
+            @Value("${graphql.persisted-queries.required:false}") boolean required,
+            @Value("${graphql.persisted-queries.max-registered:1000}") int maxRegistered) {
+        PersistedQueryDocumentProvider documentProvider = new PersistedQueryDocumentProvider(required, maxRegistered);
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+}
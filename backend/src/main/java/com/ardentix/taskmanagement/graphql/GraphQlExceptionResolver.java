@@ -0,0 +1,46 @@
+package com.ardentix.taskmanagement.graphql;
+
+import com.ardentix.taskmanagement.exception.DomainException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GraphQL Exception Resolver
+ *
+ * Reports DomainExceptions in the "errors" list of a GraphQL response with their message and
+ * "error" code, like GlobalExceptionHandler does for REST:
+ *   {"message": "Unsupported sort 'x', ...", "extensions": {"classification": "BAD_REQUEST", "error": "INVALID_QUERY"}}
+ *
+ * Anything else is left to Spring GraphQL (INTERNAL_ERROR with a generic message).
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment environment) {
+        if (!(ex instanceof DomainException domainException)) {
+            return null;
+        }
+        ErrorType errorType = ErrorType.BAD_REQUEST;
+        if (ex instanceof NotFoundException) {
+            errorType = ErrorType.NOT_FOUND;
+        } else if (ex instanceof UnauthorizedException) {
+            errorType = ErrorType.UNAUTHORIZED;
+        }
+        return GraphqlErrorBuilder.newError(environment)
+                .errorType(errorType)
+                .message(ex.getMessage())
+                .extensions(Map.of("error", domainException.getErrorCode()))
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ardentix.taskmanagement.graphql;
+
+/**
+ * Label Node
+ *
+ * A label of a task as returned by GraphQL.
+ */
+public record LabelNode(Long id, String name, String color) {
+}
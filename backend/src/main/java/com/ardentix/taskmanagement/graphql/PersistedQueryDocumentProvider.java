@@ -0,0 +1,161 @@
+package com.ardentix.taskmanagement.graphql;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.InMemoryPersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persisted Query Document Provider
+ *
+ * Persisted queries in the Apollo format: the client sends
+ *   {"extensions": {"persistedQuery": {"version": 1, "sha256Hash": "<sha256 of the query>"}}}
+ * instead of the query text, and the parsed and validated document is reused.
+ *
+ * - Known queries: every resources/graphql/persisted/*.graphql file (trimmed), keyed by its SHA-256
+ * - Unknown hash without text: PersistedQueryNotFound, the client resends it with the text and
+ *   it is registered (at most graphql.persisted-queries.max-registered; beyond that the query
+ *   still runs but is not kept)
+ * - A hash that does not match the query text is rejected
+ * - graphql.persisted-queries.required=true: only the known queries run (no ad-hoc queries,
+ *   no registration), for production clients built with the query files
+ */
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistedQueryDocumentProvider.class);
+
+    private static final String PERSISTED_QUERY_LOCATION = "classpath*:graphql/persisted/*.graphql";
+
+    private final Set<String> knownHashes;
+    private final Set<String> registeredHashes = ConcurrentHashMap.newKeySet();
+    private final ApolloPersistedQuerySupport persistedQuerySupport;
+    private final boolean required;
+    private final int maxRegistered;
+
+    public PersistedQueryDocumentProvider(boolean required, int maxRegistered) {
+        Map<Object, String> knownQueries = loadKnownQueries();
+        this.knownHashes = knownQueries.keySet().stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+        this.persistedQuerySupport = new ApolloPersistedQuerySupport(new InMemoryPersistedQueryCache(knownQueries));
+        this.required = required;
+        this.maxRegistered = maxRegistered;
+        logger.info("Loaded {} persisted GraphQL queries (required={})", knownHashes.size(), required);
+    }
+
+    /**
+     * Called by graphql-java for every request; the lookup itself never blocks,
+     * so the result is always an already completed future
+     */
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        return CompletableFuture.completedFuture(lookUp(executionInput, parseAndValidate));
+    }
+
+    /**
+     * Still abstract in graphql-java 21 but no longer called (getDocumentAsync is)
+     */
+    @Deprecated
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        return lookUp(executionInput, parseAndValidate);
+    }
+
+    private PreparsedDocumentEntry lookUp(ExecutionInput executionInput,
+                                          Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        String hash = persistedQueryHash(executionInput);
+        String query = executionInput.getQuery();
+        boolean hasText = query != null && !query.isBlank()
+                && !ApolloPersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+
+        if (hash == null) {
+            if (required) {
+                return error("Only persisted queries are accepted", "PERSISTED_QUERY_REQUIRED");
+            }
+            return parseAndValidate.apply(executionInput);
+        }
+        if (hasText && !hash.equalsIgnoreCase(sha256(query))) {
+            return error("sha256Hash does not match the query", "PERSISTED_QUERY_HASH_MISMATCH");
+        }
+        if (!knownHashes.contains(hash) && !registeredHashes.contains(hash)) {
+            if (required || !hasText) {
+                return notFound(hash);
+            }
+            if (registeredHashes.size() >= maxRegistered || !registeredHashes.add(hash)) {
+                // Registry full: run the query without keeping it
+                return parseAndValidate.apply(executionInput);
+            }
+        }
+        return persistedQuerySupport.getDocument(executionInput, parseAndValidate);
+    }
+
+    private static String persistedQueryHash(ExecutionInput executionInput) {
+        Object persistedQuery = executionInput.getExtensions().get("persistedQuery");
+        if (persistedQuery instanceof Map<?, ?> map && map.get("sha256Hash") instanceof String hash) {
+            return hash.toLowerCase();
+        }
+        return null;
+    }
+
+    private static PreparsedDocumentEntry error(String message, String errorCode) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Map.of("error", errorCode))
+                .build());
+    }
+
+    /**
+     * Same error as ApolloPersistedQuerySupport: message "PersistedQueryNotFound", which tells
+     * Apollo clients to resend the query with its text
+     */
+    private static PreparsedDocumentEntry notFound(String hash) {
+        PersistedQueryNotFound notFound = new PersistedQueryNotFound(hash);
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .errorType(notFound)
+                .message(notFound.getMessage())
+                .extensions(Map.of("persistedQueryId", hash))
+                .build());
+    }
+
+    private static Map<Object, String> loadKnownQueries() {
+        Map<Object, String> queries = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(PERSISTED_QUERY_LOCATION)) {
+                String query = resource.getContentAsString(StandardCharsets.UTF_8).strip();
+                queries.put(sha256(query), query);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read persisted GraphQL queries", e);
+        }
+        return queries;
+    }
+
+    static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ardentix.taskmanagement.graphql;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Persisted Query Request Filter
+ *
+ * Apollo clients send a persisted query as its hash only, without a "query" field.
+ * Spring GraphQL rejects such a request (400) before PersistedQueryDocumentProvider sees it,
+ * so this filter fills in graphql-java's placeholder text ("PersistedQuery"), which the
+ * provider treats as "no query text".
+ *
+ * Only POST requests to spring.graphql.path that have a persistedQuery extension and
+ * no query text are changed; everything else passes through untouched.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PersistedQueryRequestFilter extends OncePerRequestFilter {
+
+    /**
+     * Larger bodies are never hash-only requests: they are passed on unchanged, and at most
+     * this many bytes (+1) are read to find out (chunked bodies have no Content-Length)
+     */
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final String graphQlPath;
+
+    public PersistedQueryRequestFilter(ObjectMapper objectMapper,
+                                       @Value("${spring.graphql.path:/graphql}") String graphQlPath) {
+        this.objectMapper = objectMapper;
+        this.graphQlPath = graphQlPath;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !graphQlPath.equals(request.getRequestURI())
+                || request.getContentLengthLong() > MAX_BODY_BYTES;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        // At most one byte past the limit, so a chunked body (no Content-Length) is never buffered whole
+        ServletInputStream in = request.getInputStream();
+        byte[] head = in.readNBytes(MAX_BODY_BYTES + 1);
+        if (head.length > MAX_BODY_BYTES) {
+            filterChain.doFilter(new BodyRequest(request, head, in), response);
+            return;
+        }
+        filterChain.doFilter(new BodyRequest(request, withPlaceholderQuery(head), null), response);
+    }
+
+    /**
+     * The body with "query": "PersistedQuery" added, or unchanged if it is not a hash-only request
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] withPlaceholderQuery(byte[] body) {
+        Map<String, Object> request;
+        try {
+            request = objectMapper.readValue(body, Map.class);
+        } catch (IOException e) {
+            // Not JSON: Spring GraphQL reports it
+            return body;
+        }
+        boolean hasQuery = request.get("query") instanceof String query && !query.isBlank();
+        if (hasQuery || !(request.get("extensions") instanceof Map<?, ?> extensions)
+                || !(extensions.get("persistedQuery") instanceof Map<?, ?>)) {
+            return body;
+        }
+        request.put("query", ApolloPersistedQuerySupport.PERSISTED_QUERY_MARKER);
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            return body;
+        }
+    }
+
+    /**
+     * The request with its body replaced by bytes already read,
+     * followed by the rest of the original body (rest != null, length unchanged)
+     */
+    private static final class BodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final ServletInputStream rest;
+
+        BodyRequest(HttpServletRequest request, byte[] head, ServletInputStream rest) {
+            super(request);
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public int getContentLength() {
+            return rest == null ? head.length : super.getContentLength();
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return rest == null ? head.length : super.getContentLengthLong();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(head);
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int next = in.read();
+                    return next >= 0 || rest == null ? next : rest.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (in.available() > 0 || rest == null) {
+                        return in.read(b, off, len);
+                    }
+                    return rest.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0 && (rest == null || rest.isFinished());
+                }
+
+                @Override
+                public boolean isReady() {
+                    return in.available() > 0 || rest == null || rest.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    if (rest != null) {
+                        // The container calls it as the rest arrives; reads drain the head first
+                        rest.setReadListener(readListener);
+                        return;
+                    }
+                    // Everything is in memory: available now, and nothing follows
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+    }
+}
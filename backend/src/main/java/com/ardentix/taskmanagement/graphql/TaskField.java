@@ -0,0 +1,58 @@
+package com.ardentix.taskmanagement.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Task Field
+ *
+ * The scalar fields of the GraphQL Task type and the Task entity attribute each one is read from.
+ * Only the fields a query asks for are put in the SELECT list (see TaskGraphRepository),
+ * so a list view asking for title and status never reads the descriptions.
+ */
+public enum TaskField {
+
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    DUE_AT("dueAt"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    WORKSPACE_ID("workspaceId"),
+    PARENT_ID("parentId");
+
+    private final String attribute;
+
+    TaskField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Entity attribute, also the GraphQL field name
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * The columns needed to answer a selection
+     * - id is always read: the associations (labels, subtasks) are loaded by task ID
+     * - parentId is read when the parent is asked for
+     */
+    public static Set<TaskField> selectedIn(DataFetchingFieldSelectionSet selectionSet) {
+        Set<TaskField> fields = EnumSet.of(ID);
+        for (TaskField field : values()) {
+            if (selectionSet.contains(field.attribute)) {
+                fields.add(field);
+            }
+        }
+        if (selectionSet.contains("parent")) {
+            fields.add(PARENT_ID);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ardentix.taskmanagement.graphql;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.security.JwtPrincipal;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Task GraphQL Controller
+ *
+ * POST /graphql (schema in resources/graphql/schema.graphqls), for example
+ *   { tasks(sort: "updatedAt", limit: 20) { id title status labels { name } } }
+ *
+ * - Only the selected task fields are read from the database (TaskSelection / TaskGraphRepository)
+ * - Associations are loaded in batches: all labels, subtasks or parents needed at one level of
+ *   the query are read with one query (@BatchMapping and the DataLoaders registered below)
+ * - Depth, complexity and persisted queries are configured in GraphQlConfig
+ * - Errors (unknown sort, ...) are reported in the "errors" list of the response
+ */
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TaskGraphController {
+
+    /**
+     * Max tasks per list field, same as the REST page size
+     */
+    private static final int MAX_LIMIT = 100;
+
+    /**
+     * Max keys per DataLoader batch (one IN query each)
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final TaskGraphRepository repository;
+
+    public TaskGraphController(TaskGraphRepository repository, BatchLoaderRegistry registry) {
+        this.repository = repository;
+
+        // Subtasks of all tasks at one level: one query, with the columns all of them asked for
+        registry.<Long, List<TaskNode>>forName("taskSubtasks")
+                .withOptions(options -> options.setMaxBatchSize(MAX_BATCH_SIZE))
+                .registerMappedBatchLoader((parentIds, environment) -> Mono.fromCallable(
+                        () -> repository.findSubtasks(selection(environment), parentIds)));
+
+        // Parents of all tasks at one level: one query
+        registry.<Long, TaskNode>forName("taskById")
+                .withOptions(options -> options.setMaxBatchSize(MAX_BATCH_SIZE))
+                .registerMappedBatchLoader((taskIds, environment) -> Mono.fromCallable(
+                        () -> repository.findTasksById(selection(environment), taskIds)));
+    }
+
+    @QueryMapping
+    public UserNode me(Principal principal) {
+        return repository.findUser(userId(principal))
+                .orElseThrow(() -> new UnauthorizedException("User not found"));
+    }
+
+    @QueryMapping
+    public List<TaskNode> tasks(Principal principal,
+                                @Argument String sort, @Argument Integer limit, @Argument List<Task.TaskStatus> status,
+                                DataFetchingFieldSelectionSet selectionSet) {
+        return findTasks(userId(principal), sort, limit, status, selectionSet);
+    }
+
+    @SchemaMapping(typeName = "User", field = "tasks")
+    public List<TaskNode> userTasks(UserNode user,
+                                    @Argument String sort, @Argument Integer limit, @Argument List<Task.TaskStatus> status,
+                                    DataFetchingFieldSelectionSet selectionSet) {
+        return findTasks(user.id(), sort, limit, status, selectionSet);
+    }
+
+    @QueryMapping
+    public TaskNode task(Principal principal, @Argument Long id,
+                         DataFetchingFieldSelectionSet selectionSet) {
+        TaskSelection selection = TaskSelection.of(userId(principal), selectionSet);
+        return repository.findTasksById(selection, List.of(id)).get(id);
+    }
+
+    @SchemaMapping(typeName = "Task")
+    public CompletableFuture<List<TaskNode>> subtasks(TaskNode task, Principal principal,
+                                                      DataFetchingFieldSelectionSet selectionSet,
+                                                      DataLoader<Long, List<TaskNode>> taskSubtasks) {
+        return taskSubtasks.load(task.id(), TaskSelection.of(userId(principal), selectionSet))
+                .thenApply(subtasks -> subtasks != null ? subtasks : List.of());
+    }
+
+    @SchemaMapping(typeName = "Task")
+    public CompletableFuture<TaskNode> parent(TaskNode task, Principal principal,
+                                              DataFetchingFieldSelectionSet selectionSet,
+                                              DataLoader<Long, TaskNode> taskById) {
+        if (task.parentId() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return taskById.load(task.parentId(), TaskSelection.of(userId(principal), selectionSet));
+    }
+
+    /**
+     * Labels of all tasks at one level, in one query
+     */
+    @BatchMapping(typeName = "Task")
+    public Map<TaskNode, List<LabelNode>> labels(List<TaskNode> tasks, Principal principal) {
+        Map<Long, List<LabelNode>> byTaskId = repository.findLabels(userId(principal),
+                tasks.stream().map(TaskNode::id).toList());
+        Map<TaskNode, List<LabelNode>> labels = new LinkedHashMap<>();
+        for (TaskNode task : tasks) {
+            labels.put(task, byTaskId.getOrDefault(task.id(), List.of()));
+        }
+        return labels;
+    }
+
+    private List<TaskNode> findTasks(Long userId, String sort, Integer limit, List<Task.TaskStatus> statuses,
+                                     DataFetchingFieldSelectionSet selectionSet) {
+        TaskSort taskSort = TaskSort.fromParam(sort != null ? sort : TaskSort.CREATED_AT.getParam());
+        int pageSize = limit == null ? 50 : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return repository.findTasks(TaskSelection.of(userId, selectionSet), taskSort,
+                statuses != null ? statuses : List.of(), pageSize);
+    }
+
+    /**
+     * One batch serves fields that may have selected different columns: read all of them
+     */
+    private static TaskSelection selection(BatchLoaderEnvironment environment) {
+        TaskSelection selection = null;
+        for (Object keyContext : environment.getKeyContextsList()) {
+            TaskSelection next = (TaskSelection) keyContext;
+            selection = selection == null ? next : selection.merge(next);
+        }
+        return selection;
+    }
+
+    private static Long userId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.getUserId();
+        }
+        throw new UnauthorizedException("User not authenticated");
+    }
+}
@@ -0,0 +1,187 @@
+package com.ardentix.taskmanagement.graphql;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Task Graph Repository
+ *
+ * The queries behind the GraphQL endpoint. Each one selects only the columns of its
+ * TaskSelection (a JPQL select list instead of whole entities), and association queries take
+ * a whole batch of task IDs at once (one IN query per DataLoader batch, no N+1).
+ *
+ * Personal tasks only (no workspace), like the REST task list. Every query binds the user's
+ * shard first.
+ */
+@Repository
+public class TaskGraphRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+
+    public TaskGraphRepository(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * The user's id, name and email (the password hash is never selected)
+     */
+    public Optional<UserNode> findUser(Long userId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            return entityManager.createQuery(
+                            "SELECT new com.ardentix.taskmanagement.graphql.UserNode(u.id, u.name, u.email) "
+                                    + "FROM User u WHERE u.id = :userId", UserNode.class)
+                    .setParameter("userId", userId)
+                    .getResultStream()
+                    .findFirst();
+        }
+    }
+
+    /**
+     * A page of the user's tasks in one of the TaskSort orders, optionally only some statuses
+     */
+    public List<TaskNode> findTasks(TaskSelection selection, TaskSort sort, List<Task.TaskStatus> statuses, int limit) {
+        List<TaskField> columns = new ArrayList<>(selection.fields());
+        StringBuilder jpql = selectFrom(columns);
+        if (!statuses.isEmpty()) {
+            jpql.append(" AND t.status IN :statuses");
+        }
+        jpql.append(orderBy(sort.getSort()));
+        try (ShardScope shard = shardRouter.forUser(selection.userId())) {
+            TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                    .setParameter("userId", selection.userId())
+                    .setMaxResults(limit);
+            if (!statuses.isEmpty()) {
+                query.setParameter("statuses", statuses);
+            }
+            return query.getResultStream()
+                    .map(row -> toNode(row, columns))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Tasks by ID (only the user's), keyed by ID
+     */
+    public Map<Long, TaskNode> findTasksById(TaskSelection selection, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        List<TaskField> columns = new ArrayList<>(selection.fields());
+        String jpql = selectFrom(columns).append(" AND t.id IN :taskIds").toString();
+        try (ShardScope shard = shardRouter.forUser(selection.userId())) {
+            return entityManager.createQuery(jpql, Tuple.class)
+                    .setParameter("userId", selection.userId())
+                    .setParameter("taskIds", List.copyOf(taskIds))
+                    .getResultStream()
+                    .map(row -> toNode(row, columns))
+                    .collect(Collectors.toMap(TaskNode::id, node -> node));
+        }
+    }
+
+    /**
+     * Direct subtasks of the given tasks, keyed by parent ID (oldest first)
+     */
+    public Map<Long, List<TaskNode>> findSubtasks(TaskSelection selection, Collection<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+        List<TaskField> columns = new ArrayList<>(selection.with(TaskField.PARENT_ID).fields());
+        String jpql = selectFrom(columns).append(" AND t.parentId IN :parentIds ORDER BY t.id").toString();
+        try (ShardScope shard = shardRouter.forUser(selection.userId())) {
+            return entityManager.createQuery(jpql, Tuple.class)
+                    .setParameter("userId", selection.userId())
+                    .setParameter("parentIds", List.copyOf(parentIds))
+                    .getResultStream()
+                    .map(row -> toNode(row, columns))
+                    .collect(Collectors.groupingBy(TaskNode::parentId, LinkedHashMap::new, Collectors.toList()));
+        }
+    }
+
+    /**
+     * Labels of the given tasks (only the user's), keyed by task ID, by name
+     */
+    public Map<Long, List<LabelNode>> findLabels(Long userId, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<LabelNode>> labels = new HashMap<>();
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            entityManager.createQuery(
+                            "SELECT t.id, l.id, l.name, l.color FROM Task t JOIN t.labels l "
+                                    + "WHERE t.user.id = :userId AND t.id IN :taskIds ORDER BY l.name", Tuple.class)
+                    .setParameter("userId", userId)
+                    .setParameter("taskIds", List.copyOf(taskIds))
+                    .getResultStream()
+                    .forEach(row -> labels.computeIfAbsent(row.get(0, Long.class), id -> new ArrayList<>())
+                            .add(new LabelNode(row.get(1, Long.class), row.get(2, String.class), row.get(3, String.class))));
+        }
+        return labels;
+    }
+
+    private static StringBuilder selectFrom(List<TaskField> columns) {
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            jpql.append("t.").append(columns.get(i).getAttribute());
+        }
+        return jpql.append(" FROM Task t WHERE t.user.id = :userId AND t.workspaceId IS NULL");
+    }
+
+    private static String orderBy(Sort sort) {
+        StringBuilder jpql = new StringBuilder(" ORDER BY ");
+        boolean first = true;
+        for (Sort.Order order : sort) {
+            if (!first) {
+                jpql.append(", ");
+            }
+            jpql.append("t.").append(order.getProperty()).append(order.isAscending() ? " ASC" : " DESC");
+            first = false;
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * Builds a TaskNode from a row; columns that were not selected stay null
+     */
+    private static TaskNode toNode(Tuple row, List<TaskField> columns) {
+        Object[] values = new Object[TaskField.values().length];
+        for (int i = 0; i < columns.size(); i++) {
+            values[columns.get(i).ordinal()] = row.get(i);
+        }
+        return new TaskNode(
+                (Long) values[TaskField.ID.ordinal()],
+                (String) values[TaskField.TITLE.ordinal()],
+                (String) values[TaskField.DESCRIPTION.ordinal()],
+                (Task.TaskStatus) values[TaskField.STATUS.ordinal()],
+                (Task.TaskPriority) values[TaskField.PRIORITY.ordinal()],
+                (LocalDateTime) values[TaskField.DUE_AT.ordinal()],
+                (LocalDateTime) values[TaskField.CREATED_AT.ordinal()],
+                (LocalDateTime) values[TaskField.UPDATED_AT.ordinal()],
+                (Long) values[TaskField.WORKSPACE_ID.ordinal()],
+                (Long) values[TaskField.PARENT_ID.ordinal()]
+        );
+    }
+}
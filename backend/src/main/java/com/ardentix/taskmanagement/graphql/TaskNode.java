@@ -0,0 +1,25 @@
+package com.ardentix.taskmanagement.graphql;
+
+import com.ardentix.taskmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task Node
+ *
+ * A task as returned by GraphQL. Fields that were not selected are null
+ * (they were never read from the database, and GraphQL does not send them).
+ */
+public record TaskNode(
+        Long id,
+        String title,
+        String description,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        LocalDateTime dueAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long workspaceId,
+        Long parentId
+) {
+}
@@ -0,0 +1,38 @@
+package com.ardentix.taskmanagement.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Task Selection
+ *
+ * Whose tasks to read (the shard and ownership check) and which columns (TaskField).
+ * Passed to the DataLoaders as key context, so one batch reads the union of the columns
+ * its fields asked for.
+ */
+public record TaskSelection(Long userId, Set<TaskField> fields) {
+
+    public static TaskSelection of(Long userId, DataFetchingFieldSelectionSet selectionSet) {
+        return new TaskSelection(userId, TaskField.selectedIn(selectionSet));
+    }
+
+    /**
+     * Same user, columns of both selections
+     */
+    public TaskSelection merge(TaskSelection other) {
+        Set<TaskField> union = EnumSet.copyOf(fields);
+        union.addAll(other.fields);
+        return new TaskSelection(userId, union);
+    }
+
+    /**
+     * Same user, with one more column
+     */
+    public TaskSelection with(TaskField field) {
+        Set<TaskField> more = EnumSet.copyOf(fields);
+        more.add(field);
+        return new TaskSelection(userId, more);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ardentix.taskmanagement.graphql;
+
+/**
+ * User Node
+ *
+ * The current user as returned by GraphQL (never the password hash).
+ */
+public record UserNode(Long id, String name, String email) {
+}
@@ -0,0 +1,232 @@
+package com.ardentix.taskmanagement.querycount;
+
+import com.ardentix.taskmanagement.util.LogRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Query Count Filter
+ *
+ * Counts the SQL statements of each HTTP request (QueryCounter) and:
+ * - records them in the "db.queries.per.request" metric, tagged with method and URI pattern
+ * - in dev (query-count.header-enabled=true) returns them in the X-Query-Count response header
+ * - warns about a likely N+1: the same SELECT run query-count.n-plus-one-threshold times or more
+ *   in one request (counted in "db.queries.n.plus.one")
+ *
+ * Runs right after RequestLoggingFilter (so its warnings carry the request ID) and before the
+ * security filters, so their queries are counted too.
+ *
+ * Async responses (NDJSON export, server-sent events) are never held back, also in dev:
+ * they are written straight through and get no X-Query-Count header.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    private final int nPlusOneThreshold;
+    private final LogRateLimiter nPlusOneLog;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${query-count.header-enabled:false}") boolean headerEnabled,
+                            @Value("${query-count.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                            @Value("${query-count.n-plus-one-log-interval-ms:10000}") long nPlusOneLogIntervalMs) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.nPlusOneLog = new LogRateLimiter(nPlusOneLogIntervalMs);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        // The header has to be set before the body is written, so in dev the body is held
+        // back until the count is known. In production nothing is buffered.
+        HeaderBufferingResponse buffered = headerEnabled ? new HeaderBufferingResponse(response) : null;
+        if (buffered != null) {
+            passThroughWhenAsync(request, buffered);
+        }
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            try {
+                filterChain.doFilter(request, buffered != null ? buffered : response);
+            } finally {
+                report(request, scope);
+                if (buffered != null && !buffered.passThrough) {
+                    buffered.setHeader(HEADER, Integer.toString(scope.count()));
+                    buffered.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    /**
+     * Async responses (the NDJSON export, server-sent events) are written by another thread after
+     * this filter has returned, so they are never buffered and get no header.
+     * The interceptors run on this thread before the async work starts.
+     */
+    private static void passThroughWhenAsync(HttpServletRequest request, HeaderBufferingResponse buffered) {
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.registerCallableInterceptor(QueryCountFilter.class.getName(), new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) throws IOException {
+                buffered.stopBuffering();
+            }
+        });
+        asyncManager.registerDeferredResultInterceptor(QueryCountFilter.class.getName(), new DeferredResultProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, DeferredResult<T> result) throws IOException {
+                buffered.stopBuffering();
+            }
+        });
+    }
+
+    /**
+     * Holds the body back until the filter has set the header
+     * Once the request goes async, stopBuffering() writes out what was buffered and lets the rest
+     * go straight through
+     */
+    private static final class HeaderBufferingResponse extends ContentCachingResponseWrapper {
+
+        // Set on the request thread before the async work starts, read by the thread writing the body
+        private volatile boolean passThrough;
+        private ServletOutputStream outputStream;
+
+        private HeaderBufferingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void stopBuffering() throws IOException {
+            if (!passThrough) {
+                copyBodyToResponse(false);
+                passThrough = true;
+            }
+        }
+
+        /**
+         * The stream may be taken before the request goes async (StreamingResponseBody does),
+         * so every write checks again where it has to go
+         */
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (passThrough) {
+                return getResponse().getOutputStream();
+            }
+            if (outputStream == null) {
+                ServletOutputStream buffer = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    private ServletOutputStream target() throws IOException {
+                        return passThrough ? getResponse().getOutputStream() : buffer;
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        target().write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        target().write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        target().flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return buffer.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        buffer.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return passThrough ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (passThrough) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Scope scope) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("db.queries.per.request")
+                .description("SQL statements run by one HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(scope.count());
+
+        List<Map.Entry<String, Integer>> repeated = scope.repeatedSelects(nPlusOneThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        Counter.builder("db.queries.n.plus.one")
+                .description("Requests that ran the same SELECT repeatedly")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+        long count = nPlusOneLog.record();
+        if (count > 0) {
+            for (Map.Entry<String, Integer> entry : repeated) {
+                logger.warn("Possible N+1 in {} {}: same query ran {} times ({} such requests since last warning): {}",
+                        method, uri, entry.getValue(), count, entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ardentix.taskmanagement.querycount;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query Counter
+ *
+ * Counts the SQL statements Hibernate prepares on the current thread while a scope is open.
+ * QueryCountFilter opens one scope per HTTP request; QueryBudget (in the tests) opens one around
+ * a block of code.
+ * Scopes nest: a statement is counted in every open scope on the thread.
+ *
+ * Usage:
+ *   try (QueryCounter.Scope scope = QueryCounter.open()) {
+ *       ...
+ *       int queries = scope.count();
+ *   }
+ *
+ * Statements run outside any scope (scheduled jobs, startup) are not counted.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Starts counting on this thread until the returned scope is closed
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Called by QueryCountingInspector for every statement Hibernate prepares
+     */
+    static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+        // SELECT text -> times run. Hibernate binds values as ?, so the same text means the same query shape
+        private Map<String, Integer> selects;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String sql) {
+            count++;
+            if (isSelect(sql)) {
+                if (selects == null) {
+                    selects = new HashMap<>();
+                }
+                selects.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Number of statements run in this scope so far
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * SELECTs that ran at least threshold times with the same text: usually a query in a loop (N+1)
+         */
+        public List<Map.Entry<String, Integer>> repeatedSelects(int threshold) {
+            List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+            if (selects != null && threshold > 0) {
+                for (Map.Entry<String, Integer> entry : selects.entrySet()) {
+                    if (entry.getValue() >= threshold) {
+                        repeated.add(Map.entry(entry.getKey(), entry.getValue()));
+                    }
+                }
+            }
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+
+        private static boolean isSelect(String sql) {
+            String start = sql.stripLeading();
+            return start.regionMatches(true, 0, "select", 0, 6) || start.regionMatches(true, 0, "with", 0, 4);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ardentix.taskmanagement.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Query Counting Inspector
+ *
+ * Hibernate passes every SQL statement it prepares through the StatementInspector,
+ * which makes it a cheap place to count queries without wrapping the DataSource.
+ * The SQL is returned unchanged.
+ *
+ * Only Hibernate statements are seen: JdbcTemplate calls (shard rebalancing) are not counted.
+ */
+public class QueryCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ardentix.taskmanagement.reactive;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Blocking
+ *
+ * Runs blocking code (JPA services, BCrypt) on Reactor's bounded elastic pool,
+ * so it never holds one of the few event-loop threads.
+ */
+final class Blocking {
+
+    private Blocking() {
+    }
+
+    static <T> Mono<T> call(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static Mono<Void> run(Runnable runnable) {
+        return Mono.fromRunnable(runnable).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+}
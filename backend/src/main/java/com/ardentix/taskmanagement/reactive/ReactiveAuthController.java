@@ -0,0 +1,58 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.dto.AuthResponse;
+import com.ardentix.taskmanagement.dto.LoginRequest;
+import com.ardentix.taskmanagement.dto.RefreshTokenRequest;
+import com.ardentix.taskmanagement.dto.RegisterRequest;
+import com.ardentix.taskmanagement.service.AuthService;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Reactive Authentication Controller
+ *
+ * The /api/auth endpoints of AuthController for the reactive profile (same requests,
+ * responses and status codes). AuthService hashes passwords with BCrypt and uses JPA,
+ * so every call runs on the bounded elastic pool (see Blocking).
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/auth")
+public class ReactiveAuthController {
+
+    private final AuthService authService;
+
+    public ReactiveAuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/register")
+    public Mono<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
+        return Blocking.call(() -> authService.register(request));
+    }
+
+    @PostMapping("/login")
+    public Mono<AuthResponse> login(@Valid @RequestBody LoginRequest request, ServerHttpRequest httpRequest) {
+        // Behind a proxy this is the client address (server.forward-headers-strategy)
+        InetSocketAddress remoteAddress = httpRequest.getRemoteAddress();
+        String clientIp = remoteAddress != null ? remoteAddress.getHostString() : "unknown";
+        return Blocking.call(() -> authService.login(request, clientIp));
+    }
+
+    @PostMapping("/refresh")
+    public Mono<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return Blocking.call(() -> authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        return Blocking.run(() -> authService.logout(request))
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+}
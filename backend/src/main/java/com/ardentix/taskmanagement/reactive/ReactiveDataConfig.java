@@ -0,0 +1,36 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * Reactive Data Configuration
+ *
+ * The reactive profile uses both database stacks: R2DBC for the task API, JDBC/JPA for
+ * everything else (users, refresh tokens, signing keys, labels, ...).
+ *
+ * - Spring Boot skips its JDBC DataSource as soon as an R2DBC ConnectionFactory exists,
+ *   which would take JPA and every JpaRepository with it, so the Hikari pool is declared
+ *   here from the usual spring.datasource.* properties (ConnectionPoolTuner still tunes it)
+ * - R2DBC repositories are only looked for in this package (JPA: JpaRepositoryConfig)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableR2dbcRepositories(basePackages = "com.ardentix.taskmanagement.reactive")
+public class ReactiveDataConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.DomainException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.exception.TooManyRequestsException;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import com.ardentix.taskmanagement.exception.UnsupportedFeatureException;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+/**
+ * Reactive Exception Handler
+ *
+ * GlobalExceptionHandler for the reactive stack: the same RFC 7807 problem responses with the
+ * extra "message" and "error" fields, and the same status for each exception.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(NotFoundException.class)
+    public ProblemDetail handleNotFound(NotFoundException ex) {
+        return problem(HttpStatus.NOT_FOUND, ex);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ProblemDetail handleUnauthorized(UnauthorizedException ex) {
+        return problem(HttpStatus.UNAUTHORIZED, ex);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ProblemDetail handleConflict(ConflictException ex) {
+        return problem(HttpStatus.CONFLICT, ex);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ProblemDetail handleValidation(ValidationException ex) {
+        return problem(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    @ExceptionHandler(UnsupportedFeatureException.class)
+    public ProblemDetail handleUnsupported(UnsupportedFeatureException ex) {
+        return problem(HttpStatus.NOT_IMPLEMENTED, ex);
+    }
+
+    /**
+     * 429 with Retry-After, so clients know when to try again
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ProblemDetail> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(problem(HttpStatus.TOO_MANY_REQUESTS, ex));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ProblemDetail handleAccessDenied(AccessDeniedException ex) {
+        return problem(HttpStatus.FORBIDDEN, ex.getMessage(), "FORBIDDEN");
+    }
+
+    /**
+     * Unexpected errors: the details stay in the log, the client gets a generic message
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ProblemDetail handleUnexpected(RuntimeException ex) {
+        log.error("Unhandled error", ex);
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "Something went wrong, please try again", "INTERNAL_ERROR");
+    }
+
+    /**
+     * Handles validation errors from @Valid annotation
+     */
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(
+            WebExchangeBindException ex, HttpHeaders headers, HttpStatusCode status, ServerWebExchange exchange) {
+        String errorMessage = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(problem(HttpStatus.BAD_REQUEST, errorMessage, "VALIDATION_ERROR")));
+    }
+
+    /**
+     * Adds "message" and "error" to the problem responses WebFlux builds for its own exceptions
+     */
+    @Override
+    protected Mono<ResponseEntity<Object>> handleExceptionInternal(
+            Exception ex, @Nullable Object body, @Nullable HttpHeaders headers, HttpStatusCode statusCode,
+            ServerWebExchange exchange) {
+        return super.handleExceptionInternal(ex, body, headers, statusCode, exchange)
+                .doOnNext(response -> {
+                    if (response.getBody() instanceof ProblemDetail problem) {
+                        HttpStatus status = HttpStatus.resolve(statusCode.value());
+                        problem.setProperty("message", problem.getDetail());
+                        problem.setProperty("error", status != null ? status.name() : "ERROR");
+                    }
+                });
+    }
+
+    private static ProblemDetail problem(HttpStatus status, DomainException ex) {
+        return problem(status, ex.getMessage(), ex.getErrorCode());
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String message, String errorCode) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, message);
+        problem.setProperty("message", message);
+        problem.setProperty("error", errorCode);
+        return problem;
+    }
+}
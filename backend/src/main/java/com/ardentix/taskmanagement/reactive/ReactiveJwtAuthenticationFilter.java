@@ -0,0 +1,122 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.security.JwtPrincipal;
+import com.ardentix.taskmanagement.security.PublicRoutes;
+import com.ardentix.taskmanagement.service.RefreshTokenService;
+import com.ardentix.taskmanagement.util.JwtUtil;
+import com.ardentix.taskmanagement.util.LogRateLimiter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reactive JWT Authentication Filter
+ *
+ * JwtAuthenticationFilter for the reactive stack, with the same rules:
+ * - public routes (PublicRoutes) and requests without a Bearer token pass through unauthenticated
+ * - the token is parsed once; the principal is a JwtPrincipal (user ID + email)
+ * - invalid tokens are counted, and logged at most once per interval without stack traces
+ * - validation is traced as a "jwt authenticate" span (outcome valid/invalid)
+ *
+ * Token parsing is CPU only and stays on the event loop. Revoked token families are checked
+ * against the in-memory bloom filter first; only a possible hit goes to the database, on the
+ * bounded elastic pool.
+ *
+ * Not a @Component: ReactiveSecurityConfig adds it to the security chain, so it runs once.
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtAuthenticationFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final ObservationRegistry observationRegistry;
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LogRateLimiter invalidTokenLog = new LogRateLimiter(10_000);
+
+    public ReactiveJwtAuthenticationFilter(JwtUtil jwtUtil, RefreshTokenService refreshTokenService,
+                                           ObservationRegistry observationRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (PublicRoutes.INSTANCE.matches(exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        String token = authHeader.substring(BEARER_PREFIX.length());
+
+        Observation observation = Observation.createNotStarted("jwt.authenticate", observationRegistry)
+                .contextualName("jwt authenticate")
+                .start();
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected(observation, e.getMessage());
+            return chain.filter(exchange);
+        }
+
+        String familyId = claims.get("fid", String.class);
+        Mono<Boolean> revoked = familyId == null || !refreshTokenService.mightBeRevoked(familyId)
+                ? Mono.just(false)
+                : Blocking.call(() -> refreshTokenService.isFamilyRevoked(familyId));
+
+        return revoked.flatMap(isRevoked -> {
+            if (isRevoked) {
+                rejected(observation, "Token family revoked");
+                return chain.filter(exchange);
+            }
+            JwtPrincipal principal = new JwtPrincipal(claims.get("userId", Long.class), claims.getSubject());
+            Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                    principal, null, AuthorityUtils.NO_AUTHORITIES);
+            observation.lowCardinalityKeyValue("outcome", "valid");
+            observation.stop();
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+        });
+    }
+
+    /**
+     * Invalid token: counted and rate-limited logging; the request continues unauthenticated
+     */
+    private void rejected(Observation observation, String reason) {
+        observation.lowCardinalityKeyValue("outcome", "invalid");
+        observation.stop();
+        invalidTokens.increment();
+        long sinceLastLog = invalidTokenLog.record();
+        if (sinceLastLog > 0) {
+            logger.warn("Rejected {} invalid JWTs since last report ({} total), latest: {}",
+                    sinceLastLog, invalidTokens.sum(), reason);
+        }
+    }
+
+    /**
+     * Number of invalid tokens seen since startup
+     */
+    public long getInvalidTokenCount() {
+        return invalidTokens.sum();
+    }
+}
@@ -0,0 +1,207 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.controller.TaskController;
+import com.ardentix.taskmanagement.dto.LabelResponse;
+import com.ardentix.taskmanagement.dto.TaskDependencyRequest;
+import com.ardentix.taskmanagement.dto.TaskLabelsRequest;
+import com.ardentix.taskmanagement.dto.TaskParentRequest;
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.dto.TaskTreeNode;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.security.JwtPrincipal;
+import com.ardentix.taskmanagement.service.LabelService;
+import com.ardentix.taskmanagement.service.TaskHierarchyService;
+import com.ardentix.taskmanagement.service.TaskService;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Reactive Task Controller
+ *
+ * The /api/tasks endpoints of TaskController for the reactive profile: same paths, parameters,
+ * headers, status codes and error responses, so the frontend cannot tell the stacks apart.
+ *
+ * - GET /api/tasks (no paging), GET /api/tasks/{id}, POST, PUT and DELETE run on R2DBC
+ *   (ReactiveTaskService) and never block an event-loop thread; the list is streamed as the
+ *   database returns rows
+ * - GET /api/tasks/export streams all tasks as newline-delimited JSON (one task per line)
+ * - includeArchived, keyset paging, filter, labels, subtasks and blockers reuse the JPA services,
+ *   called on the bounded elastic pool (see Blocking)
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/tasks")
+public class ReactiveTaskController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReactiveTaskService reactiveTaskService;
+    private final TaskService taskService;
+    private final LabelService labelService;
+    private final TaskHierarchyService taskHierarchyService;
+
+    public ReactiveTaskController(ReactiveTaskService reactiveTaskService, TaskService taskService,
+                                  LabelService labelService, TaskHierarchyService taskHierarchyService) {
+        this.reactiveTaskService = reactiveTaskService;
+        this.taskService = taskService;
+        this.labelService = labelService;
+        this.taskHierarchyService = taskHierarchyService;
+    }
+
+    /**
+     * Get all tasks for current user (same parameters as TaskController.getAllTasks)
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Flux<TaskResponse>>> getAllTasks(
+            Principal principal,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        Long userId = userId(principal);
+        TaskSort taskSort = TaskSort.fromParam(sort);
+
+        if (limit == null && cursor == null) {
+            if (includeArchived) {
+                return Blocking.call(() -> taskService.getAllTasks(userId, taskSort, true))
+                        .map(tasks -> ResponseEntity.ok(Flux.fromIterable(tasks)));
+            }
+            return Mono.just(ResponseEntity.ok(reactiveTaskService.getAllTasks(userId, taskSort)));
+        }
+
+        if (includeArchived) {
+            throw new ValidationException("Paging is not supported with includeArchived", "INVALID_QUERY");
+        }
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return Blocking.call(() -> taskService.getTaskPage(userId, taskSort, cursor, pageSize))
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.getNextCursor() != null) {
+                        response.header(TaskController.NEXT_CURSOR_HEADER, page.getNextCursor());
+                    }
+                    return response.body(Flux.fromIterable(page.getTasks()));
+                });
+    }
+
+    /**
+     * Export all tasks as newline-delimited JSON, written while they are read
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> exportTasks(Principal principal,
+                                          @RequestParam(defaultValue = "createdAt") String sort) {
+        return reactiveTaskService.getAllTasks(userId(principal), TaskSort.fromParam(sort));
+    }
+
+    /**
+     * Filter tasks by labels and status (see TaskController.filterTasks)
+     */
+    @GetMapping("/filter")
+    public Mono<ResponseEntity<List<TaskResponse>>> filterTasks(
+            Principal principal,
+            @RequestParam(defaultValue = "") List<Long> labels,
+            @RequestParam(defaultValue = "") List<Long> anyLabels,
+            @RequestParam(defaultValue = "") List<Long> excludeLabels,
+            @RequestParam(defaultValue = "") List<Task.TaskStatus> status,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        Long userId = userId(principal);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return Blocking.call(() -> taskService.filterTasks(
+                        userId, labels, anyLabels, excludeLabels, status, cursor, pageSize))
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .header(TaskController.TOTAL_COUNT_HEADER, String.valueOf(page.getTotal()));
+                    if (page.getNextCursor() != null) {
+                        response.header(TaskController.NEXT_CURSOR_HEADER, page.getNextCursor());
+                    }
+                    return response.body(page.getTasks());
+                });
+    }
+
+    @GetMapping("/{id}/labels")
+    public Mono<List<LabelResponse>> getTaskLabels(Principal principal,
+                                                   @PathVariable Long id) {
+        return Blocking.call(() -> labelService.getTaskLabels(id, userId(principal)));
+    }
+
+    @PutMapping("/{id}/labels")
+    public Mono<List<LabelResponse>> setTaskLabels(Principal principal,
+                                                   @PathVariable Long id,
+                                                   @Valid @RequestBody TaskLabelsRequest request) {
+        return Blocking.call(() -> labelService.setTaskLabels(id, request.getLabelIds(), userId(principal)));
+    }
+
+    @PutMapping("/{id}/parent")
+    public Mono<TaskResponse> setParent(Principal principal,
+                                        @PathVariable Long id, @RequestBody TaskParentRequest request) {
+        return Blocking.call(() -> taskHierarchyService.setParent(userId(principal), id, request.getParentId()));
+    }
+
+    @GetMapping("/{id}/tree")
+    public Mono<TaskTreeNode> getTaskTree(Principal principal, @PathVariable Long id) {
+        return Blocking.call(() -> taskHierarchyService.getTree(userId(principal), id));
+    }
+
+    @GetMapping("/{id}/blockers")
+    public Mono<List<TaskResponse>> getBlockers(Principal principal,
+                                                @PathVariable Long id) {
+        return Blocking.call(() -> taskHierarchyService.getBlockerChain(userId(principal), id));
+    }
+
+    @PostMapping("/{id}/blockers")
+    public Mono<ResponseEntity<Void>> addBlocker(Principal principal,
+                                                 @PathVariable Long id,
+                                                 @Valid @RequestBody TaskDependencyRequest request) {
+        return Blocking.run(() -> taskHierarchyService.addBlocker(userId(principal), id, request.getBlockedById()))
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    @DeleteMapping("/{id}/blockers/{blockerId}")
+    public Mono<ResponseEntity<Void>> removeBlocker(Principal principal,
+                                                    @PathVariable Long id, @PathVariable Long blockerId) {
+        return Blocking.run(() -> taskHierarchyService.removeBlocker(userId(principal), id, blockerId))
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TaskResponse> getTaskById(Principal principal, @PathVariable Long id) {
+        return reactiveTaskService.getTaskById(id, userId(principal));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<TaskResponse> createTask(Principal principal,
+                                         @Valid @RequestBody TaskRequest request) {
+        return reactiveTaskService.createTask(request, userId(principal));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<TaskResponse> updateTask(Principal principal,
+                                         @PathVariable Long id,
+                                         @Valid @RequestBody TaskRequest request) {
+        return reactiveTaskService.updateTask(id, request, userId(principal));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(Principal principal,
+                                                 @PathVariable Long id) {
+        return reactiveTaskService.deleteTask(id, userId(principal))
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    private static Long userId(Principal principal) {
+        return JwtPrincipal.from(principal).getUserId();
+    }
+}
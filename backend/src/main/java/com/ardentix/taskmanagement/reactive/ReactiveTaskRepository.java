@@ -0,0 +1,26 @@
+package com.ardentix.taskmanagement.reactive;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Task Repository
+ *
+ * The personal-task queries of TaskRepository over R2DBC (PostgreSQL or H2), used by the
+ * reactive profile. Rows are streamed as the database returns them instead of collected
+ * into a List first.
+ */
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRow, Long> {
+
+    /**
+     * All personal tasks of a user in one of the TaskSort orders (same indexes as the JPA query)
+     */
+    Flux<TaskRow> findByUserIdAndWorkspaceIdIsNull(Long userId, Sort sort);
+
+    /**
+     * A personal task by ID, only if it belongs to the user
+     */
+    Mono<TaskRow> findByIdAndUserIdAndWorkspaceIdIsNull(Long id, Long userId);
+}
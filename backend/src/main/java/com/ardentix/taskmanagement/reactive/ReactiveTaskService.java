@@ -0,0 +1,148 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.reminder.ReminderEngine;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.service.RecurrenceService;
+import com.ardentix.taskmanagement.service.TaskBitmapIndex;
+import com.ardentix.taskmanagement.service.TaskHierarchyService;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Reactive Task Service
+ *
+ * The personal-task CRUD and list of TaskService on R2DBC, for the reactive profile.
+ * Same rules and side effects:
+ * - tasks are only visible to their owner (404 otherwise)
+ * - a new or changed due date resets the reminder; ReminderEngine and TaskBitmapIndex are told
+ *   about every save and delete
+ * - deleting detaches subtasks, dependencies and recurrences and removes the row in one JPA
+ *   transaction (blocking code, so it runs on the bounded elastic pool); R2DBC has no
+ *   transaction shared with JPA, so the delete itself does not go through R2DBC
+ *
+ * R2DBC talks to one database, so the reactive profile cannot be combined with sharding or
+ * the embedded task store; startup fails instead of serving from the wrong place.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TaskRepository jpaTaskRepository;
+    private final ReminderEngine reminderEngine;
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final TaskHierarchyService taskHierarchyService;
+    private final RecurrenceService recurrenceService;
+
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository,
+                               TaskRepository jpaTaskRepository,
+                               ReminderEngine reminderEngine,
+                               TaskBitmapIndex taskBitmapIndex,
+                               TaskHierarchyService taskHierarchyService,
+                               RecurrenceService recurrenceService,
+                               ShardRouter shardRouter,
+                               @Value("${task-store.type:jpa}") String taskStoreType) {
+        if (shardRouter.shardCount() > 1 || !"jpa".equals(taskStoreType)) {
+            throw new IllegalStateException(
+                    "The reactive profile needs a single database and task-store.type=jpa");
+        }
+        this.taskRepository = taskRepository;
+        this.jpaTaskRepository = jpaTaskRepository;
+        this.reminderEngine = reminderEngine;
+        this.taskBitmapIndex = taskBitmapIndex;
+        this.taskHierarchyService = taskHierarchyService;
+        this.recurrenceService = recurrenceService;
+    }
+
+    /**
+     * All personal tasks of a user, streamed in the given order
+     */
+    public Flux<TaskResponse> getAllTasks(Long userId, TaskSort sort) {
+        return taskRepository.findByUserIdAndWorkspaceIdIsNull(userId, sort.getSort())
+                .map(TaskRow::toResponse);
+    }
+
+    public Mono<TaskResponse> getTaskById(Long taskId, Long userId) {
+        return findPersonalTask(taskId, userId).map(TaskRow::toResponse);
+    }
+
+    public Mono<TaskResponse> createTask(TaskRequest request, Long userId) {
+        TaskRow task = new TaskRow();
+        task.setUserId(userId);
+        applyRequest(task, request);
+        LocalDateTime now = LocalDateTime.now();
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return taskRepository.save(task)
+                .flatMap(saved -> onSaved(userId, saved))
+                .map(TaskRow::toResponse);
+    }
+
+    public Mono<TaskResponse> updateTask(Long taskId, TaskRequest request, Long userId) {
+        return findPersonalTask(taskId, userId)
+                .flatMap(task -> {
+                    applyRequest(task, request);
+                    task.setUpdatedAt(LocalDateTime.now());
+                    return taskRepository.save(task);
+                })
+                .flatMap(saved -> onSaved(userId, saved))
+                .map(TaskRow::toResponse);
+    }
+
+    public Mono<Void> deleteTask(Long taskId, Long userId) {
+        return findPersonalTask(taskId, userId)
+                .flatMap(task -> Blocking.run(() -> taskHierarchyService.deleteTask(userId, taskId, () -> {
+                    recurrenceService.onTaskDeleted(taskId);
+                    jpaTaskRepository.deleteById(taskId);
+                })))
+                .then(Mono.fromRunnable(() -> {
+                    reminderEngine.onTaskDeleted(taskId);
+                    taskBitmapIndex.onTaskDeleted(userId, taskId);
+                }));
+    }
+
+    private Mono<TaskRow> findPersonalTask(Long taskId, Long userId) {
+        return taskRepository.findByIdAndUserIdAndWorkspaceIdIsNull(taskId, userId)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Task not found")));
+    }
+
+    /**
+     * Updates the in-memory indexes after a save
+     * A task with a due date may be delivered right away by ReminderEngine (a database write),
+     * so that case leaves the event loop
+     */
+    private Mono<TaskRow> onSaved(Long userId, TaskRow task) {
+        taskBitmapIndex.onTaskSaved(userId, task.getId(), task.getStatus());
+        if (task.getDueAt() == null) {
+            reminderEngine.onTaskSaved(task.toEntity());
+            return Mono.just(task);
+        }
+        return Blocking.run(() -> reminderEngine.onTaskSaved(task.toEntity())).thenReturn(task);
+    }
+
+    /**
+     * Copies the editable fields from a request onto a task (same as TaskService)
+     */
+    private void applyRequest(TaskRow task, TaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setPriority(request.getPriority());
+        if (!Objects.equals(task.getDueAt(), request.getDueAt())) {
+            // New or rescheduled due date: remind (again) at the new time
+            task.setDueAt(request.getDueAt());
+            task.setReminderSentAt(null);
+        }
+    }
+}
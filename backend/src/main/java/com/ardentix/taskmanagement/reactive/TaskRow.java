@@ -0,0 +1,80 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task Row
+ *
+ * The tasks table as R2DBC reads and writes it: the same columns as the Task entity,
+ * with the user as a plain user_id (R2DBC has no lazy associations).
+ * Labels stay in task_labels and are not loaded here.
+ */
+@Table("tasks")
+@Data
+@NoArgsConstructor
+public class TaskRow {
+
+    @Id
+    private Long id;
+    private String title;
+    private String description;
+    private Task.TaskStatus status;
+    private Long userId;
+    private Long workspaceId;
+    private Long parentId;
+    private LocalDateTime dueAt;
+    private Task.TaskPriority priority;
+    private LocalDateTime reminderSentAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Same DTO as TaskService returns
+     */
+    public TaskResponse toResponse() {
+        return new TaskResponse(
+                id,
+                title,
+                description,
+                status,
+                createdAt,
+                updatedAt,
+                false,
+                dueAt,
+                priority != null ? priority : Task.TaskPriority.MEDIUM,
+                workspaceId,
+                parentId,
+                null
+        );
+    }
+
+    /**
+     * A detached Task for the in-memory listeners (ReminderEngine) that take the JPA entity
+     */
+    public Task toEntity() {
+        User user = new User();
+        user.setId(userId);
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setUser(user);
+        task.setWorkspaceId(workspaceId);
+        task.setParentId(parentId);
+        task.setDueAt(dueAt);
+        task.setPriority(priority);
+        task.setReminderSentAt(reminderSentAt);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+}
@@ -0,0 +1,170 @@
+package com.ardentix.taskmanagement.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical Timing Wheel
+ *
+ * Schedules millions of timers with O(1) insert and O(1) amortized expiry, instead of
+ * a priority queue (O(log n)) or a database poll per timer.
+ *
+ * Level 0 has wheelSize buckets of tickMs each. Every higher level has the same number of
+ * buckets, each as wide as the whole level below (tickMs * wheelSize^level). A timer goes
+ * into the lowest level whose range covers its deadline; when time reaches a higher-level
+ * bucket, its timers are re-inserted and fall into the finer levels below ("cascading").
+ * A level-0 bucket fires once the clock has passed its end, so a timer never fires early;
+ * a deadline inside the current tick stays in the current bucket.
+ *
+ * Not thread-safe: the caller serializes schedule() and advance().
+ */
+public class HierarchicalTimingWheel<T> {
+
+    /**
+     * A scheduled timer; cancel() makes the wheel drop it when its bucket is reached
+     */
+    public static final class Timer<T> {
+        private final long deadline;
+        private final T item;
+        private boolean cancelled;
+
+        private Timer(long deadline, T item) {
+            this.deadline = deadline;
+            this.item = item;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] levelTickMs;
+    private final List<List<Timer<T>>>[] buckets;
+    private long currentTime;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startTime) {
+        if (tickMs <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levelTickMs = new long[levels];
+        this.buckets = new List[levels];
+        long levelTick = tickMs;
+        for (int level = 0; level < levels; level++) {
+            levelTickMs[level] = levelTick;
+            buckets[level] = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[level].add(new ArrayList<>());
+            }
+            levelTick = Math.multiplyExact(levelTick, wheelSize);
+        }
+        this.currentTime = startTime - Math.floorMod(startTime, tickMs);
+    }
+
+    /**
+     * Furthest deadline (relative to now) that is guaranteed to fit in the wheel
+     */
+    public long horizonMs() {
+        return levelTickMs[levelTickMs.length - 1] * (wheelSize - 1);
+    }
+
+    /**
+     * Number of timers in the wheel, including cancelled ones not yet dropped
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a timer
+     *
+     * @return the timer, or null if the deadline is before the current tick (the caller fires it right away)
+     * @throws IllegalArgumentException if the deadline is beyond the wheel's horizon
+     */
+    public Timer<T> schedule(long deadline, T item) {
+        Timer<T> timer = new Timer<>(deadline, item);
+        return insert(timer) ? timer : null;
+    }
+
+    /**
+     * Moves the wheel forward to now, passing every expired (non-cancelled) item to the consumer
+     */
+    public void advance(long now, Consumer<T> expired) {
+        while (now >= currentTime + tickMs) {
+            List<Timer<T>> bucket = buckets[0].get(bucketIndex(0, currentTime));
+            if (!bucket.isEmpty()) {
+                buckets[0].set(bucketIndex(0, currentTime), new ArrayList<>());
+                for (Timer<T> timer : bucket) {
+                    size--;
+                    if (!timer.cancelled) {
+                        expired.accept(timer.item);
+                    }
+                }
+            }
+            currentTime += tickMs;
+            cascade(expired);
+        }
+    }
+
+    /**
+     * When the clock enters a new bucket of a higher level, spreads that bucket's
+     * timers over the levels below (highest level first, so they keep falling)
+     */
+    private void cascade(Consumer<T> expired) {
+        for (int level = levelTickMs.length - 1; level > 0; level--) {
+            if (currentTime % levelTickMs[level] != 0) {
+                continue;
+            }
+            int index = bucketIndex(level, currentTime);
+            List<Timer<T>> bucket = buckets[level].get(index);
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            buckets[level].set(index, new ArrayList<>());
+            for (Timer<T> timer : bucket) {
+                size--;
+                if (!timer.cancelled && !insert(timer)) {
+                    expired.accept(timer.item);
+                }
+            }
+        }
+    }
+
+    private boolean insert(Timer<T> timer) {
+        if (timer.deadline < currentTime) {
+            return false;
+        }
+        for (int level = 0; level < levelTickMs.length; level++) {
+            long levelTick = levelTickMs[level];
+            long levelStart = currentTime - Math.floorMod(currentTime, levelTick);
+            if (timer.deadline < levelStart + levelTick * wheelSize) {
+                buckets[level].get(bucketIndex(level, timer.deadline)).add(timer);
+                size++;
+                return true;
+            }
+        }
+        throw new IllegalArgumentException("Deadline is beyond the timing wheel horizon");
+    }
+
+    private int bucketIndex(int level, long time) {
+        return (int) Math.floorMod(Math.floorDiv(time, levelTickMs[level]), (long) wheelSize);
+    }
+}
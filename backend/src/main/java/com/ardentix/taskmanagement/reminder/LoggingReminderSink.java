@@ -0,0 +1,53 @@
+package com.ardentix.taskmanagement.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Logging Reminder Sink
+ *
+ * Default stand-in until a real notification channel exists: logs each reminder
+ * and keeps the most recent ones in memory (handy when checking the engine locally).
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    private final Deque<Reminder> recent = new ArrayDeque<>();
+    private final int capacity;
+
+    public LoggingReminderSink(@Value("${reminders.log-sink.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void send(Reminder reminder) {
+        logger.info("Reminder: task {} '{}' for user {} is due at {} (priority {})",
+                reminder.taskId(), reminder.title(), reminder.userId(), reminder.dueAt(), reminder.priority());
+        synchronized (recent) {
+            if (recent.size() == capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(reminder);
+        }
+    }
+
+    /**
+     * Most recent reminders, oldest first
+     */
+    public List<Reminder> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+}
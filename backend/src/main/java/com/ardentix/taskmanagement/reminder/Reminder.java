@@ -0,0 +1,14 @@
+package com.ardentix.taskmanagement.reminder;
+
+import com.ardentix.taskmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reminder
+ *
+ * What a ReminderSink receives when a task comes due (read straight from the tasks
+ * table as a projection, without loading Task entities).
+ */
+public record Reminder(Long taskId, Long userId, String title, LocalDateTime dueAt, Task.TaskPriority priority) {
+}
@@ -0,0 +1,339 @@
+package com.ardentix.taskmanagement.reminder;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reminder Engine
+ *
+ * Sends a reminder to the ReminderSink when a task's dueAt is reached.
+ *
+ * Only the next reminders.horizon-minutes of reminders live in memory, in a
+ * HierarchicalTimingWheel. The database is read in batches along the due_at index:
+ * - At startup: every unsent reminder due before now + horizon (so reminders that came
+ *   due while the app was down are sent right away)
+ * - Every reminders.refill-interval-ms: the next slice up to now + horizon
+ * Task changes made through TaskService update the wheel directly.
+ *
+ * The wheel is only a hint: before sending, the due tasks are re-read in one query per
+ * shard, so deleted, completed or rescheduled tasks are skipped (or rescheduled).
+ * reminder_sent_at is set after the sink accepts a reminder, so a crash in between
+ * means the reminder is sent again after restart (at-least-once).
+ */
+@Service
+public class ReminderEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderEngine.class);
+
+    private final TaskRepository taskRepository;
+    private final ShardRouter shardRouter;
+    private final ReminderSink sink;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminders.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${reminders.wheel-size:64}")
+    private int wheelSize;
+
+    @Value("${reminders.levels:4}")
+    private int levels;
+
+    @Value("${reminders.horizon-minutes:1440}")
+    private long horizonMinutes;
+
+    @Value("${reminders.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${reminders.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    private HierarchicalTimingWheel<Reminder> wheel;
+
+    /**
+     * Pending timer per task ID, so a changed or deleted task can be cancelled
+     */
+    private final Map<Long, HierarchicalTimingWheel.Timer<Reminder>> timers = new HashMap<>();
+
+    /**
+     * Every unsent reminder due at or before this time (epoch ms) is in the wheel
+     */
+    private volatile long loadedUntil;
+
+    private volatile boolean started;
+
+    public ReminderEngine(TaskRepository taskRepository, ShardRouter shardRouter, ReminderSink sink,
+                          TransactionTemplate transactionTemplate) {
+        this.taskRepository = taskRepository;
+        this.shardRouter = shardRouter;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Builds the wheel and loads everything up to the horizon (recovery after a restart)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, levels, now);
+            long horizonMs = horizonMinutes * 60_000;
+            if (horizonMs + tickMs >= wheel.horizonMs()) {
+                throw new IllegalStateException("reminders.horizon-minutes exceeds the timing wheel range of "
+                        + wheel.horizonMs() / 60_000 + " minutes; add a level or widen the wheel");
+            }
+        }
+        started = true;
+        int loaded = load(LocalDateTime.ofInstant(Instant.EPOCH, ZoneId.systemDefault()), now + horizonMinutes * 60_000);
+        logger.info("Reminder engine started with {} pending reminders", loaded);
+    }
+
+    /**
+     * Moves the wheel to the current time and delivers whatever expired
+     */
+    @Scheduled(fixedRateString = "${reminders.tick-ms:1000}")
+    public void tick() {
+        if (!started) {
+            return;
+        }
+        List<Reminder> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), reminder -> {
+                timers.remove(reminder.taskId());
+                due.add(reminder);
+            });
+        }
+        if (!due.isEmpty()) {
+            deliver(due);
+        }
+    }
+
+    /**
+     * Loads the next slice of reminders, keeping the wheel filled up to the horizon
+     */
+    @Scheduled(fixedDelayString = "${reminders.refill-interval-ms:60000}",
+            initialDelayString = "${reminders.refill-interval-ms:60000}")
+    public void refill() {
+        if (!started) {
+            return;
+        }
+        load(toLocal(loadedUntil), System.currentTimeMillis() + horizonMinutes * 60_000);
+    }
+
+    /**
+     * Called after a task is created or updated
+     */
+    public void onTaskSaved(Task task) {
+        if (!started) {
+            return;
+        }
+        Reminder reminder = null;
+        if (task.getDueAt() != null && task.getReminderSentAt() == null
+                && task.getStatus() != Task.TaskStatus.COMPLETED) {
+            reminder = new Reminder(task.getId(), task.getUser().getId(), task.getTitle(),
+                    task.getDueAt(), task.getPriority());
+        }
+        boolean dueNow;
+        synchronized (this) {
+            cancel(task.getId());
+            if (reminder == null || toMillis(reminder.dueAt()) > loadedUntil) {
+                return; // nothing to send, or a later refill will load it
+            }
+            dueNow = !schedule(reminder);
+        }
+        if (dueNow) {
+            deliver(List.of(reminder));
+        }
+    }
+
+    /**
+     * Called after a task is deleted
+     */
+    public void onTaskDeleted(Long taskId) {
+        if (!started) {
+            return;
+        }
+        synchronized (this) {
+            cancel(taskId);
+        }
+    }
+
+    /**
+     * Number of reminders currently held in the wheel
+     */
+    public synchronized int pendingCount() {
+        return timers.size();
+    }
+
+    /**
+     * Reads unsent reminders with afterDue < dueAt <= until from every shard, in batches along
+     * the due_at index, and schedules them
+     *
+     * loadedUntil is raised before reading, so tasks saved while the batches are read schedule
+     * themselves; a loaded reminder never replaces a timer set by onTaskSaved (which is newer).
+     */
+    private int load(LocalDateTime afterDue, long until) {
+        LocalDateTime untilTime = toLocal(until);
+        synchronized (this) {
+            loadedUntil = Math.max(loadedUntil, until);
+        }
+        int loaded = 0;
+        List<Reminder> dueNow = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try (ShardScope scope = shardRouter.forShard(shard)) {
+                LocalDateTime cursorDue = afterDue;
+                long cursorId = Long.MAX_VALUE; // start strictly after afterDue
+                List<Reminder> batch;
+                do {
+                    batch = taskRepository.findUnsentReminders(cursorDue, cursorId, untilTime,
+                            Task.TaskStatus.COMPLETED, Limit.of(batchSize));
+                    synchronized (this) {
+                        for (Reminder reminder : batch) {
+                            if (!timers.containsKey(reminder.taskId()) && !schedule(reminder)) {
+                                dueNow.add(reminder);
+                            }
+                        }
+                    }
+                    loaded += batch.size();
+                    if (!batch.isEmpty()) {
+                        Reminder last = batch.get(batch.size() - 1);
+                        cursorDue = last.dueAt();
+                        cursorId = last.taskId();
+                    }
+                } while (batch.size() == batchSize);
+            }
+        }
+        if (!dueNow.isEmpty()) {
+            deliver(dueNow);
+        }
+        return loaded;
+    }
+
+    /**
+     * Re-reads the expired reminders (one query per shard and batch), sends the ones that are
+     * still due and unsent, marks them sent, and reschedules tasks whose dueAt moved
+     */
+    private void deliver(List<Reminder> expired) {
+        Map<Integer, List<Reminder>> byShard = new HashMap<>();
+        for (Reminder reminder : expired) {
+            int shard;
+            try (ShardScope scope = shardRouter.forUser(reminder.userId())) {
+                shard = scope.shard();
+            }
+            byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(reminder);
+        }
+        byShard.forEach((shard, reminders) -> {
+            for (int from = 0; from < reminders.size(); from += batchSize) {
+                List<Reminder> batch = reminders.subList(from, Math.min(from + batchSize, reminders.size()));
+                try (ShardScope scope = shardRouter.forShard(shard)) {
+                    deliverBatch(batch.stream().map(Reminder::taskId).toList());
+                } catch (RuntimeException e) {
+                    // Still unsent in the database; put them back on the wheel
+                    logger.error("Reminder delivery failed on shard {}: {}", shard, e.getMessage());
+                    batch.forEach(this::retryLater);
+                }
+            }
+        });
+    }
+
+    private void deliverBatch(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sent = new ArrayList<>();
+        List<Reminder> failed = new ArrayList<>();
+        for (Reminder reminder : taskRepository.findUnsentReminders(ids, Task.TaskStatus.COMPLETED)) {
+            if (reminder.dueAt().isAfter(now) && reschedule(reminder)) {
+                continue; // dueAt moved later since the timer was set
+            }
+            try {
+                sink.send(reminder);
+                sent.add(reminder.taskId());
+            } catch (RuntimeException e) {
+                logger.warn("Reminder for task {} failed, retrying in {}ms: {}",
+                        reminder.taskId(), retryDelayMs, e.getMessage());
+                failed.add(reminder);
+            }
+        }
+        if (!sent.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> taskRepository.markReminded(sent, now));
+        }
+        failed.forEach(this::retryLater);
+    }
+
+    /**
+     * Puts an unsent reminder back on the wheel, retryDelayMs from now
+     * (refill only reads ahead, so it would not find it again)
+     */
+    private synchronized void retryLater(Reminder reminder) {
+        if (!timers.containsKey(reminder.taskId())) {
+            schedule(new Reminder(reminder.taskId(), reminder.userId(), reminder.title(),
+                    toLocal(System.currentTimeMillis() + retryDelayMs), reminder.priority()));
+        }
+    }
+
+    /**
+     * Schedules a reminder whose dueAt moved later (beyond the loaded range, refill picks it up)
+     *
+     * @return false if the wheel says it is already due, so the caller sends it now
+     */
+    private synchronized boolean reschedule(Reminder reminder) {
+        if (timers.containsKey(reminder.taskId()) || toMillis(reminder.dueAt()) > loadedUntil) {
+            return true;
+        }
+        return schedule(reminder);
+    }
+
+    /**
+     * Adds a timer (caller holds the lock)
+     *
+     * @return false if the reminder is already due
+     */
+    private boolean schedule(Reminder reminder) {
+        HierarchicalTimingWheel.Timer<Reminder> timer = wheel.schedule(toMillis(reminder.dueAt()), reminder);
+        if (timer == null) {
+            return false;
+        }
+        timers.put(reminder.taskId(), timer);
+        return true;
+    }
+
+    private void cancel(Long taskId) {
+        HierarchicalTimingWheel.Timer<Reminder> timer = timers.remove(taskId);
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
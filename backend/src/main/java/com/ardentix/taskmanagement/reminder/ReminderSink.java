@@ -0,0 +1,15 @@
+package com.ardentix.taskmanagement.reminder;
+
+/**
+ * Reminder Sink
+ *
+ * Where due reminders are delivered (email, push, a message queue...).
+ * Provide a bean of this type and set reminders.sink to something other than "log"
+ * to replace the default LoggingReminderSink.
+ *
+ * Throwing from send() keeps the reminder unsent; ReminderEngine retries it later.
+ */
+public interface ReminderSink {
+
+    void send(Reminder reminder);
+}
@@ -0,0 +1,52 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.ArchivedTask;
+import com.ardentix.taskmanagement.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Archived Task Repository Interface
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Archived personal tasks of a user, newest first (only read when the user opts in)
+     */
+    List<ArchivedTask> findByUserAndWorkspaceIdIsNullOrderByCreatedAtDesc(User user);
+
+    /**
+     * An archived personal task of the user (GET /api/tasks/{id} after archiving)
+     */
+    Optional<ArchivedTask> findByIdAndUserAndWorkspaceIdIsNull(Long id, User user);
+
+    /**
+     * Which of these IDs are in tasks_archive, with their owner
+     * Returns (id, user_id) pairs
+     */
+    @Query("SELECT a.id, a.user.id FROM ArchivedTask a WHERE a.id IN :ids ORDER BY a.id")
+    List<Object[]> findIdsAndUserIdsIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Copies a batch of tasks into tasks_archive with one INSERT ... SELECT
+     * (no rows travel through the application)
+     * Status and age are checked again: a task reopened since it was selected is not copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive (id, title, description, status, user_id, workspace_id, due_at, priority, "
+            + "created_at, updated_at, archived_at) "
+            + "SELECT id, title, description, status, user_id, workspace_id, due_at, priority, created_at, updated_at, "
+            + ":archivedAt "
+            + "FROM tasks WHERE id IN (:ids) AND status = :status AND updated_at < :cutoff", nativeQuery = true)
+    int copyFromTasks(@Param("ids") List<Long> ids, @Param("status") String status,
+                      @Param("cutoff") LocalDateTime cutoff, @Param("archivedAt") LocalDateTime archivedAt);
+}
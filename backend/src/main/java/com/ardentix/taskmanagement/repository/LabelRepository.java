@@ -0,0 +1,43 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.Label;
+import com.ardentix.taskmanagement.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Label Repository Interface
+ */
+@Repository
+public interface LabelRepository extends JpaRepository<Label, Long> {
+
+    List<Label> findByUserOrderByName(User user);
+
+    Optional<Label> findByIdAndUser(Long id, User user);
+
+    /**
+     * The user's labels among the given IDs (IDs of other users' labels are dropped)
+     */
+    List<Label> findByUserAndIdIn(User user, Collection<Long> ids);
+
+    /**
+     * Removes a label from every task (before deleting the label)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_labels WHERE label_id = :labelId", nativeQuery = true)
+    int deleteAssignments(@Param("labelId") Long labelId);
+
+    /**
+     * Removes all labels from a batch of tasks (before bulk-deleting them)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteAssignmentsOfTasks(@Param("taskIds") Collection<Long> taskIds);
+}
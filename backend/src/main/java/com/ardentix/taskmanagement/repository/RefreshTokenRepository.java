@@ -0,0 +1,58 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Refresh Token Repository Interface
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a token with its user (the user is needed to issue the next access token)
+     */
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Checks whether a token family was revoked (only reached after a bloom filter hit)
+     */
+    boolean existsByFamilyIdAndRevokedAtIsNotNull(String familyId);
+
+    /**
+     * Marks a token as used; returns 0 if another request already used it (reuse)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Revokes every token of a family
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Families revoked recently enough that their access tokens may still be unexpired
+     */
+    @Query("SELECT DISTINCT r.familyId FROM RefreshToken r WHERE r.revokedAt >= :since")
+    List<String> findFamiliesRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Removes tokens that can no longer be used
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,26 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Signing Key Repository Interface
+ */
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    /**
+     * Keys that can still verify tokens, oldest activation first
+     */
+    List<SigningKey> findByExpiresAtAfterOrderByActivatesAtAsc(LocalDateTime now);
+
+    /**
+     * The first key ever created (also if it has expired)
+     */
+    Optional<SigningKey> findFirstByOrderByActivatesAtAsc();
+}
@@ -0,0 +1,64 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.TaskClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Task Closure Repository Interface
+ */
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    /**
+     * IDs of every task below the given one (any depth)
+     */
+    @Query("SELECT c.descendantId FROM TaskClosure c WHERE c.ancestorId = :taskId")
+    List<Long> findDescendantIds(@Param("taskId") Long taskId);
+
+    /**
+     * IDs of every task above the given one (any depth)
+     */
+    @Query("SELECT c.ancestorId FROM TaskClosure c WHERE c.descendantId = :taskId")
+    List<Long> findAncestorIds(@Param("taskId") Long taskId);
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * The whole subtree below a task in one query, shallowest first
+     */
+    @Query("SELECT t FROM TaskClosure c JOIN Task t ON t.id = c.descendantId "
+            + "WHERE c.ancestorId = :taskId ORDER BY c.depth, t.id")
+    List<Task> findSubtree(@Param("taskId") Long taskId);
+
+    /**
+     * Paths into a task from above (its ancestors)
+     */
+    List<TaskClosure> findByDescendantId(Long descendantId);
+
+    /**
+     * Paths from a task downwards (its descendants)
+     */
+    List<TaskClosure> findByAncestorId(Long ancestorId);
+
+    /**
+     * Removes the paths from the given ancestors into the given subtree
+     */
+    @Modifying
+    @Query("DELETE FROM TaskClosure c WHERE c.ancestorId IN :ancestorIds AND c.descendantId IN :subtreeIds")
+    int unlink(@Param("ancestorIds") Collection<Long> ancestorIds, @Param("subtreeIds") Collection<Long> subtreeIds);
+
+    /**
+     * Removes every row mentioning the given tasks (they must have no descendants left)
+     */
+    @Modifying
+    @Query("DELETE FROM TaskClosure c WHERE c.descendantId IN :taskIds OR c.ancestorId IN :taskIds")
+    int deleteInvolving(@Param("taskIds") Collection<Long> taskIds);
+}
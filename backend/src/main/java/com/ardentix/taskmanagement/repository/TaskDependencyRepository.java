@@ -0,0 +1,52 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Task Dependency Repository Interface
+ */
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    boolean existsByTaskIdAndBlockedById(Long taskId, Long blockedById);
+
+    /**
+     * Direct blockers of a whole frontier of tasks at once (one query per BFS level)
+     * Returns (task_id, blocked_by_id) pairs
+     */
+    @Query("SELECT d.taskId, d.blockedById FROM TaskDependency d WHERE d.taskId IN :taskIds")
+    List<Object[]> findEdgesFrom(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Every dependency edge reachable from a task through its blockers, in one recursive query
+     * Returns (task_id, blocked_by_id) pairs
+     *
+     * - UNION drops edges already in the chain, so the query ends even if a cycle slipped in
+     * - It also keeps shared blockers (diamonds) from being walked once per path
+     */
+    @Query(value = "WITH RECURSIVE chain (task_id, blocked_by_id) AS ("
+            + " SELECT task_id, blocked_by_id FROM task_dependencies WHERE task_id = :taskId"
+            + " UNION"
+            + " SELECT d.task_id, d.blocked_by_id FROM task_dependencies d JOIN chain c ON d.task_id = c.blocked_by_id"
+            + ") SELECT task_id, blocked_by_id FROM chain", nativeQuery = true)
+    List<Object[]> findBlockerChainEdges(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.taskId = :taskId AND d.blockedById = :blockedById")
+    int deleteEdge(@Param("taskId") Long taskId, @Param("blockedById") Long blockedById);
+
+    /**
+     * Removes every dependency on or of the given tasks
+     */
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.taskId IN :taskIds OR d.blockedById IN :taskIds")
+    int deleteInvolving(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -0,0 +1,33 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.TaskOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task Occurrence Repository Interface
+ */
+@Repository
+public interface TaskOccurrenceRepository extends JpaRepository<TaskOccurrence, Long> {
+
+    /**
+     * Stored occurrences of all the user's recurring tasks in [from, to) (uses the (user_id, occurs_at) index)
+     */
+    @Query("SELECT o FROM TaskOccurrence o WHERE o.userId = :userId AND o.occursAt >= :from AND o.occursAt < :to")
+    List<TaskOccurrence> findInWindow(@Param("userId") Long userId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    Optional<TaskOccurrence> findByTaskIdAndOccursAt(Long taskId, LocalDateTime occursAt);
+
+    @Modifying
+    @Query("DELETE FROM TaskOccurrence o WHERE o.taskId = :taskId")
+    int deleteByTemplate(@Param("taskId") Long taskId);
+}
@@ -0,0 +1,21 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.TaskRecurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task Recurrence Repository Interface
+ */
+@Repository
+public interface TaskRecurrenceRepository extends JpaRepository<TaskRecurrence, Long> {
+
+    List<TaskRecurrence> findByUserId(Long userId);
+
+    Optional<TaskRecurrence> findByTaskId(Long taskId);
+
+    void deleteByTaskId(Long taskId);
+}
@@ -2,9 +2,19 @@ package com.ardentix.taskmanagement.repository;
 
 import com.ardentix.taskmanagement.entity.Task;
 import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.reminder.Reminder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,14 +24,122 @@ import java.util.List;
 public interface TaskRepository extends JpaRepository<Task, Long> {
     
     /**
-     * Finds all tasks belonging to a specific user
-     * Spring generates: SELECT * FROM tasks WHERE user_id = ? ORDER BY id
+     * All personal tasks of a user in one of the TaskSort orders
      */
-    List<Task> findByUserOrderByCreatedAtDesc(User user);
+    List<Task> findByUserAndWorkspaceIdIsNull(User user, Sort sort);
     
     /**
-     * Finds task by ID and user (for security: ensures user can only access their own tasks)
+     * Keyset page of a user's personal tasks:
+     * WHERE user_id = ? AND workspace_id IS NULL AND (sort keys) > (cursor keys) ... LIMIT n
+     * Only pass TaskSort orders, which have a matching index (and NOT NULL keys)
      */
-    java.util.Optional<Task> findByIdAndUser(Long id, User user);
+    Window<Task> findByUserAndWorkspaceIdIsNull(User user, ScrollPosition position, Sort sort, Limit limit);
+    
+    /**
+     * Finds a personal task by ID and user (for security: ensures user can only access their own tasks)
+     */
+    java.util.Optional<Task> findByIdAndUserAndWorkspaceIdIsNull(Long id, User user);
+    
+    /**
+     * All tasks of a workspace in one of the TaskSort orders
+     * (membership is checked by WorkspacePermissionResolver before calling this)
+     */
+    List<Task> findByWorkspaceId(Long workspaceId, Sort sort);
+    
+    /**
+     * Keyset page of a workspace's tasks
+     */
+    Window<Task> findByWorkspaceId(Long workspaceId, ScrollPosition position, Sort sort, Limit limit);
+    
+    java.util.Optional<Task> findByIdAndWorkspaceId(Long id, Long workspaceId);
+    
+    /**
+     * A user's personal tasks by ID (loads the page of a bitmap filter result)
+     */
+    List<Task> findByUserAndWorkspaceIdIsNullAndIdIn(User user, Collection<Long> ids, Sort sort);
+    
+    /**
+     * (id, status) of every personal task of a user (builds the status bitmaps)
+     */
+    @Query("SELECT t.id, t.status FROM Task t WHERE t.user.id = :userId AND t.workspaceId IS NULL")
+    List<Object[]> findIdAndStatusByUserId(@Param("userId") Long userId);
+    
+    /**
+     * (task id, label id) pairs of a user's personal tasks (builds the label bitmaps)
+     */
+    @Query("SELECT t.id, l.id FROM Task t JOIN t.labels l WHERE t.user.id = :userId AND t.workspaceId IS NULL")
+    List<Object[]> findLabelAssignmentsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Next batch of task IDs to archive (uses the (status, updated_at) index)
+     * Tasks that still have subtasks stay, so the hierarchy is never cut in the middle,
+     * and so do recurring task templates
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status AND t.updatedAt < :cutoff "
+            + "AND NOT EXISTS (SELECT c.ancestorId FROM TaskClosure c WHERE c.ancestorId = t.id) "
+            + "AND NOT EXISTS (SELECT r.id FROM TaskRecurrence r WHERE r.taskId = t.id) ORDER BY t.id")
+    List<Long> findIdsToArchive(@Param("status") Task.TaskStatus status,
+                                @Param("cutoff") LocalDateTime cutoff,
+                                Limit limit);
+    
+    /**
+     * Deletes a batch of archived tasks by ID without loading them
+     * Status and age are checked again, like the copy into tasks_archive
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.status = :status AND t.updatedAt < :cutoff")
+    int deleteArchived(@Param("ids") List<Long> ids, @Param("status") Task.TaskStatus status,
+                       @Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * Next batch of unsent reminders with dueAt up to :until, after the (afterDue, afterId) keyset
+     * position, in (due_at, id) order (uses the due_at index)
+     */
+    @Query("SELECT new com.ardentix.taskmanagement.reminder.Reminder(t.id, t.user.id, t.title, t.dueAt, t.priority) "
+            + "FROM Task t WHERE t.dueAt <= :until "
+            + "AND (t.dueAt > :afterDue OR (t.dueAt = :afterDue AND t.id > :afterId)) "
+            + "AND t.reminderSentAt IS NULL AND t.status <> :completed "
+            + "ORDER BY t.dueAt, t.id")
+    List<Reminder> findUnsentReminders(@Param("afterDue") LocalDateTime afterDue,
+                                       @Param("afterId") Long afterId,
+                                       @Param("until") LocalDateTime until,
+                                       @Param("completed") Task.TaskStatus completed,
+                                       Limit limit);
+    
+    /**
+     * Current reminder state of the given tasks (skips sent, completed and undated ones)
+     */
+    @Query("SELECT new com.ardentix.taskmanagement.reminder.Reminder(t.id, t.user.id, t.title, t.dueAt, t.priority) "
+            + "FROM Task t WHERE t.id IN :ids AND t.dueAt IS NOT NULL "
+            + "AND t.reminderSentAt IS NULL AND t.status <> :completed")
+    List<Reminder> findUnsentReminders(@Param("ids") List<Long> ids,
+                                       @Param("completed") Task.TaskStatus completed);
+    
+    /**
+     * Fills in createdAt on rows written before the column was NOT NULL (updatedAt, else :now)
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.createdAt = COALESCE(t.updatedAt, :now) WHERE t.createdAt IS NULL")
+    int backfillCreatedAt(@Param("now") LocalDateTime now);
+    
+    /**
+     * Fills in updatedAt on such rows (from createdAt, so run backfillCreatedAt first)
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.updatedAt = t.createdAt WHERE t.updatedAt IS NULL")
+    int backfillUpdatedAt();
+    
+    /**
+     * Marks reminders as sent (bulk update, does not touch updatedAt)
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.reminderSentAt = :sentAt WHERE t.id IN :ids")
+    int markReminded(@Param("ids") List<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+    
+    /**
+     * Turns the direct children of a task into top-level tasks
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.parentId = NULL WHERE t.parentId = :parentId")
+    int clearParent(@Param("parentId") Long parentId);
 }
-
@@ -0,0 +1,179 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Task Sort Orders
+ *
+ * The only orders the task list accepts. Each one ends with id as a tie-breaker and has
+ * matching (user_id, workspace_id, ...) and (workspace_id, ...) composite indexes on the tasks
+ * table, so the database reads rows in index order instead of sorting the whole list (filesort).
+ *
+ * Cursors are the last row's sort key values (plus the sort name), as base64url JSON.
+ * They are opaque to the client and only valid for the sort they were issued for.
+ *
+ * Every sort key column is NOT NULL (createdAt and updatedAt included, see TaskTimestampBackfill).
+ * Keyset paging depends on it: "key < cursor" never matches a NULL, and databases disagree on
+ * where NULLs sort (last under DESC on H2 and MySQL, first on PostgreSQL).
+ */
+public enum TaskSort {
+
+    CREATED_AT("createdAt", Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))),
+    UPDATED_AT("updatedAt", Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"))),
+    STATUS("status", Sort.by(Sort.Order.asc("status"), Sort.Order.asc("title"), Sort.Order.asc("id"))),
+    TITLE("title", Sort.by(Sort.Order.asc("title"), Sort.Order.asc("id")));
+
+    private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
+
+    /**
+     * How to turn each cursor value (a string) back into the property's type
+     */
+    private static final Map<String, Function<String, Object>> KEY_PARSERS = Map.of(
+            "createdAt", LocalDateTime::parse,
+            "updatedAt", LocalDateTime::parse,
+            "status", Task.TaskStatus::valueOf,
+            "title", value -> value,
+            "id", Long::valueOf
+    );
+
+    /**
+     * Same orders applied to DTOs (used when live and archived tasks are merged in memory)
+     */
+    private static final Map<String, Function<TaskResponse, Comparable<?>>> DTO_PROPERTIES = Map.of(
+            "createdAt", TaskResponse::getCreatedAt,
+            "updatedAt", TaskResponse::getUpdatedAt,
+            "status", task -> task.getStatus() == null ? null : task.getStatus().name(), // stored as a string
+            "title", TaskResponse::getTitle,
+            "id", TaskResponse::getId
+    );
+
+    private final String param;
+    private final Sort sort;
+
+    TaskSort(String param, Sort sort) {
+        this.param = param;
+        this.sort = sort;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * Looks up a sort by its request parameter value (e.g. "updatedAt")
+     * Unsupported values are rejected rather than sorted without an index
+     */
+    public static TaskSort fromParam(String param) {
+        for (TaskSort taskSort : values()) {
+            if (taskSort.param.equals(param)) {
+                return taskSort;
+            }
+        }
+        List<String> supported = new ArrayList<>();
+        for (TaskSort taskSort : values()) {
+            supported.add(taskSort.param);
+        }
+        throw new ValidationException("Unsupported sort '" + param + "', use one of " + supported, "INVALID_QUERY");
+    }
+
+    /**
+     * Encodes the keyset position after the last returned row
+     */
+    public String encodeCursor(KeysetScrollPosition position) {
+        List<String> values = new ArrayList<>();
+        values.add(param);
+        for (Sort.Order order : sort) {
+            Object key = position.getKeys().get(order.getProperty());
+            if (key == null) {
+                throw new IllegalStateException("Sort key " + order.getProperty() + " is null");
+            }
+            values.add(key.toString());
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(CURSOR_MAPPER.writeValueAsBytes(values));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor from a previous page (null = start from the first row)
+     */
+    public ScrollPosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            List<String> values = CURSOR_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor),
+                    new TypeReference<List<String>>() {});
+            List<Sort.Order> orders = sort.toList();
+            if (values.size() != orders.size() + 1 || !param.equals(values.get(0)) || values.contains(null)) {
+                throw new ValidationException("Cursor does not belong to sort '" + param + "'", "INVALID_QUERY");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 0; i < orders.size(); i++) {
+                String property = orders.get(i).getProperty();
+                keys.put(property, KEY_PARSERS.get(property).apply(values.get(i + 1)));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IOException | RuntimeException e) {
+            throw new ValidationException("Invalid cursor", "INVALID_QUERY");
+        }
+    }
+
+    /**
+     * Sort key values of a task, in the form encodeCursor expects
+     */
+    public Map<String, Object> keysOf(Task task) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            switch (order.getProperty()) {
+                case "createdAt" -> keys.put("createdAt", task.getCreatedAt());
+                case "updatedAt" -> keys.put("updatedAt", task.getUpdatedAt());
+                case "status" -> keys.put("status", task.getStatus());
+                case "title" -> keys.put("title", task.getTitle());
+                default -> keys.put("id", task.getId());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Comparator matching this sort, for lists built in memory
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<TaskResponse> comparator() {
+        Comparator<TaskResponse> comparator = null;
+        for (Sort.Order order : sort) {
+            Function<TaskResponse, Comparable> property = (Function) DTO_PROPERTIES.get(order.getProperty());
+            Comparator<Comparable> direction = order.isAscending()
+                    ? Comparator.naturalOrder()
+                    : Comparator.reverseOrder();
+            Comparator<TaskResponse> next = Comparator.comparing(property, Comparator.nullsLast(direction));
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import com.ardentix.taskmanagement.security.WorkspaceAccess;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Workspace Member Repository Interface
+ */
+@Repository
+public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, Long> {
+
+    /**
+     * Every workspace a user belongs to, with role and owner, in one query
+     * (loads the permission cache entry for that user)
+     */
+    @Query("SELECT new com.ardentix.taskmanagement.security.WorkspaceAccess(w.id, w.name, w.owner.id, m.role) "
+            + "FROM WorkspaceMember m JOIN m.workspace w WHERE m.user.id = :userId")
+    List<WorkspaceAccess> findAccessByUserId(@Param("userId") Long userId);
+
+    /**
+     * Members of a workspace (with their user, for listing names and emails)
+     */
+    @EntityGraph(attributePaths = "user")
+    List<WorkspaceMember> findByWorkspaceIdOrderByCreatedAt(Long workspaceId);
+
+    Optional<WorkspaceMember> findByWorkspaceIdAndUserId(Long workspaceId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM WorkspaceMember m WHERE m.workspace.id = :workspaceId AND m.user.id = :userId")
+    int deleteMember(@Param("workspaceId") Long workspaceId, @Param("userId") Long userId);
+}
@@ -0,0 +1,12 @@
+package com.ardentix.taskmanagement.repository;
+
+import com.ardentix.taskmanagement.entity.Workspace;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Workspace Repository Interface
+ */
+@Repository
+public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+}
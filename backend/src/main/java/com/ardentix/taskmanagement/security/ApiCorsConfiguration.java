@@ -0,0 +1,35 @@
+package com.ardentix.taskmanagement.security;
+
+import com.ardentix.taskmanagement.config.RequestLoggingFilter;
+import com.ardentix.taskmanagement.querycount.QueryCountFilter;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * API CORS Configuration
+ *
+ * The CORS rules of the API, shared by SecurityConfig (servlet) and ReactiveSecurityConfig,
+ * so both stacks answer preflight requests the same way.
+ */
+public final class ApiCorsConfiguration {
+
+    private ApiCorsConfiguration() {
+    }
+
+    /**
+     * Allows the frontend (React) to make requests to the backend
+     */
+    public static CorsConfiguration create() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(List.of("*")); // Allow any origin during development
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*", "Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Next-Cursor", "X-Total-Count",
+                QueryCountFilter.HEADER, RequestLoggingFilter.REQUEST_ID_HEADER));
+        configuration.setAllowCredentials(false); // No cookies needed for JWT auth
+        configuration.setMaxAge(3600L); // Cache preflight for 1 hour
+        return configuration;
+    }
+}
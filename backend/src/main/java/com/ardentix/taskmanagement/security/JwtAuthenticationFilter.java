@@ -1,19 +1,31 @@
 package com.ardentix.taskmanagement.security;
 
+import com.ardentix.taskmanagement.config.RequestLoggingFilter;
+import com.ardentix.taskmanagement.service.RefreshTokenService;
 import com.ardentix.taskmanagement.util.JwtUtil;
+import com.ardentix.taskmanagement.util.LogRateLimiter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * JWT Authentication Filter
@@ -24,12 +36,39 @@ import java.util.ArrayList;
  * 3. Set authentication in Spring Security context
  * 
  * OncePerRequestFilter: Ensures filter runs only once per request
+ * 
+ * Hot path, so it does as little as possible:
+ * - Public routes are skipped in shouldNotFilter() (PublicRoutes, built once)
+ * - The token is parsed once; the principal is a small JwtPrincipal (user ID + email)
+ * - No authorities list or request details are allocated
+ * - Invalid tokens are counted, and logged at most once per interval without stack traces
+ * - Revoked token families are checked against an in-memory bloom filter first
+ * - Token validation is traced as its own "jwt authenticate" span (outcome valid/invalid)
+ * - The authentication is also kept on the request, so async dispatches (GraphQL, streamed
+ *   responses) are still authenticated without parsing the token again
+ * - Time and bytes allocated per request: JwtAuthenticationFilterBenchmark (mvn -Pjmh, see pom.xml)
  */
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    private static final String BEARER_PREFIX = "Bearer ";
+    
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final ObservationRegistry observationRegistry;
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LogRateLimiter invalidTokenLog = new LogRateLimiter(10_000);
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+    
+    /**
+     * Skip JWT filter for public endpoints
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicRoutes.INSTANCE.matches(request);
+    }
     
     @Override
     protected void doFilterInternal(
@@ -37,55 +76,70 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
         
-        // Skip JWT filter for public endpoints
-        String path = request.getRequestURI();
-        if (path.startsWith("/api/auth/") || path.startsWith("/h2-console/")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-        
         // Get Authorization header
         String authHeader = request.getHeader("Authorization");
         
         // Check if header exists and starts with "Bearer "
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
             // No token, continue to next filter
             filterChain.doFilter(request, response);
             return;
         }
         
         // Extract token (remove "Bearer " prefix)
-        String token = authHeader.substring(7);
+        String token = authHeader.substring(BEARER_PREFIX.length());
         
-        try {
-            // Validate token
-            if (jwtUtil.validateToken(token)) {
-                // Extract email from token
-                String email = jwtUtil.getEmailFromToken(token);
-                
-                // Create authentication object
-                // We don't need credentials here since token is already validated
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                email,
-                                null,
-                                new ArrayList<>() // No roles/authorities for now
-                        );
-                
-                // Set details
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                // Set authentication in Security Context
-                // This allows @PreAuthorize and other security features to work
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        Observation observation = Observation.createNotStarted("jwt.authenticate", observationRegistry)
+                .contextualName("jwt authenticate")
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            // Validate token and read claims in one parse
+            Claims claims = jwtUtil.parseClaims(token);
+            String familyId = claims.get("fid", String.class);
+            if (familyId != null && refreshTokenService.isFamilyRevoked(familyId)) {
+                throw new JwtException("Token family revoked");
             }
-        } catch (Exception e) {
+            JwtPrincipal principal = new JwtPrincipal(claims.get("userId", Long.class), claims.getSubject());
+            
+            // Create authentication object
+            // We don't need credentials here since token is already validated
+            UsernamePasswordAuthenticationToken authentication =
+                    UsernamePasswordAuthenticationToken.authenticated(
+                            principal,
+                            null,
+                            AuthorityUtils.NO_AUTHORITIES // No roles/authorities for now
+                    );
+            
+            // Set authentication in Security Context
+            // This allows @PreAuthorize and other security features to work
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
+            // Log lines of this request carry the user (removed again by RequestLoggingFilter)
+            MDC.put(RequestLoggingFilter.MDC_USER_ID, String.valueOf(principal.getUserId()));
+            observation.lowCardinalityKeyValue("outcome", "valid");
+        } catch (JwtException | IllegalArgumentException e) {
             // Invalid token, continue without authentication
-            logger.error("JWT validation failed", e);
+            observation.lowCardinalityKeyValue("outcome", "invalid");
+            invalidTokens.increment();
+            long sinceLastLog = invalidTokenLog.record();
+            if (sinceLastLog > 0) {
+                logger.warn("Rejected " + sinceLastLog + " invalid JWTs since last report ("
+                        + invalidTokens.sum() + " total), latest: " + e.getMessage());
+            }
+        } finally {
+            observation.stop();
         }
         
         // Continue filter chain
         filterChain.doFilter(request, response);
     }
+    
+    /**
+     * Number of invalid tokens seen since startup
+     */
+    public long getInvalidTokenCount() {
+        return invalidTokens.sum();
+    }
 }
-
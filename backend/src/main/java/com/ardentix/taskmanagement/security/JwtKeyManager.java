@@ -0,0 +1,223 @@
+package com.ardentix.taskmanagement.security;
+
+import com.ardentix.taskmanagement.entity.SigningKey;
+import com.ardentix.taskmanagement.repository.SigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * JWT Key Manager
+ *
+ * Asymmetric (ES256) signing keys with overlapping rotation, shared by all instances through
+ * the jwt_signing_keys table:
+ * - A successor key is created publish-ahead before the current key retires, so it appears
+ *   in /.well-known/jwks.json before any token is signed with it
+ * - A retired key keeps verifying until every token it signed has expired
+ * - Verification looks keys up by kid in an in-memory map; an unknown kid triggers at most
+ *   one reload from the database per reload interval (keys created by another instance)
+ *
+ * Private keys are stored encrypted with AES-GCM under a key derived from jwt.secret.
+ */
+@Component
+public class JwtKeyManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyManager.class);
+    private static final String ALGORITHM = "ES256";
+    private static final long RELOAD_INTERVAL_NANOS = 10_000_000_000L;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final SigningKeyRepository signingKeyRepository;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Value("${jwt.expiration}")
+    private Long accessTokenExpiration;
+
+    @Value("${jwt.keys.rotation-period-hours:168}")
+    private long rotationPeriodHours;
+
+    @Value("${jwt.keys.publish-ahead-hours:24}")
+    private long publishAheadHours;
+
+    private SecretKey encryptionKey;
+    private volatile ActiveKey activeKey;
+    private volatile List<SigningKey> publishedKeys = List.of();
+    private final Map<String, PublicKey> verificationKeys = new ConcurrentHashMap<>();
+    private volatile long lastReload;
+
+    /**
+     * Key currently used for signing
+     */
+    public record ActiveKey(String kid, PrivateKey privateKey) {
+    }
+
+    public JwtKeyManager(SigningKeyRepository signingKeyRepository) {
+        this.signingKeyRepository = signingKeyRepository;
+    }
+
+    @PostConstruct
+    void init() throws GeneralSecurityException {
+        byte[] derived = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        encryptionKey = new SecretKeySpec(derived, "AES");
+        rotate();
+    }
+
+    /**
+     * Creates the first key or the successor key when due, then reloads all keys
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.check-ms:300000}", initialDelayString = "${jwt.keys.check-ms:300000}")
+    public synchronized void rotate() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SigningKey> keys = signingKeyRepository.findByExpiresAtAfterOrderByActivatesAtAsc(now);
+
+        SigningKey current = keys.stream()
+                .filter(key -> !key.getActivatesAt().isAfter(now) && key.getRetiresAt().isAfter(now))
+                .reduce((first, second) -> second)
+                .orElse(null);
+        if (current == null) {
+            current = createKey(now);
+            keys = signingKeyRepository.findByExpiresAtAfterOrderByActivatesAtAsc(now);
+        }
+
+        LocalDateTime currentRetires = current.getRetiresAt();
+        boolean hasSuccessor = keys.stream().anyMatch(key -> !key.getActivatesAt().isBefore(currentRetires));
+        if (!hasSuccessor && now.isAfter(currentRetires.minusHours(publishAheadHours))) {
+            createKey(currentRetires);
+        }
+        reload();
+    }
+
+    public ActiveKey activeKey() {
+        return activeKey;
+    }
+
+    /**
+     * When the first ES256 key became active: the switch away from HMAC-signed tokens
+     */
+    public LocalDateTime firstKeyActivatesAt() {
+        return signingKeyRepository.findFirstByOrderByActivatesAtAsc()
+                .map(SigningKey::getActivatesAt)
+                .orElseGet(LocalDateTime::now);
+    }
+
+    /**
+     * Public key for a kid, or null if no such key exists
+     */
+    public PublicKey verificationKey(String kid) {
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null && System.nanoTime() - lastReload > RELOAD_INTERVAL_NANOS) {
+            reload();
+            key = verificationKeys.get(kid);
+        }
+        return key;
+    }
+
+    /**
+     * Keys to publish in the JWKS (upcoming, active and verify-only)
+     */
+    public List<SigningKey> publishedKeys() {
+        return publishedKeys;
+    }
+
+    public PublicKey decodePublicKey(SigningKey key) {
+        try {
+            return KeyFactory.getInstance("EC")
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid public key " + key.getKid(), e);
+        }
+    }
+
+    private synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SigningKey> keys = signingKeyRepository.findByExpiresAtAfterOrderByActivatesAtAsc(now);
+
+        Map<String, PublicKey> decoded = keys.stream()
+                .collect(Collectors.toMap(SigningKey::getKid, this::decodePublicKey));
+        verificationKeys.putAll(decoded);
+        verificationKeys.keySet().retainAll(decoded.keySet());
+        publishedKeys = List.copyOf(keys);
+
+        keys.stream()
+                .filter(key -> !key.getActivatesAt().isAfter(now) && key.getRetiresAt().isAfter(now))
+                .reduce((first, second) -> second)
+                .map(key -> new ActiveKey(key.getKid(), decodePrivateKey(key)))
+                .ifPresent(key -> activeKey = key);
+        lastReload = System.nanoTime();
+    }
+
+    private SigningKey createKey(LocalDateTime activatesAt) {
+        KeyPair pair = Jwts.SIG.ES256.keyPair().build();
+
+        SigningKey key = new SigningKey();
+        key.setKid(UUID.randomUUID().toString());
+        key.setAlgorithm(ALGORITHM);
+        key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+        key.setPrivateKey(encrypt(pair.getPrivate().getEncoded()));
+        key.setActivatesAt(activatesAt);
+        key.setRetiresAt(activatesAt.plusHours(rotationPeriodHours));
+        // Tokens signed just before retirement must still verify until they expire
+        key.setExpiresAt(key.getRetiresAt().plusNanos(accessTokenExpiration * 1_000_000).plusMinutes(5));
+        logger.info("Created JWT signing key {} active from {}", key.getKid(), activatesAt);
+        return signingKeyRepository.save(key);
+    }
+
+    private PrivateKey decodePrivateKey(SigningKey key) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decrypt(key.getPrivateKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decrypt signing key " + key.getKid()
+                    + " (was jwt.secret changed?)", e);
+        }
+    }
+
+    private String encrypt(byte[] plain) {
+        try {
+            byte[] iv = new byte[12];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(128, iv));
+            byte[] encrypted = cipher.doFinal(plain);
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + encrypted.length)
+                    .put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt signing key", e);
+        }
+    }
+
+    private byte[] decrypt(String stored) throws GeneralSecurityException {
+        byte[] bytes = Base64.getDecoder().decode(stored);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(128, bytes, 0, 12));
+        return cipher.doFinal(bytes, 12, bytes.length - 12);
+    }
+}
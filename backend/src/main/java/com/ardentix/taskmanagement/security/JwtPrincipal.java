@@ -0,0 +1,58 @@
+package com.ardentix.taskmanagement.security;
+
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * JWT Principal
+ *
+ * The authenticated user as read from a validated token: ID and email, nothing else.
+ * getName() returns the email, so authentication.getName() keeps working everywhere,
+ * and code that only needs the user ID does not have to look the user up.
+ */
+public final class JwtPrincipal implements Principal, Serializable {
+
+    private final Long userId;
+    private final String email;
+
+    public JwtPrincipal(Long userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+
+    /**
+     * The JwtPrincipal behind a controller's Principal argument
+     * (WebFlux and Spring GraphQL pass the Authentication itself)
+     */
+    public static JwtPrincipal from(Principal principal) {
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal;
+        }
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal;
+        }
+        throw new UnauthorizedException("User not authenticated");
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ardentix.taskmanagement.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Login Attempt Guard
+ *
+ * Failed attempts per email and per client IP, with exponential lockout:
+ * after login.free-attempts failures, each further failure doubles the lockout
+ * (1s, 2s, 4s, ...) up to login.max-lockout-seconds.
+ *
+ * - A successful login clears the email's counter only; the IP keeps its count, so one
+ *   valid account cannot reset the throttle for guesses against other accounts
+ * - Bounded in memory (oldest entries are evicted first)
+ *
+ * State is per instance and lost on restart, which is acceptable for throttling.
+ */
+@Component
+public class LoginAttemptGuard {
+
+    private final Map<String, Attempts> attempts;
+
+    @Value("${login.free-attempts:5}")
+    private int freeAttempts;
+
+    @Value("${login.max-lockout-seconds:900}")
+    private long maxLockoutSeconds;
+
+    public LoginAttemptGuard(@Value("${login.cache-size:100000}") int cacheSize) {
+        this.attempts = lruMap(cacheSize);
+    }
+
+    private static final class Attempts {
+        private int failures;
+        private long lockedUntilMillis;
+    }
+
+    /**
+     * Seconds until the email or IP may try again (0 = allowed now)
+     */
+    public synchronized long secondsLocked(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        long until = Math.max(lockedUntil("email:" + email), lockedUntil("ip:" + clientIp));
+        return until > now ? (until - now + 999) / 1000 : 0;
+    }
+
+    public synchronized void recordFailure(String email, String clientIp) {
+        fail("email:" + email);
+        fail("ip:" + clientIp);
+    }
+
+    public synchronized void recordSuccess(String email) {
+        attempts.remove("email:" + email);
+    }
+
+    private long lockedUntil(String key) {
+        Attempts entry = attempts.get(key);
+        return entry == null ? 0 : entry.lockedUntilMillis;
+    }
+
+    private void fail(String key) {
+        Attempts entry = attempts.computeIfAbsent(key, k -> new Attempts());
+        entry.failures++;
+        int overLimit = entry.failures - freeAttempts;
+        if (overLimit > 0) {
+            long lockoutSeconds = Math.min(maxLockoutSeconds, 1L << Math.min(overLimit - 1, 30));
+            entry.lockedUntilMillis = System.currentTimeMillis() + lockoutSeconds * 1000;
+        }
+    }
+
+    private static Map<String, Attempts> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Attempts> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
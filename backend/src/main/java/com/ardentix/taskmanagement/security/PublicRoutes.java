@@ -0,0 +1,44 @@
+package com.ardentix.taskmanagement.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * Public Routes
+ *
+ * Paths that never carry a JWT, matched by plain prefix checks against
+ * a list built once at startup (no pattern parsing per request).
+ * JwtAuthenticationFilter skips these entirely via shouldNotFilter(),
+ * ReactiveJwtAuthenticationFilter via matches(path).
+ */
+public final class PublicRoutes implements RequestMatcher {
+
+    private static final String[] PREFIXES = {
+            "/api/auth/",
+            "/h2-console/",
+            "/.well-known/",
+            "/actuator/health"
+    };
+
+    public static final PublicRoutes INSTANCE = new PublicRoutes();
+
+    private PublicRoutes() {
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getRequestURI());
+    }
+
+    /**
+     * Same check on a plain request path (used by the reactive JWT filter)
+     */
+    public boolean matches(String path) {
+        for (String prefix : PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,25 +1,24 @@
 package com.ardentix.taskmanagement.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * Security Configuration
  * 
@@ -31,8 +30,12 @@ import java.util.List;
  * - CORS (Cross-Origin Resource Sharing)
  * - Which endpoints are public vs protected
  * - JWT filter integration
+ * - 401 for requests without a valid token (missing, expired or bad), so clients refresh
+ *
+ * Servlet stack only; the reactive profile uses ReactiveSecurityConfig.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
@@ -66,16 +69,8 @@ public class SecurityConfig {
      */
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
-        CorsConfiguration configuration = new CorsConfiguration();
-        configuration.setAllowedOriginPatterns(List.of("*")); // Allow any origin during development
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("*", "Authorization", "Content-Type"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
-        configuration.setAllowCredentials(false); // No cookies needed for JWT auth
-        configuration.setMaxAge(3600L); // Cache preflight for 1 hour
-        
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", configuration);
+        source.registerCorsConfiguration("/**", ApiCorsConfiguration.create());
         return source;
     }
     
@@ -106,11 +101,20 @@ public class SecurityConfig {
                 // Allow H2 console access (for debugging)
                 .requestMatchers("/h2-console/**").permitAll()
                 // Public endpoints (no authentication required)
-                .requestMatchers("/api/auth/register", "/api/auth/login").permitAll()
+                .requestMatchers("/api/auth/register", "/api/auth/login",
+                        "/api/auth/refresh", "/api/auth/logout").permitAll()
+                // Public signing keys (JWKS) for token verification elsewhere
+                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+                // Health probes for the platform (liveness/readiness, no details)
+                .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
             
+            // No token, or an expired/invalid one: 401 (the frontend refreshes and retries on 401)
+            .exceptionHandling(errors -> errors
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            
             // Add JWT filter before UsernamePasswordAuthenticationFilter
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
@@ -0,0 +1,12 @@
+package com.ardentix.taskmanagement.security;
+
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+
+/**
+ * Workspace Access
+ *
+ * One cached membership: the user's role in a workspace, plus the owner's ID
+ * (workspace tasks are stored under the owner, which also picks the shard).
+ */
+public record WorkspaceAccess(Long workspaceId, String workspaceName, Long ownerId, WorkspaceMember.Role role) {
+}
@@ -0,0 +1,113 @@
+package com.ardentix.taskmanagement.security;
+
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.repository.WorkspaceMemberRepository;
+import com.ardentix.taskmanagement.sharding.ShardDataSources;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Workspace Permission Resolver
+ *
+ * Answers "may this user do X in workspace W?" from an in-memory cache of each user's
+ * memberships, so task reads do not join workspace_members or run an extra query.
+ *
+ * - A user's memberships are loaded with one query on first use and kept (LRU, bounded)
+ * - WorkspaceService invalidates a user's entry whenever their membership changes
+ * - Entries also expire after workspace.permission-cache.ttl-seconds, which bounds how long
+ *   another instance can serve a revoked membership
+ */
+@Component
+public class WorkspacePermissionResolver {
+
+    private final WorkspaceMemberRepository memberRepository;
+    private final ShardRouter shardRouter;
+    private final Map<Long, CachedMemberships> cache;
+
+    /**
+     * Bumped on every invalidation; a load that started before it is not cached
+     */
+    private long generation;
+
+    @Value("${workspace.permission-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public WorkspacePermissionResolver(WorkspaceMemberRepository memberRepository, ShardRouter shardRouter,
+                                       @Value("${workspace.permission-cache.size:10000}") int cacheSize) {
+        this.memberRepository = memberRepository;
+        this.shardRouter = shardRouter;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedMemberships> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    private record CachedMemberships(Map<Long, WorkspaceAccess> byWorkspace, long expiresAtMillis) {
+    }
+
+    /**
+     * All workspaces the user belongs to, keyed by workspace ID
+     */
+    public Map<Long, WorkspaceAccess> memberships(Long userId) {
+        long loadGeneration;
+        synchronized (this) {
+            CachedMemberships cached = cache.get(userId);
+            if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached.byWorkspace();
+            }
+            loadGeneration = generation;
+        }
+
+        Map<Long, WorkspaceAccess> byWorkspace = new HashMap<>();
+        // Workspaces and memberships live in the directory database
+        try (ShardScope directory = shardRouter.forShard(ShardDataSources.DIRECTORY_SHARD)) {
+            for (WorkspaceAccess access : memberRepository.findAccessByUserId(userId)) {
+                byWorkspace.put(access.workspaceId(), access);
+            }
+        }
+        Map<Long, WorkspaceAccess> memberships = Collections.unmodifiableMap(byWorkspace);
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                cache.put(userId, new CachedMemberships(memberships, System.currentTimeMillis() + ttlSeconds * 1000));
+            }
+        }
+        return memberships;
+    }
+
+    /**
+     * Returns the user's access to the workspace if their role is at least the required one
+     *
+     * Non-members get "Workspace not found" (existence is not revealed);
+     * members with a lower role get AccessDeniedException
+     */
+    public WorkspaceAccess require(Long userId, Long workspaceId, WorkspaceMember.Role required) {
+        WorkspaceAccess access = memberships(userId).get(workspaceId);
+        if (access == null) {
+            throw new NotFoundException("Workspace not found");
+        }
+        if (!access.role().allows(required)) {
+            throw new AccessDeniedException("This action needs the " + required + " role in the workspace");
+        }
+        return access;
+    }
+
+    /**
+     * Drops the cached memberships of a user (call after any change to them)
+     */
+    public synchronized void invalidate(Long userId) {
+        generation++;
+        cache.remove(userId);
+    }
+}
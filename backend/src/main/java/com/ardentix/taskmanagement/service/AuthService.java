@@ -2,14 +2,26 @@ package com.ardentix.taskmanagement.service;
 
 import com.ardentix.taskmanagement.dto.AuthResponse;
 import com.ardentix.taskmanagement.dto.LoginRequest;
+import com.ardentix.taskmanagement.dto.RefreshTokenRequest;
 import com.ardentix.taskmanagement.dto.RegisterRequest;
 import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.TooManyRequestsException;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
 import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.security.LoginAttemptGuard;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
 import com.ardentix.taskmanagement.util.JwtUtil;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * Authentication Service
  * 
@@ -21,31 +33,43 @@ import org.springframework.stereotype.Service;
  * - Validates business rules
  * - Coordinates between repository and controller
  * - Handles exceptions
+ *
+ * @Observed: each public method call is traced as a span and timed ("auth.service")
  */
 @Service
+@Observed(name = "auth.service")
 @RequiredArgsConstructor
 public class AuthService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // BCrypt password encoder
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final ShardRouter shardRouter;
+    private final LoginAttemptGuard loginAttemptGuard;
+    
+    /**
+     * BCrypt hash of a random password, compared against when the email is unknown
+     * so a failed login takes the same time whether or not the account exists
+     */
+    private String dummyPasswordHash;
+    
+    @PostConstruct
+    void initDummyPasswordHash() {
+        dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
     
     /**
      * Registers a new user
      * 
      * Steps:
-     * 1. Check if email already exists
-     * 2. Encrypt password using BCrypt
-     * 3. Save user to database
-     * 4. Generate JWT token
-     * 5. Return token and user info
+     * 1. Encrypt password using BCrypt
+     * 2. Save user to database (the unique constraint on email rejects duplicates,
+     *    so there is no separate "exists?" query that could race with another registration)
+     * 3. Generate JWT token
+     * 4. Return token and user info
      */
     public AuthResponse register(RegisterRequest request) {
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already registered");
-        }
-        
         // Create new user
         User user = new User();
         user.setName(request.getName());
@@ -55,41 +79,82 @@ public class AuthService {
         // Never store plain text passwords!
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         
-        // Save to database
-        user = userRepository.save(user);
+        // Save to database (single INSERT)
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Email already registered", "REGISTRATION_ERROR", e);
+        }
         
-        // Generate JWT token
-        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        // Make the user row available on the shard that will hold their tasks
+        shardRouter.onUserRegistered(user);
         
-        // Return response
-        return new AuthResponse(token, user.getEmail(), user.getName(), user.getId());
+        // Generate access token + refresh token
+        return createSession(user);
     }
     
     /**
      * Authenticates user login
      * 
      * Steps:
-     * 1. Find user by email
-     * 2. Verify password matches
-     * 3. Generate JWT token
-     * 4. Return token and user info
+     * 1. Reject if the email or client IP is locked out after repeated failures (429 with Retry-After)
+     * 2. Find user by email
+     * 3. Verify password matches (against a dummy hash if the user does not exist,
+     *    so both paths cost one BCrypt comparison)
+     * 4. Generate JWT token
+     * 5. Return token and user info
      */
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        String email = request.getEmail();
+        long lockedSeconds = loginAttemptGuard.secondsLocked(email, clientIp);
+        if (lockedSeconds > 0) {
+            throw new TooManyRequestsException("Too many failed attempts, try again in " + lockedSeconds + " seconds",
+                    "LOGIN_LOCKED", lockedSeconds);
+        }
+        
         // Find user by email
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid email or password"));
+        Optional<User> user = userRepository.findByEmail(email);
         
         // Verify password
         // passwordEncoder.matches() compares plain text with encrypted password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid email or password");
-        }
+        String passwordHash = user.map(User::getPassword).orElse(dummyPasswordHash);
+        boolean passwordMatches = passwordEncoder.matches(request.getPassword(), passwordHash);
         
-        // Generate JWT token
-        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        if (user.isEmpty() || !passwordMatches) {
+            loginAttemptGuard.recordFailure(email, clientIp);
+            throw new UnauthorizedException("Invalid email or password", "LOGIN_ERROR");
+        }
+        loginAttemptGuard.recordSuccess(email);
         
-        // Return response
-        return new AuthResponse(token, user.getEmail(), user.getName(), user.getId());
+        // Generate access token + refresh token
+        return createSession(user.get());
+    }
+    
+    /**
+     * Exchanges a refresh token for a new access token + refresh token (rotation)
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.IssuedToken refreshToken = refreshTokenService.rotate(request.getRefreshToken());
+        return toResponse(refreshToken);
+    }
+    
+    /**
+     * Logout: revokes the refresh token family and every access token issued from it
+     */
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+    
+    /**
+     * Starts a new token family for the user
+     */
+    private AuthResponse createSession(User user) {
+        return toResponse(refreshTokenService.issue(user));
+    }
+    
+    private AuthResponse toResponse(RefreshTokenService.IssuedToken refreshToken) {
+        User user = refreshToken.user();
+        String token = jwtUtil.generateToken(user.getEmail(), user.getId(), refreshToken.familyId());
+        return new AuthResponse(token, refreshToken.token(), user.getEmail(), user.getName(), user.getId());
     }
 }
-
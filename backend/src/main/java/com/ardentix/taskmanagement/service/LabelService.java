@@ -0,0 +1,135 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.LabelRequest;
+import com.ardentix.taskmanagement.dto.LabelResponse;
+import com.ardentix.taskmanagement.entity.Label;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.repository.LabelRepository;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Label Service
+ *
+ * Labels belong to a user and can be put on their personal tasks.
+ * Labels live on the user's shard, next to the tasks they tag.
+ * Every change is also applied to TaskBitmapIndex.
+ */
+@Service
+@RequiredArgsConstructor
+public class LabelService {
+
+    private final LabelRepository labelRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * The user's labels by name, with how many tasks carry each one
+     */
+    public List<LabelResponse> getLabels(Long userId) {
+        Map<Long, Long> counts = taskBitmapIndex.countsByLabel(userId);
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            return labelRepository.findByUserOrderByName(user).stream()
+                    .map(label -> convertToResponse(label, counts.getOrDefault(label.getId(), 0L)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public LabelResponse createLabel(LabelRequest request, Long userId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            Label label = new Label();
+            label.setUser(userRepository.getReferenceById(userId));
+            label.setName(request.getName());
+            label.setColor(request.getColor());
+            try {
+                label = labelRepository.saveAndFlush(label);
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("Label already exists", "LABEL_ERROR", e);
+            }
+            return convertToResponse(label, 0);
+        }
+    }
+
+    /**
+     * Deletes a label and removes it from all tasks
+     */
+    public void deleteLabel(Long labelId, Long userId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            transactionTemplate.executeWithoutResult(status -> {
+                Label label = labelRepository.findByIdAndUser(labelId, user)
+                        .orElseThrow(() -> new NotFoundException("Label not found"));
+                labelRepository.deleteAssignments(label.getId());
+                labelRepository.delete(label);
+            });
+        }
+        taskBitmapIndex.onLabelDeleted(userId, labelId);
+    }
+
+    /**
+     * Labels on one of the user's personal tasks
+     */
+    public List<LabelResponse> getTaskLabels(Long taskId, Long userId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            List<LabelResponse> labels = transactionTemplate.execute(status -> {
+                Task task = taskRepository.findByIdAndUserAndWorkspaceIdIsNull(taskId, user)
+                        .orElseThrow(() -> new NotFoundException("Task not found"));
+                return task.getLabels().stream()
+                        .map(label -> convertToResponse(label, 0))
+                        .sorted((a, b) -> a.getName().compareToIgnoreCase(b.getName()))
+                        .collect(Collectors.toList());
+            });
+            return labels;
+        }
+    }
+
+    /**
+     * Replaces the labels of one of the user's personal tasks
+     */
+    public List<LabelResponse> setTaskLabels(Long taskId, List<Long> labelIds, Long userId) {
+        Set<Long> wanted = new HashSet<>(labelIds);
+        List<LabelResponse> labels;
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            labels = transactionTemplate.execute(status -> {
+                Task task = taskRepository.findByIdAndUserAndWorkspaceIdIsNull(taskId, user)
+                        .orElseThrow(() -> new NotFoundException("Task not found"));
+                List<Label> found = wanted.isEmpty() ? List.of() : labelRepository.findByUserAndIdIn(user, wanted);
+                if (found.size() != wanted.size()) {
+                    throw new NotFoundException("Label not found");
+                }
+                task.setLabels(new HashSet<>(found));
+                taskRepository.save(task);
+                return found.stream()
+                        .map(label -> convertToResponse(label, 0))
+                        .collect(Collectors.toList());
+            });
+        }
+        taskBitmapIndex.onTaskLabelsChanged(userId, taskId, wanted);
+        return labels;
+    }
+
+    private LabelResponse convertToResponse(Label label, long taskCount) {
+        return new LabelResponse(label.getId(), label.getName(), label.getColor(), taskCount);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.entity.TaskRecurrence;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Occurrence Generator
+ *
+ * Computes the occurrences of a TaskRecurrence rule inside a time window, without storing anything.
+ * Each step jumps straight to the next occurrence (arithmetic for DAILY/WEEKLY, CronExpression.next
+ * for CRON), so the cost depends on the number of occurrences in the window, not on how long ago
+ * the schedule started.
+ */
+public class OccurrenceGenerator {
+
+    private static final String INVALID_RECURRENCE = "INVALID_RECURRENCE";
+
+    private final TaskRecurrence rule;
+    private final Set<DayOfWeek> days;
+    private final CronExpression cron;
+    private final LocalDate anchorMonday;
+    private final LocalTime timeOfDay;
+
+    private OccurrenceGenerator(TaskRecurrence rule, Set<DayOfWeek> days, CronExpression cron) {
+        this.rule = rule;
+        this.days = days;
+        this.cron = cron;
+        this.anchorMonday = rule.getStartsAt().toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        this.timeOfDay = rule.getStartsAt().toLocalTime();
+    }
+
+    /**
+     * Validates a rule and prepares it for expansion
+     *
+     * @throws ValidationException if the rule is incomplete or the cron expression is invalid
+     */
+    public static OccurrenceGenerator of(TaskRecurrence rule) {
+        if (rule.getFrequency() == null || rule.getStartsAt() == null) {
+            throw new ValidationException("Recurrence needs a frequency and a start", INVALID_RECURRENCE);
+        }
+        if (rule.getInterval() < 1) {
+            throw new ValidationException("Recurrence interval must be at least 1", INVALID_RECURRENCE);
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        CronExpression cron = null;
+        switch (rule.getFrequency()) {
+            case WEEKLY -> {
+                if (rule.getDaysOfWeek() != null && !rule.getDaysOfWeek().isBlank()) {
+                    for (String day : rule.getDaysOfWeek().split(",")) {
+                        try {
+                            days.add(DayOfWeek.valueOf(day.trim().toUpperCase()));
+                        } catch (IllegalArgumentException e) {
+                            throw new ValidationException("Unknown day of week '" + day.trim() + "'", INVALID_RECURRENCE);
+                        }
+                    }
+                }
+                if (days.isEmpty()) {
+                    days.add(rule.getStartsAt().getDayOfWeek());
+                }
+            }
+            case CRON -> {
+                if (rule.getCronExpression() == null) {
+                    throw new ValidationException("CRON recurrence needs a cron expression", INVALID_RECURRENCE);
+                }
+                try {
+                    cron = CronExpression.parse(rule.getCronExpression());
+                } catch (IllegalArgumentException e) {
+                    throw new ValidationException("Invalid cron expression: " + e.getMessage(), INVALID_RECURRENCE);
+                }
+            }
+            default -> {
+            }
+        }
+        return new OccurrenceGenerator(rule, days, cron);
+    }
+
+    /**
+     * Occurrences in [from, to), at most max of them
+     *
+     * @throws ValidationException if the window holds more than max occurrences
+     */
+    public List<LocalDateTime> between(LocalDateTime from, LocalDateTime to, int max) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDateTime next = nextAfter(from.minusNanos(1));
+        while (next != null && next.isBefore(to)) {
+            if (occurrences.size() == max) {
+                throw new ValidationException("Too many occurrences in this window, use a shorter one", "INVALID_QUERY");
+            }
+            occurrences.add(next);
+            next = nextAfter(next);
+        }
+        return occurrences;
+    }
+
+    /**
+     * Is this an actual occurrence of the rule?
+     */
+    public boolean isOccurrence(LocalDateTime time) {
+        return time.equals(nextAfter(time.minusNanos(1)));
+    }
+
+    /**
+     * First occurrence strictly after the given time, or null when the rule has ended
+     */
+    LocalDateTime nextAfter(LocalDateTime after) {
+        LocalDateTime start = rule.getStartsAt();
+        if (after.isBefore(start)) {
+            after = start.minusNanos(1);
+        }
+        LocalDateTime next = switch (rule.getFrequency()) {
+            case DAILY -> nextDaily(after);
+            case WEEKLY -> nextWeekly(after);
+            case CRON -> cron.next(after);
+        };
+        if (next == null || (rule.getEndsAt() != null && next.isAfter(rule.getEndsAt()))) {
+            return null;
+        }
+        return next;
+    }
+
+    private LocalDateTime nextDaily(LocalDateTime after) {
+        LocalDateTime start = rule.getStartsAt();
+        int interval = rule.getInterval();
+        long steps = Math.max(0, ChronoUnit.DAYS.between(start, after) / interval);
+        LocalDateTime next = start.plusDays(steps * interval);
+        while (!next.isAfter(after)) {
+            next = next.plusDays(interval);
+        }
+        return next;
+    }
+
+    /**
+     * Walks day by day through weeks that are on the schedule (every interval-th week from the start)
+     * and jumps over the weeks that are not, so at most two weeks are looked at
+     */
+    private LocalDateTime nextWeekly(LocalDateTime after) {
+        int interval = rule.getInterval();
+        LocalDate date = after.toLocalDate();
+        for (int i = 0; i < 32; i++) {
+            long week = ChronoUnit.WEEKS.between(anchorMonday, date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+            // floorMod: the week before the start (week -1) must not count as off-schedule by -1
+            long offset = Math.floorMod(week, interval);
+            if (offset != 0) {
+                date = anchorMonday.plusWeeks(week + interval - offset);
+                continue;
+            }
+            if (days.contains(date.getDayOfWeek())) {
+                LocalDateTime candidate = date.atTime(timeOfDay);
+                if (candidate.isAfter(after)) {
+                    return candidate;
+                }
+            }
+            date = date.plusDays(1);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,326 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.OccurrenceRequest;
+import com.ardentix.taskmanagement.dto.OccurrenceResponse;
+import com.ardentix.taskmanagement.dto.RecurrenceRequest;
+import com.ardentix.taskmanagement.dto.RecurrenceResponse;
+import com.ardentix.taskmanagement.dto.RecurrenceStats;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.TaskOccurrence;
+import com.ardentix.taskmanagement.entity.TaskRecurrence;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import com.ardentix.taskmanagement.repository.TaskOccurrenceRepository;
+import com.ardentix.taskmanagement.repository.TaskRecurrenceRepository;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Recurrence Service
+ *
+ * A recurring task is a normal personal task (the template) plus a TaskRecurrence rule.
+ * Reading a window expands every rule on the fly with OccurrenceGenerator and lays the stored
+ * occurrences over the computed ones, so storage grows with what users actually do
+ * (changed or completed occurrences), not with the length of the schedule.
+ *
+ * Windows are limited to recurrence.max-window-days and recurrence.max-occurrences,
+ * so a single request cannot expand an unbounded schedule.
+ */
+@Service
+public class RecurrenceService {
+
+    private final TaskRecurrenceRepository recurrenceRepository;
+    private final TaskOccurrenceRepository occurrenceRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${recurrence.max-window-days:366}")
+    private int maxWindowDays;
+
+    @Value("${recurrence.max-occurrences:5000}")
+    private int maxOccurrences;
+
+    public RecurrenceService(TaskRecurrenceRepository recurrenceRepository, TaskOccurrenceRepository occurrenceRepository,
+                             TaskRepository taskRepository, UserRepository userRepository,
+                             ShardRouter shardRouter, TransactionTemplate transactionTemplate) {
+        this.recurrenceRepository = recurrenceRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * The user's recurring tasks
+     */
+    public List<RecurrenceResponse> getRecurrences(Long userId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            List<TaskRecurrence> rules = recurrenceRepository.findByUserId(userId);
+            Map<Long, Task> templates = findTemplates(userId, rules);
+            return rules.stream()
+                    .filter(rule -> templates.containsKey(rule.getTaskId()))
+                    .map(rule -> convertToResponse(rule, templates.get(rule.getTaskId())))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Makes a personal task recurring, or replaces its rule
+     * Stored occurrences are kept: they are real activity, even if they no longer fall on the schedule
+     *
+     * @throws ValidationException if the rule is invalid (e.g. a bad cron expression)
+     */
+    public RecurrenceResponse setRecurrence(Long userId, Long taskId, RecurrenceRequest request) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            Task template = findTemplate(userId, taskId);
+
+            TaskRecurrence rule = recurrenceRepository.findByTaskId(taskId).orElseGet(TaskRecurrence::new);
+            rule.setTaskId(taskId);
+            rule.setUserId(userId);
+            rule.setFrequency(request.getFrequency());
+            rule.setInterval(request.getInterval());
+            rule.setDaysOfWeek(request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty() ? null
+                    : request.getDaysOfWeek().stream().map(DayOfWeek::name).collect(Collectors.joining(",")));
+            rule.setCronExpression(request.getCronExpression());
+            LocalDateTime startsAt = request.getStartsAt();
+            if (startsAt == null) {
+                startsAt = template.getDueAt() != null ? template.getDueAt() : LocalDateTime.now().withNano(0);
+            }
+            rule.setStartsAt(startsAt);
+            rule.setEndsAt(request.getEndsAt());
+            OccurrenceGenerator.of(rule); // validate before saving
+
+            try {
+                rule = recurrenceRepository.saveAndFlush(rule);
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("Task already has a recurrence", "RECURRENCE_ERROR", e);
+            }
+            return convertToResponse(rule, template);
+        }
+    }
+
+    /**
+     * Stops a task from recurring and forgets its stored occurrences
+     */
+    public void removeRecurrence(Long userId, Long taskId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            findTemplate(userId, taskId);
+            onTaskDeleted(taskId);
+        }
+    }
+
+    /**
+     * All occurrences of the user's recurring tasks in [from, to), by time
+     */
+    public List<OccurrenceResponse> getOccurrences(Long userId, LocalDateTime from, LocalDateTime to) {
+        checkWindow(from, to);
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            return expand(userId, from, to);
+        }
+    }
+
+    /**
+     * The same occurrences as task list entries, for GET /api/tasks?from=...&to=...
+     * Each has the template's id, occursAt set and dueAt = occursAt
+     */
+    public List<TaskResponse> getOccurrenceTasks(Long userId, LocalDateTime from, LocalDateTime to) {
+        return getOccurrences(userId, from, to).stream()
+                .map(occurrence -> {
+                    TaskResponse task = new TaskResponse();
+                    task.setId(occurrence.getTaskId());
+                    task.setTitle(occurrence.getTitle());
+                    task.setDescription(occurrence.getDescription());
+                    task.setStatus(occurrence.getStatus());
+                    task.setPriority(occurrence.getPriority());
+                    task.setDueAt(occurrence.getOccursAt());
+                    task.setOccursAt(occurrence.getOccursAt());
+                    return task;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts occurrences by status over [from, to), from the same expansion as getOccurrences
+     */
+    public RecurrenceStats getStats(Long userId, LocalDateTime from, LocalDateTime to) {
+        checkWindow(from, to);
+        List<OccurrenceResponse> occurrences;
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            occurrences = expand(userId, from, to);
+        }
+        Map<Task.TaskStatus, Long> byStatus = occurrences.stream()
+                .collect(Collectors.groupingBy(OccurrenceResponse::getStatus, Collectors.counting()));
+        long total = occurrences.size();
+        long completed = byStatus.getOrDefault(Task.TaskStatus.COMPLETED, 0L);
+        long stored = occurrences.stream().filter(OccurrenceResponse::isStored).count();
+        return new RecurrenceStats(from, to, total,
+                byStatus.getOrDefault(Task.TaskStatus.PENDING, 0L),
+                byStatus.getOrDefault(Task.TaskStatus.IN_PROGRESS, 0L),
+                completed, stored,
+                total == 0 ? 0 : (double) completed / total);
+    }
+
+    /**
+     * Changes or completes one occurrence; this is the only place occurrences get stored
+     * Setting an occurrence back to the template's values removes the stored row again
+     */
+    public OccurrenceResponse updateOccurrence(Long userId, Long taskId, LocalDateTime occursAt,
+                                               OccurrenceRequest request) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            Task template = findTemplate(userId, taskId);
+            TaskRecurrence rule = recurrenceRepository.findByTaskId(taskId)
+                    .orElseThrow(() -> new NotFoundException("Task is not recurring"));
+            if (!OccurrenceGenerator.of(rule).isOccurrence(occursAt)) {
+                throw new ValidationException("Task does not occur at " + occursAt, "INVALID_OCCURRENCE");
+            }
+
+            return transactionTemplate.execute(status -> {
+                TaskOccurrence occurrence = occurrenceRepository.findByTaskIdAndOccursAt(taskId, occursAt)
+                        .orElse(null);
+                boolean unchanged = request.getStatus() == Task.TaskStatus.PENDING
+                        && request.getTitle() == null && request.getDescription() == null;
+                if (unchanged) {
+                    if (occurrence != null) {
+                        occurrenceRepository.delete(occurrence);
+                    }
+                    return toOccurrence(template, occursAt, null);
+                }
+
+                if (occurrence == null) {
+                    occurrence = new TaskOccurrence();
+                    occurrence.setTaskId(taskId);
+                    occurrence.setUserId(userId);
+                    occurrence.setOccursAt(occursAt);
+                }
+                occurrence.setStatus(request.getStatus());
+                occurrence.setTitle(request.getTitle());
+                occurrence.setDescription(request.getDescription());
+                return toOccurrence(template, occursAt, occurrenceRepository.save(occurrence));
+            });
+        }
+    }
+
+    /**
+     * Removes the rule and stored occurrences of a deleted template task
+     * Runs on the caller's shard
+     */
+    public void onTaskDeleted(Long taskId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            occurrenceRepository.deleteByTemplate(taskId);
+            recurrenceRepository.deleteByTaskId(taskId);
+        });
+    }
+
+    /**
+     * Computed occurrences with stored ones laid over them, plus stored occurrences that
+     * are no longer on the schedule (the rule changed after they were completed)
+     */
+    private List<OccurrenceResponse> expand(Long userId, LocalDateTime from, LocalDateTime to) {
+        List<TaskRecurrence> rules = recurrenceRepository.findByUserId(userId);
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> templates = findTemplates(userId, rules);
+        Map<Long, Map<LocalDateTime, TaskOccurrence>> stored = new HashMap<>();
+        for (TaskOccurrence occurrence : occurrenceRepository.findInWindow(userId, from, to)) {
+            stored.computeIfAbsent(occurrence.getTaskId(), id -> new HashMap<>())
+                    .put(occurrence.getOccursAt(), occurrence);
+        }
+
+        List<OccurrenceResponse> occurrences = new ArrayList<>();
+        for (TaskRecurrence rule : rules) {
+            Task template = templates.get(rule.getTaskId());
+            if (template == null) {
+                continue;
+            }
+            Map<LocalDateTime, TaskOccurrence> overrides = stored.getOrDefault(rule.getTaskId(), new HashMap<>());
+            int budget = maxOccurrences - occurrences.size();
+            for (LocalDateTime occursAt : OccurrenceGenerator.of(rule).between(from, to, budget)) {
+                occurrences.add(toOccurrence(template, occursAt, overrides.remove(occursAt)));
+            }
+            for (TaskOccurrence leftover : overrides.values()) {
+                occurrences.add(toOccurrence(template, leftover.getOccursAt(), leftover));
+            }
+        }
+        occurrences.sort(Comparator.comparing(OccurrenceResponse::getOccursAt)
+                .thenComparing(OccurrenceResponse::getTaskId));
+        return occurrences;
+    }
+
+    private void checkWindow(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new ValidationException("from must be before to", "INVALID_QUERY");
+        }
+        if (Duration.between(from, to).toDays() > maxWindowDays) {
+            throw new ValidationException("Window must not exceed " + maxWindowDays + " days", "INVALID_QUERY");
+        }
+    }
+
+    private Task findTemplate(Long userId, Long taskId) {
+        User user = userRepository.getReferenceById(userId);
+        return taskRepository.findByIdAndUserAndWorkspaceIdIsNull(taskId, user)
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+    }
+
+    private Map<Long, Task> findTemplates(Long userId, List<TaskRecurrence> rules) {
+        if (rules.isEmpty()) {
+            return Map.of();
+        }
+        User user = userRepository.getReferenceById(userId);
+        List<Long> ids = rules.stream().map(TaskRecurrence::getTaskId).collect(Collectors.toList());
+        return taskRepository.findByUserAndWorkspaceIdIsNullAndIdIn(user, ids, Sort.unsorted()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private OccurrenceResponse toOccurrence(Task template, LocalDateTime occursAt, TaskOccurrence stored) {
+        return new OccurrenceResponse(
+                template.getId(),
+                occursAt,
+                stored != null && stored.getTitle() != null ? stored.getTitle() : template.getTitle(),
+                stored != null && stored.getDescription() != null ? stored.getDescription() : template.getDescription(),
+                stored != null ? stored.getStatus() : Task.TaskStatus.PENDING,
+                template.getPriority() != null ? template.getPriority() : Task.TaskPriority.MEDIUM,
+                stored != null
+        );
+    }
+
+    private RecurrenceResponse convertToResponse(TaskRecurrence rule, Task template) {
+        List<DayOfWeek> days = rule.getDaysOfWeek() == null ? List.of()
+                : Arrays.stream(rule.getDaysOfWeek().split(",")).map(DayOfWeek::valueOf).collect(Collectors.toList());
+        return new RecurrenceResponse(
+                rule.getTaskId(),
+                template.getTitle(),
+                rule.getFrequency(),
+                rule.getInterval(),
+                days,
+                rule.getCronExpression(),
+                rule.getStartsAt(),
+                rule.getEndsAt()
+        );
+    }
+}
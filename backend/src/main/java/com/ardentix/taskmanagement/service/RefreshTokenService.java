@@ -0,0 +1,188 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.entity.RefreshToken;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import com.ardentix.taskmanagement.repository.RefreshTokenRepository;
+import com.ardentix.taskmanagement.security.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token Service
+ *
+ * Issues, rotates and revokes refresh tokens, and answers "is this token family revoked?"
+ * for JwtAuthenticationFilter on every request.
+ *
+ * Revocation check:
+ * - A bloom filter holds the families revoked within the last access-token lifetime
+ *   (older access tokens have expired anyway, so the set stays small)
+ * - Not in the filter (the common case): not revoked, no database access
+ * - In the filter: confirmed with one indexed query (false positives are rare)
+ * - The filter is rebuilt from the database periodically, so revocations made
+ *   on other instances are picked up
+ * - Revocations made on this instance are also kept in memory and added to every new filter,
+ *   so one recorded during a rebuild (or not yet committed) is not lost by the swap
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.expiration}")
+    private Long accessTokenExpiration;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private Long refreshTokenExpiration;
+
+    private volatile BloomFilter revokedFamilies = new BloomFilter(1024, 0.001);
+
+    /**
+     * Families revoked on this instance, with the time, for as long as the rebuild query covers them
+     */
+    private final Map<String, LocalDateTime> localRevocations = new ConcurrentHashMap<>();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Result of issuing or rotating: the raw token (returned to the client once) and its family
+     */
+    public record IssuedToken(String token, String familyId, User user) {
+    }
+
+    /**
+     * Starts a new token family (login/registration)
+     */
+    @Transactional
+    public IssuedToken issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family.
+     * Reusing an already-exchanged token revokes the whole family.
+     */
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public IssuedToken rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token", "REFRESH_ERROR"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRevokedAt() != null || current.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token expired or revoked", "REFRESH_ERROR");
+        }
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            // Token was already exchanged: someone else holds a copy
+            revokeFamily(current.getFamilyId());
+            logger.warn("Refresh token reuse detected, revoked family {}", current.getFamilyId());
+            throw new UnauthorizedException("Refresh token reuse detected", "REFRESH_ERROR");
+        }
+        return issue(current.getUser(), current.getFamilyId());
+    }
+
+    /**
+     * Logout: revokes the family of the given refresh token (unknown tokens are ignored)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Called for every authenticated request carrying a family ID
+     */
+    public boolean isFamilyRevoked(String familyId) {
+        if (!mightBeRevoked(familyId)) {
+            return false;
+        }
+        return refreshTokenRepository.existsByFamilyIdAndRevokedAtIsNotNull(familyId);
+    }
+
+    /**
+     * Bloom filter check only (no database): false means the family is certainly not revoked
+     * Lets the reactive JWT filter stay on the event loop for almost every request
+     */
+    public boolean mightBeRevoked(String familyId) {
+        return revokedFamilies.mightContain(familyId);
+    }
+
+    /**
+     * Rebuilds the bloom filter from the database (startup and every jwt.revocation-sync-ms)
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation-sync-ms:30000}", initialDelayString = "${jwt.revocation-sync-ms:30000}")
+    public void rebuildRevocationFilter() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(accessTokenExpiration * 1_000_000).minusMinutes(1);
+        localRevocations.values().removeIf(revokedAt -> revokedAt.isBefore(since));
+        List<String> families = refreshTokenRepository.findFamiliesRevokedSince(since);
+        BloomFilter filter = new BloomFilter(Math.max(1024, (families.size() + localRevocations.size()) * 2), 0.001);
+        families.forEach(filter::add);
+        localRevocations.keySet().forEach(filter::add);
+        revokedFamilies = filter;
+        // Again after the swap: a revocation recorded in between went into the old filter
+        // (revokeFamily records first, then adds to whichever filter is current)
+        localRevocations.keySet().forEach(filter::add);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private IssuedToken issue(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        token.setUser(user);
+        token.setExpiresAt(LocalDateTime.now().plusNanos(refreshTokenExpiration * 1_000_000));
+        refreshTokenRepository.save(token);
+        return new IssuedToken(rawToken, familyId, user);
+    }
+
+    private void revokeFamily(String familyId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.revokeFamily(familyId, now);
+        localRevocations.put(familyId, now);
+        revokedFamilies.add(familyId);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
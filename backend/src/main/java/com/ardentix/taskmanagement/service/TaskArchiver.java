@@ -0,0 +1,139 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.repository.ArchivedTaskRepository;
+import com.ardentix.taskmanagement.repository.LabelRepository;
+import com.ardentix.taskmanagement.repository.TaskClosureRepository;
+import com.ardentix.taskmanagement.repository.TaskDependencyRepository;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task Archiver
+ *
+ * Scheduled job that moves completed tasks older than archive.completed-after-days
+ * from tasks into tasks_archive, in batches of archive.batch-size.
+ * Each batch is one short transaction (copy + delete), so the job never holds
+ * long locks on the hot table. Runs on every shard when sharding is enabled.
+ *
+ * The copy and the delete check status and age again, so a task reopened after it was
+ * selected stays live. If one is reopened between the copy and the delete, the batch is
+ * rolled back and the shard is retried on the next run.
+ */
+@Service
+public class TaskArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final LabelRepository labelRepository;
+    private final TaskClosureRepository closureRepository;
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.completed-after-days:30}")
+    private int completedAfterDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    public TaskArchiver(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                        LabelRepository labelRepository, TaskClosureRepository closureRepository,
+                        TaskDependencyRepository dependencyRepository, TaskBitmapIndex taskBitmapIndex,
+                        ShardRouter shardRouter, TransactionTemplate transactionTemplate) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.labelRepository = labelRepository;
+        this.closureRepository = closureRepository;
+        this.dependencyRepository = dependencyRepository;
+        this.taskBitmapIndex = taskBitmapIndex;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${archive.interval-ms:3600000}", initialDelayString = "${archive.initial-delay-ms:60000}")
+    public void archiveCompletedTasks() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(completedAfterDays);
+        int archived = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try (ShardScope scope = shardRouter.forShard(shard)) {
+                int moved;
+                do {
+                    try {
+                        moved = archiveBatch(cutoff);
+                    } catch (ConcurrencyFailureException e) {
+                        logger.info("Archiving on shard {} stopped, retried next run: {}", shard, e.getMessage());
+                        break;
+                    }
+                    archived += moved;
+                } while (moved == batchSize);
+            }
+        }
+        if (archived > 0) {
+            logger.info("Archived {} completed tasks older than {} days", archived, completedAfterDays);
+        }
+    }
+
+    /**
+     * Moves one batch in a single transaction
+     *
+     * @return number of tasks moved
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        Map<Long, List<Long>> archivedByUser = new HashMap<>();
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = taskRepository.findIdsToArchive(Task.TaskStatus.COMPLETED, cutoff, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archivedTaskRepository.copyFromTasks(ids, Task.TaskStatus.COMPLETED.name(), cutoff, LocalDateTime.now());
+            // Only the tasks actually copied (some may have been reopened since the select)
+            Map<Long, List<Long>> copiedByUser = new HashMap<>();
+            List<Long> copied = new ArrayList<>();
+            for (Object[] row : archivedTaskRepository.findIdsAndUserIdsIn(ids)) {
+                Long id = ((Number) row[0]).longValue();
+                copied.add(id);
+                copiedByUser.computeIfAbsent(((Number) row[1]).longValue(), user -> new ArrayList<>()).add(id);
+            }
+            if (copied.isEmpty()) {
+                return 0;
+            }
+            labelRepository.deleteAssignmentsOfTasks(copied); // archived tasks keep no labels
+            closureRepository.deleteInvolving(copied); // only leaf tasks are archived
+            dependencyRepository.deleteInvolving(copied);
+            int deleted = taskRepository.deleteArchived(copied, Task.TaskStatus.COMPLETED, cutoff);
+            if (deleted != copied.size()) {
+                // Reopened between copy and delete: it would be both live and archived
+                throw new ConcurrencyFailureException("A task changed while it was archived");
+            }
+            archivedByUser.putAll(copiedByUser);
+            return copied.size();
+        });
+        taskBitmapIndex.onTasksRemoved(archivedByUser);
+        return moved == null ? 0 : moved;
+    }
+}
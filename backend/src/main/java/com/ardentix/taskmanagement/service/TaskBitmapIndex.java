@@ -0,0 +1,257 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Task Bitmap Index
+ *
+ * In-memory filter index over each user's personal tasks: one compressed bitmap
+ * (Roaring64Bitmap) of task IDs per status and per label, plus one of all tasks.
+ * "label A and not B and status IN_PROGRESS" becomes A AND IN_PROGRESS AND NOT B on
+ * bitmaps instead of SQL joins over task_labels.
+ *
+ * - A user's bitmaps are built from two queries on first use, then kept (LRU, bounded)
+ * - Writes update them incrementally: callers pass the task's new state, so applying an
+ *   update twice (or after a rebuild that already saw it) is harmless
+ * - Builds and updates for a user hold the same lock, so an update that commits while a
+ *   build is reading is applied after the build is stored
+ * - Entries are rebuilt after task-index.max-age-minutes to heal any missed update
+ */
+@Component
+public class TaskBitmapIndex {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final TaskRepository taskRepository;
+    private final ShardRouter shardRouter;
+    private final Map<Long, UserBitmaps> cache;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Value("${task-index.max-age-minutes:10}")
+    private long maxAgeMinutes;
+
+    public TaskBitmapIndex(TaskRepository taskRepository, ShardRouter shardRouter,
+                           @Value("${task-index.max-users:10000}") int maxUsers) {
+        this.taskRepository = taskRepository;
+        this.shardRouter = shardRouter;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserBitmaps> eldest) {
+                return size() > maxUsers;
+            }
+        };
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Bitmaps of one user (guarded by the user's lock stripe)
+     */
+    private static final class UserBitmaps {
+        private final Roaring64Bitmap all = new Roaring64Bitmap();
+        private final Map<Task.TaskStatus, Roaring64Bitmap> byStatus = new EnumMap<>(Task.TaskStatus.class);
+        private final Map<Long, Roaring64Bitmap> byLabel = new HashMap<>();
+        private final long builtAtMillis = System.currentTimeMillis();
+
+        private UserBitmaps() {
+            for (Task.TaskStatus status : Task.TaskStatus.values()) {
+                byStatus.put(status, new Roaring64Bitmap());
+            }
+        }
+
+        private void setStatus(long taskId, Task.TaskStatus status) {
+            all.addLong(taskId);
+            byStatus.forEach((candidate, bitmap) -> {
+                if (candidate == status) {
+                    bitmap.addLong(taskId);
+                } else {
+                    bitmap.removeLong(taskId);
+                }
+            });
+        }
+
+        private void setLabels(long taskId, Collection<Long> labelIds) {
+            byLabel.values().forEach(bitmap -> bitmap.removeLong(taskId));
+            for (Long labelId : labelIds) {
+                byLabel.computeIfAbsent(labelId, id -> new Roaring64Bitmap()).addLong(taskId);
+            }
+        }
+
+        private void remove(long taskId) {
+            all.removeLong(taskId);
+            byStatus.values().forEach(bitmap -> bitmap.removeLong(taskId));
+            byLabel.values().forEach(bitmap -> bitmap.removeLong(taskId));
+        }
+    }
+
+    /**
+     * Filter: tasks with every label in allLabels, at least one of anyLabels (if given),
+     * none of noneLabels, and one of the statuses (if given)
+     *
+     * @return matching task IDs (a new bitmap the caller may keep)
+     */
+    public Roaring64Bitmap filter(Long userId, Collection<Long> allLabels, Collection<Long> anyLabels,
+                                  Collection<Long> noneLabels, Collection<Task.TaskStatus> statuses) {
+        synchronized (lockFor(userId)) {
+            UserBitmaps bitmaps = bitmaps(userId);
+
+            Roaring64Bitmap result;
+            if (statuses == null || statuses.isEmpty()) {
+                result = copy(bitmaps.all);
+            } else {
+                result = new Roaring64Bitmap();
+                for (Task.TaskStatus status : statuses) {
+                    result.or(bitmaps.byStatus.get(status));
+                }
+            }
+            for (Long labelId : allLabels) {
+                Roaring64Bitmap label = bitmaps.byLabel.get(labelId);
+                if (label == null) {
+                    return new Roaring64Bitmap();
+                }
+                result.and(label);
+            }
+            if (!anyLabels.isEmpty()) {
+                Roaring64Bitmap union = new Roaring64Bitmap();
+                for (Long labelId : anyLabels) {
+                    Roaring64Bitmap label = bitmaps.byLabel.get(labelId);
+                    if (label != null) {
+                        union.or(label);
+                    }
+                }
+                result.and(union);
+            }
+            for (Long labelId : noneLabels) {
+                Roaring64Bitmap label = bitmaps.byLabel.get(labelId);
+                if (label != null) {
+                    result.andNot(label);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Number of tasks per label (for the label list)
+     */
+    public Map<Long, Long> countsByLabel(Long userId) {
+        synchronized (lockFor(userId)) {
+            Map<Long, Long> counts = new HashMap<>();
+            bitmaps(userId).byLabel.forEach((labelId, bitmap) -> counts.put(labelId, bitmap.getLongCardinality()));
+            return counts;
+        }
+    }
+
+    /**
+     * A personal task was created or its status changed
+     */
+    public void onTaskSaved(Long userId, Long taskId, Task.TaskStatus status) {
+        synchronized (lockFor(userId)) {
+            UserBitmaps bitmaps = cached(userId);
+            if (bitmaps != null) {
+                bitmaps.setStatus(taskId, status);
+            }
+        }
+    }
+
+    /**
+     * A personal task's labels were replaced
+     */
+    public void onTaskLabelsChanged(Long userId, Long taskId, Collection<Long> labelIds) {
+        synchronized (lockFor(userId)) {
+            UserBitmaps bitmaps = cached(userId);
+            if (bitmaps != null) {
+                bitmaps.setLabels(taskId, labelIds);
+            }
+        }
+    }
+
+    public void onTaskDeleted(Long userId, Long taskId) {
+        synchronized (lockFor(userId)) {
+            UserBitmaps bitmaps = cached(userId);
+            if (bitmaps != null) {
+                bitmaps.remove(taskId);
+            }
+        }
+    }
+
+    public void onLabelDeleted(Long userId, Long labelId) {
+        synchronized (lockFor(userId)) {
+            UserBitmaps bitmaps = cached(userId);
+            if (bitmaps != null) {
+                bitmaps.byLabel.remove(labelId);
+            }
+        }
+    }
+
+    /**
+     * Tasks removed in bulk (TaskArchiver), grouped by user
+     * Only those users' bitmaps are touched, and only if they are cached
+     */
+    public void onTasksRemoved(Map<Long, ? extends Collection<Long>> taskIdsByUser) {
+        taskIdsByUser.forEach((userId, taskIds) -> {
+            synchronized (lockFor(userId)) {
+                UserBitmaps bitmaps = cached(userId);
+                if (bitmaps != null) {
+                    taskIds.forEach(bitmaps::remove);
+                }
+            }
+        });
+    }
+
+    /**
+     * Cached bitmaps of a user, built from the database if missing or too old
+     * (caller holds the user's lock)
+     */
+    private UserBitmaps bitmaps(Long userId) {
+        UserBitmaps bitmaps = cached(userId);
+        if (bitmaps != null && bitmaps.builtAtMillis > System.currentTimeMillis() - maxAgeMinutes * 60_000) {
+            return bitmaps;
+        }
+        bitmaps = new UserBitmaps();
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            for (Object[] row : taskRepository.findIdAndStatusByUserId(userId)) {
+                bitmaps.setStatus((Long) row[0], (Task.TaskStatus) row[1]);
+            }
+            for (Object[] row : taskRepository.findLabelAssignmentsByUserId(userId)) {
+                bitmaps.byLabel.computeIfAbsent((Long) row[1], id -> new Roaring64Bitmap()).addLong((Long) row[0]);
+            }
+        }
+        for (Roaring64Bitmap bitmap : bitmaps.byLabel.values()) {
+            bitmap.runOptimize();
+        }
+        synchronized (cache) {
+            cache.put(userId, bitmaps);
+        }
+        return bitmaps;
+    }
+
+    private UserBitmaps cached(Long userId) {
+        synchronized (cache) {
+            return cache.get(userId);
+        }
+    }
+
+    private Object lockFor(Long userId) {
+        return locks[(int) Math.floorMod(userId, (long) LOCK_STRIPES)];
+    }
+
+    private static Roaring64Bitmap copy(Roaring64Bitmap bitmap) {
+        Roaring64Bitmap copy = new Roaring64Bitmap();
+        copy.or(bitmap);
+        return copy;
+    }
+}
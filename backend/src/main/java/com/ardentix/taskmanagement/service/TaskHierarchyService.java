@@ -0,0 +1,370 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.dto.TaskTreeNode;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.TaskClosure;
+import com.ardentix.taskmanagement.entity.TaskDependency;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.repository.TaskClosureRepository;
+import com.ardentix.taskmanagement.repository.TaskDependencyRepository;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Task Hierarchy Service
+ *
+ * Subtasks: every task can have one parent. Besides Task.parentId, all (ancestor, descendant)
+ * pairs are kept in the task_closure table, so a subtree or the path to the root is one
+ * indexed query at any depth, and "is X below Y?" is one primary key lookup.
+ *
+ * Dependencies: "task A is blocked by task B". The graph must stay acyclic, so a new edge
+ * is checked by walking from the blocker through its own blockers, one query per level,
+ * which only visits the part of the graph the new edge could close a loop through.
+ * The full blocker chain is read with a recursive CTE (with the same walk as a fallback)
+ * and returned in topological order: what has to be done first comes first.
+ *
+ * Only personal tasks take part; all rows live on the user's shard.
+ * Changes for one user are serialized by a lock stripe, so two concurrent moves cannot
+ * create a loop together (per instance; the check runs again on every change).
+ */
+@Service
+public class TaskHierarchyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHierarchyService.class);
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository closureRepository;
+    private final TaskDependencyRepository dependencyRepository;
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public TaskHierarchyService(TaskRepository taskRepository, TaskClosureRepository closureRepository,
+                                TaskDependencyRepository dependencyRepository, UserRepository userRepository,
+                                ShardRouter shardRouter, TransactionTemplate transactionTemplate) {
+        this.taskRepository = taskRepository;
+        this.closureRepository = closureRepository;
+        this.dependencyRepository = dependencyRepository;
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Moves a task (with its whole subtree) under a new parent, or to the top level if parentId is null
+     */
+    public TaskResponse setParent(Long userId, Long taskId, Long parentId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            synchronized (lockFor(userId)) {
+                return transactionTemplate.execute(status -> {
+                    Task task = findTask(user, taskId);
+                    if (parentId != null) {
+                        findTask(user, parentId);
+                        if (parentId.equals(taskId) || closureRepository.existsByAncestorIdAndDescendantId(taskId, parentId)) {
+                            throw new ConflictException("A task cannot be moved under itself or one of its subtasks",
+                                    "TASK_HIERARCHY_ERROR");
+                        }
+                    }
+                    if (Objects.equals(task.getParentId(), parentId)) {
+                        return TaskService.convertToResponse(task);
+                    }
+
+                    // Cut the paths from the old ancestors into the subtree
+                    if (task.getParentId() != null) {
+                        List<Long> subtree = new ArrayList<>(closureRepository.findDescendantIds(taskId));
+                        subtree.add(taskId);
+                        closureRepository.unlink(closureRepository.findAncestorIds(taskId), subtree);
+                    }
+
+                    // Connect every new ancestor (and the parent) to every task of the subtree
+                    if (parentId != null) {
+                        closureRepository.saveAll(crossPaths(userId, taskId, parentId));
+                    }
+
+                    task.setParentId(parentId);
+                    return TaskService.convertToResponse(taskRepository.save(task));
+                });
+            }
+        }
+    }
+
+    /**
+     * A task with all its subtasks, nested; the subtree is read in one query
+     */
+    public TaskTreeNode getTree(Long userId, Long taskId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            Task root = findTask(user, taskId);
+
+            TaskTreeNode rootNode = new TaskTreeNode(TaskService.convertToResponse(root), new ArrayList<>());
+            Map<Long, TaskTreeNode> nodes = new HashMap<>();
+            nodes.put(root.getId(), rootNode);
+            // Shallowest first, so a parent is always placed before its children
+            for (Task task : closureRepository.findSubtree(taskId)) {
+                TaskTreeNode node = new TaskTreeNode(TaskService.convertToResponse(task), new ArrayList<>());
+                nodes.put(task.getId(), node);
+                TaskTreeNode parent = nodes.get(task.getParentId());
+                if (parent != null) {
+                    parent.getChildren().add(node);
+                }
+            }
+            return rootNode;
+        }
+    }
+
+    /**
+     * Records that a task is blocked by another task, unless that would create a cycle
+     */
+    public void addBlocker(Long userId, Long taskId, Long blockedById) {
+        if (taskId.equals(blockedById)) {
+            throw new ConflictException("A task cannot block itself", "TASK_HIERARCHY_ERROR");
+        }
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            synchronized (lockFor(userId)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    findTask(user, taskId);
+                    findTask(user, blockedById);
+                    if (dependencyRepository.existsByTaskIdAndBlockedById(taskId, blockedById)) {
+                        return;
+                    }
+                    if (isBlockedBy(blockedById, taskId)) {
+                        throw new ConflictException("This dependency would create a cycle", "TASK_HIERARCHY_ERROR");
+                    }
+
+                    TaskDependency dependency = new TaskDependency();
+                    dependency.setTaskId(taskId);
+                    dependency.setBlockedById(blockedById);
+                    dependency.setUserId(userId);
+                    dependencyRepository.save(dependency);
+                });
+            }
+        }
+    }
+
+    public void removeBlocker(Long userId, Long taskId, Long blockedById) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            transactionTemplate.executeWithoutResult(status -> {
+                findTask(user, taskId);
+                if (dependencyRepository.deleteEdge(taskId, blockedById) == 0) {
+                    throw new NotFoundException("Dependency not found");
+                }
+            });
+        }
+    }
+
+    /**
+     * Every task the given task waits for (directly or indirectly), in the order they can be done
+     */
+    public List<TaskResponse> getBlockerChain(Long userId, Long taskId) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.getReferenceById(userId);
+            findTask(user, taskId);
+
+            List<Object[]> edges;
+            try {
+                edges = dependencyRepository.findBlockerChainEdges(taskId);
+            } catch (DataAccessException e) {
+                // Databases without WITH RECURSIVE: same result, one query per level
+                logger.debug("Recursive blocker query failed, walking level by level: {}", e.getMessage());
+                edges = walkBlockers(taskId);
+            }
+            if (edges.isEmpty()) {
+                return List.of();
+            }
+
+            Set<Long> ids = new HashSet<>();
+            for (Object[] edge : edges) {
+                ids.add(((Number) edge[1]).longValue());
+            }
+            Map<Long, Task> tasks = taskRepository.findByUserAndWorkspaceIdIsNullAndIdIn(user, ids, Sort.unsorted())
+                    .stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            return topologicalOrder(edges, taskId).stream()
+                    .map(tasks::get)
+                    .filter(Objects::nonNull)
+                    .map(TaskService::convertToResponse)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Removes a task from the hierarchy and the dependency graph, then runs delete
+     *
+     * - Both happen in one transaction: if delete fails, the links are kept
+     * - Its direct subtasks become top-level tasks and keep their own subtrees
+     */
+    public void deleteTask(Long userId, Long taskId, Runnable delete) {
+        synchronized (lockFor(userId)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> above = new ArrayList<>(closureRepository.findAncestorIds(taskId));
+                List<Long> below = new ArrayList<>(closureRepository.findDescendantIds(taskId));
+                above.add(taskId);
+                below.add(taskId);
+                closureRepository.unlink(above, below);
+                taskRepository.clearParent(taskId);
+                dependencyRepository.deleteInvolving(List.of(taskId));
+                delete.run();
+            });
+        }
+    }
+
+    /**
+     * Would following "blocked by" edges from start reach target?
+     * Breadth-first, one query for each level of the graph, stopping as soon as target shows up
+     */
+    private boolean isBlockedBy(Long start, Long target) {
+        Set<Long> visited = new HashSet<>();
+        visited.add(start);
+        Collection<Long> frontier = List.of(start);
+        while (!frontier.isEmpty()) {
+            List<Long> next = new ArrayList<>();
+            for (Object[] edge : dependencyRepository.findEdgesFrom(frontier)) {
+                Long blocker = ((Number) edge[1]).longValue();
+                if (blocker.equals(target)) {
+                    return true;
+                }
+                if (visited.add(blocker)) {
+                    next.add(blocker);
+                }
+            }
+            frontier = next;
+        }
+        return false;
+    }
+
+    /**
+     * All "blocked by" edges reachable from start, walked level by level
+     */
+    private List<Object[]> walkBlockers(Long start) {
+        List<Object[]> edges = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        visited.add(start);
+        Collection<Long> frontier = List.of(start);
+        while (!frontier.isEmpty()) {
+            List<Long> next = new ArrayList<>();
+            for (Object[] edge : dependencyRepository.findEdgesFrom(frontier)) {
+                edges.add(edge);
+                Long blocker = ((Number) edge[1]).longValue();
+                if (visited.add(blocker)) {
+                    next.add(blocker);
+                }
+            }
+            frontier = next;
+        }
+        return edges;
+    }
+
+    /**
+     * Kahn's algorithm over (task, blocked by) edges: a task is emitted once all its blockers are
+     * Ties are broken by ID so the order is stable; the root task itself is left out
+     */
+    private List<Long> topologicalOrder(List<Object[]> edges, Long rootId) {
+        Map<Long, Integer> waitingOn = new HashMap<>();
+        Map<Long, List<Long>> unblocks = new HashMap<>();
+        for (Object[] edge : edges) {
+            Long task = ((Number) edge[0]).longValue();
+            Long blocker = ((Number) edge[1]).longValue();
+            waitingOn.merge(task, 1, Integer::sum);
+            waitingOn.putIfAbsent(blocker, 0);
+            unblocks.computeIfAbsent(blocker, id -> new ArrayList<>()).add(task);
+        }
+
+        PriorityQueue<Long> ready = new PriorityQueue<>();
+        waitingOn.forEach((id, count) -> {
+            if (count == 0) {
+                ready.add(id);
+            }
+        });
+        List<Long> order = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            Long id = ready.poll();
+            if (!id.equals(rootId)) {
+                order.add(id);
+            }
+            for (Long task : unblocks.getOrDefault(id, List.of())) {
+                if (waitingOn.merge(task, -1, Integer::sum) == 0) {
+                    ready.add(task);
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Closure rows linking the subtree of taskId under parentId:
+     * (each ancestor of the parent, and the parent) x (the task, and each of its descendants)
+     */
+    private List<TaskClosure> crossPaths(Long userId, Long taskId, Long parentId) {
+        List<TaskClosure> above = new ArrayList<>(closureRepository.findByDescendantId(parentId));
+        above.add(selfPath(parentId, userId));
+        List<TaskClosure> below = new ArrayList<>(closureRepository.findByAncestorId(taskId));
+        below.add(selfPath(taskId, userId));
+
+        List<TaskClosure> paths = new ArrayList<>(above.size() * below.size());
+        for (TaskClosure up : above) {
+            for (TaskClosure down : below) {
+                TaskClosure path = new TaskClosure();
+                path.setAncestorId(up.getAncestorId());
+                path.setDescendantId(down.getDescendantId());
+                path.setDepth(up.getDepth() + down.getDepth() + 1);
+                path.setUserId(userId);
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * The implied depth-0 row of a task (never stored)
+     */
+    private TaskClosure selfPath(Long taskId, Long userId) {
+        TaskClosure self = new TaskClosure();
+        self.setAncestorId(taskId);
+        self.setDescendantId(taskId);
+        self.setDepth(0);
+        self.setUserId(userId);
+        return self;
+    }
+
+    private Task findTask(User user, Long taskId) {
+        return taskRepository.findByIdAndUserAndWorkspaceIdIsNull(taskId, user)
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+    }
+
+    private Object lockFor(Long userId) {
+        return locks[(int) Math.floorMod(userId, (long) LOCK_STRIPES)];
+    }
+}
@@ -1,127 +1,377 @@
 package com.ardentix.taskmanagement.service;
 
+import com.ardentix.taskmanagement.dto.TaskPage;
 import com.ardentix.taskmanagement.dto.TaskRequest;
 import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.ArchivedTask;
 import com.ardentix.taskmanagement.entity.Task;
 import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.exception.UnauthorizedException;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import com.ardentix.taskmanagement.reminder.ReminderEngine;
+import com.ardentix.taskmanagement.repository.ArchivedTaskRepository;
 import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.repository.TaskSort;
 import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.security.WorkspaceAccess;
+import com.ardentix.taskmanagement.security.WorkspacePermissionResolver;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import com.ardentix.taskmanagement.store.TaskStore;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Task Service
  * Contains business logic for task operations
+ *
+ * Every method binds the user's shard first (a no-op unless sharding is enabled),
+ * so all repository calls inside it go to the database holding that user's tasks.
+ * Workspace tasks are stored under the workspace owner and bind the owner's shard.
+ * Personal task queries only see tasks without a workspace.
+ * Personal task CRUD and listing go through TaskStore (JPA by default, or the embedded store).
+ * Each public method call is traced as a span and timed (@Observed, "task.service").
  */
 @Service
+@Observed(name = "task.service")
 @RequiredArgsConstructor
 public class TaskService {
     
     private final TaskRepository taskRepository;
+    private final TaskStore taskStore;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final ReminderEngine reminderEngine;
+    private final WorkspacePermissionResolver permissionResolver;
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final TaskHierarchyService taskHierarchyService;
+    private final RecurrenceService recurrenceService;
     
     /**
      * Creates a new task for a user
      */
     public TaskResponse createTask(TaskRequest request, Long userId) {
-        // Find user
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            // Find user
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
         
-        // Create task
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setStatus(request.getStatus());
-        task.setUser(user);
+            // Create task
+            Task task = new Task();
+            applyRequest(task, request);
+            task.setUser(user);
         
-        // Save to database
-        task = taskRepository.save(task);
+            // Save to database
+            task = taskStore.save(task);
+            reminderEngine.onTaskSaved(task);
+            taskBitmapIndex.onTaskSaved(userId, task.getId(), task.getStatus());
         
-        // Convert to DTO and return
-        return convertToResponse(task);
+            // Convert to DTO and return
+            return convertToResponse(task);
+        }
     }
     
     /**
-     * Gets all tasks for a user
+     * Gets all tasks for a user, in the given sort order
+     * With includeArchived, archived tasks are merged in (same order)
      */
-    public List<TaskResponse> getAllTasks(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public List<TaskResponse> getAllTasks(Long userId, TaskSort sort, boolean includeArchived) {
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
         
-        List<Task> tasks = taskRepository.findByUserOrderByCreatedAtDesc(user);
+            List<Task> tasks = taskStore.findPersonalTasks(user, sort);
         
-        // Convert list of entities to list of DTOs
-        return tasks.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+            // Convert list of entities to list of DTOs
+            List<TaskResponse> responses = tasks.stream()
+                    .map(TaskService::convertToResponse)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            
+            if (includeArchived) {
+                archivedTaskRepository.findByUserAndWorkspaceIdIsNullOrderByCreatedAtDesc(user).stream()
+                        .map(this::convertArchivedToResponse)
+                        .forEach(responses::add);
+                responses.sort(sort.comparator());
+            }
+            return responses;
+        }
+    }
+    
+    /**
+     * Gets one page of a user's (live) tasks using keyset pagination
+     * cursor is the nextCursor of the previous page, or null for the first page
+     */
+    public TaskPage getTaskPage(Long userId, TaskSort sort, String cursor, int limit) {
+        ScrollPosition position = sort.decodeCursor(cursor);
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
+            
+            Window<Task> window = taskStore.findPersonalTasks(user, sort, position, limit);
+            return toPage(window, sort);
+        }
     }
     
     /**
      * Gets a single task by ID (only if it belongs to the user)
+     * An archived task is still found (read-only, archived = true), so links to it stay valid
      */
     public TaskResponse getTaskById(Long taskId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
         
-        Task task = taskRepository.findByIdAndUser(taskId, user)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-        
-        return convertToResponse(task);
+            return taskStore.findPersonalTask(user, taskId)
+                    .map(TaskService::convertToResponse)
+                    .or(() -> archivedTaskRepository.findByIdAndUserAndWorkspaceIdIsNull(taskId, user)
+                            .map(this::convertArchivedToResponse))
+                    .orElseThrow(() -> new NotFoundException("Task not found"));
+        }
     }
     
     /**
      * Updates an existing task
      */
     public TaskResponse updateTask(Long taskId, TaskRequest request, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
         
-        // Find task and ensure it belongs to user
-        Task task = taskRepository.findByIdAndUser(taskId, user)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+            // Find task and ensure it belongs to user
+            Task task = taskStore.findPersonalTask(user, taskId)
+                    .orElseThrow(() -> new NotFoundException("Task not found"));
         
-        // Update fields
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setStatus(request.getStatus());
+            // Update fields
+            applyRequest(task, request);
         
-        // Save updated task
-        task = taskRepository.save(task);
+            // Save updated task
+            task = taskStore.save(task);
+            reminderEngine.onTaskSaved(task);
+            taskBitmapIndex.onTaskSaved(userId, task.getId(), task.getStatus());
         
-        return convertToResponse(task);
+            return convertToResponse(task);
+        }
     }
     
     /**
      * Deletes a task
      */
     public void deleteTask(Long taskId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        try (ShardScope shard = shardRouter.forUser(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
         
-        // Find task and ensure it belongs to user
-        Task task = taskRepository.findByIdAndUser(taskId, user)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+            // Find task and ensure it belongs to user
+            Task task = taskStore.findPersonalTask(user, taskId)
+                    .orElseThrow(() -> new NotFoundException("Task not found"));
         
-        // Delete task
-        taskRepository.delete(task);
+            // Detach subtasks and dependencies, then delete task (one transaction)
+            taskHierarchyService.deleteTask(userId, taskId, () -> {
+                recurrenceService.onTaskDeleted(taskId);
+                taskStore.delete(task);
+            });
+            reminderEngine.onTaskDeleted(taskId);
+            taskBitmapIndex.onTaskDeleted(userId, taskId);
+        }
+    }
+    
+    /**
+     * Filters the user's personal tasks by labels and status using TaskBitmapIndex
+     * Only the returned page is read from the database (newest first, by ID)
+     *
+     * @param cursor nextCursor of the previous page (the last task ID), or null
+     */
+    public TaskPage filterTasks(Long userId, List<Long> allLabels, List<Long> anyLabels, List<Long> noneLabels,
+                                List<Task.TaskStatus> statuses, String cursor, int limit) {
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                beforeId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid cursor", "INVALID_QUERY");
+            }
+        }
+        
+        Roaring64Bitmap matches = taskBitmapIndex.filter(userId, allLabels, anyLabels, noneLabels, statuses);
+        List<Long> ids = new ArrayList<>(limit);
+        LongIterator iterator = matches.getReverseLongIterator();
+        while (iterator.hasNext() && ids.size() < limit) {
+            long id = iterator.next();
+            if (id < beforeId) {
+                ids.add(id);
+            }
+        }
+        String nextCursor = iterator.hasNext() && !ids.isEmpty() ? String.valueOf(ids.get(ids.size() - 1)) : null;
+        
+        List<TaskResponse> tasks = List.of();
+        if (!ids.isEmpty()) {
+            try (ShardScope shard = shardRouter.forUser(userId)) {
+                User user = userRepository.getReferenceById(userId);
+                tasks = taskRepository.findByUserAndWorkspaceIdIsNullAndIdIn(user, ids, Sort.by(Sort.Order.desc("id")))
+                        .stream()
+                        .map(TaskService::convertToResponse)
+                        .collect(Collectors.toList());
+            }
+        }
+        return new TaskPage(tasks, nextCursor, matches.getLongCardinality());
+    }
+    
+    /**
+     * Gets all tasks of a workspace (any member)
+     * Permission comes from the membership cache; the query itself is just WHERE workspace_id = ?
+     */
+    public List<TaskResponse> getWorkspaceTasks(Long userId, Long workspaceId, TaskSort sort) {
+        WorkspaceAccess access = permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.VIEWER);
+        try (ShardScope shard = shardRouter.forUser(access.ownerId())) {
+            return taskRepository.findByWorkspaceId(workspaceId, sort.getSort()).stream()
+                    .map(TaskService::convertToResponse)
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    /**
+     * Gets one page of a workspace's tasks using keyset pagination
+     */
+    public TaskPage getWorkspaceTaskPage(Long userId, Long workspaceId, TaskSort sort, String cursor, int limit) {
+        ScrollPosition position = sort.decodeCursor(cursor);
+        WorkspaceAccess access = permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.VIEWER);
+        try (ShardScope shard = shardRouter.forUser(access.ownerId())) {
+            Window<Task> window = taskRepository.findByWorkspaceId(workspaceId, position, sort.getSort(), Limit.of(limit));
+            return toPage(window, sort);
+        }
+    }
+    
+    /**
+     * Creates a task in a workspace (editors and owner)
+     * The row is stored under the workspace owner, on the owner's shard
+     */
+    public TaskResponse createWorkspaceTask(Long userId, Long workspaceId, TaskRequest request) {
+        WorkspaceAccess access = permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.EDITOR);
+        try (ShardScope shard = shardRouter.forUser(access.ownerId())) {
+            Task task = new Task();
+            applyRequest(task, request);
+            task.setUser(userRepository.getReferenceById(access.ownerId()));
+            task.setWorkspaceId(workspaceId);
+            
+            task = taskRepository.save(task);
+            reminderEngine.onTaskSaved(task);
+            return convertToResponse(task);
+        }
+    }
+    
+    /**
+     * Updates a task in a workspace (editors and owner)
+     */
+    public TaskResponse updateWorkspaceTask(Long userId, Long workspaceId, Long taskId, TaskRequest request) {
+        WorkspaceAccess access = permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.EDITOR);
+        try (ShardScope shard = shardRouter.forUser(access.ownerId())) {
+            Task task = taskRepository.findByIdAndWorkspaceId(taskId, workspaceId)
+                    .orElseThrow(() -> new NotFoundException("Task not found"));
+            applyRequest(task, request);
+            
+            task = taskRepository.save(task);
+            reminderEngine.onTaskSaved(task);
+            return convertToResponse(task);
+        }
+    }
+    
+    /**
+     * Deletes a task in a workspace (editors and owner)
+     */
+    public void deleteWorkspaceTask(Long userId, Long workspaceId, Long taskId) {
+        WorkspaceAccess access = permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.EDITOR);
+        try (ShardScope shard = shardRouter.forUser(access.ownerId())) {
+            Task task = taskRepository.findByIdAndWorkspaceId(taskId, workspaceId)
+                    .orElseThrow(() -> new NotFoundException("Task not found"));
+            taskRepository.delete(task);
+            reminderEngine.onTaskDeleted(taskId);
+        }
+    }
+    
+    /**
+     * Copies the editable fields from a request onto a task
+     */
+    private void applyRequest(Task task, TaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setPriority(request.getPriority());
+        if (!Objects.equals(task.getDueAt(), request.getDueAt())) {
+            // New or rescheduled due date: remind (again) at the new time
+            task.setDueAt(request.getDueAt());
+            task.setReminderSentAt(null);
+        }
+    }
+    
+    /**
+     * Builds a TaskPage from a keyset window (cursor only when more rows follow)
+     */
+    private TaskPage toPage(Window<Task> window, TaskSort sort) {
+        List<TaskResponse> tasks = window.stream()
+                .map(TaskService::convertToResponse)
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = sort.encodeCursor((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+        return new TaskPage(tasks, nextCursor, null);
     }
     
     /**
      * Converts Task entity to TaskResponse DTO
      * This hides internal structure and prevents exposing sensitive data
+     * Package-private static so TaskHierarchyService returns the same DTO
+     */
+    static TaskResponse convertToResponse(Task task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                false,
+                task.getDueAt(),
+                task.getPriority() != null ? task.getPriority() : Task.TaskPriority.MEDIUM,
+                task.getWorkspaceId(),
+                task.getParentId(),
+                null
+        );
+    }
+    
+    /**
+     * Converts an archived task to the same DTO, flagged as archived
      */
-    private TaskResponse convertToResponse(Task task) {
+    private TaskResponse convertArchivedToResponse(ArchivedTask task) {
         return new TaskResponse(
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
                 task.getStatus(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                true,
+                task.getDueAt(),
+                task.getPriority() != null ? task.getPriority() : Task.TaskPriority.MEDIUM,
+                task.getWorkspaceId(),
+                null,
+                null
         );
     }
 }
@@ -0,0 +1,70 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.sharding.ShardRouter;
+import com.ardentix.taskmanagement.sharding.ShardScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task Timestamp Backfill
+ *
+ * tasks.created_at and tasks.updated_at are NOT NULL, because keyset paging (TaskSort) cannot
+ * page past a NULL key. ddl-auto=update does not add the constraint to an existing table, so
+ * rows written before it may still hold NULLs. This runner fills them in at startup, on every
+ * shard: createdAt from updatedAt (or now), then updatedAt from createdAt.
+ *
+ * - One UPDATE per column; once the old rows are filled in, both change nothing
+ * - Runs right after the connection pool warm-up, before WarmUpRunner and readiness
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TaskTimestampBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskTimestampBackfill.class);
+
+    private final TaskRepository taskRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskTimestampBackfill(TaskRepository taskRepository, ShardRouter shardRouter,
+                                 TransactionTemplate transactionTemplate) {
+        this.taskRepository = taskRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * Fills in missing timestamps on every shard
+     *
+     * @return number of rows changed
+     */
+    public int backfill() {
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try (ShardScope scope = shardRouter.forShard(shard)) {
+                Integer rows = transactionTemplate.execute(status ->
+                        taskRepository.backfillCreatedAt(now) + taskRepository.backfillUpdatedAt());
+                changed += rows == null ? 0 : rows;
+            }
+        }
+        if (changed > 0) {
+            logger.info("Filled in {} missing task timestamps", changed);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,135 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.WorkspaceMemberRequest;
+import com.ardentix.taskmanagement.dto.WorkspaceMemberResponse;
+import com.ardentix.taskmanagement.dto.WorkspaceRequest;
+import com.ardentix.taskmanagement.dto.WorkspaceResponse;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.entity.Workspace;
+import com.ardentix.taskmanagement.entity.WorkspaceMember;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.exception.ValidationException;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.repository.WorkspaceMemberRepository;
+import com.ardentix.taskmanagement.repository.WorkspaceRepository;
+import com.ardentix.taskmanagement.security.WorkspaceAccess;
+import com.ardentix.taskmanagement.security.WorkspacePermissionResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Workspace Service
+ *
+ * Creates workspaces and manages their members.
+ * Workspaces and memberships are stored in the directory database (no shard binding needed).
+ * Every membership change invalidates the affected user's cached permissions after it commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkspaceService {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceMemberRepository memberRepository;
+    private final UserRepository userRepository;
+    private final WorkspacePermissionResolver permissionResolver;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates a workspace owned by the current user
+     */
+    public WorkspaceResponse createWorkspace(WorkspaceRequest request, Long userId) {
+        Workspace workspace = transactionTemplate.execute(status -> {
+            User owner = userRepository.getReferenceById(userId);
+
+            Workspace created = new Workspace();
+            created.setName(request.getName());
+            created.setOwner(owner);
+            created = workspaceRepository.save(created);
+
+            WorkspaceMember membership = new WorkspaceMember();
+            membership.setWorkspace(created);
+            membership.setUser(owner);
+            membership.setRole(WorkspaceMember.Role.OWNER);
+            memberRepository.save(membership);
+            return created;
+        });
+        permissionResolver.invalidate(userId);
+        return new WorkspaceResponse(workspace.getId(), workspace.getName(), userId, WorkspaceMember.Role.OWNER);
+    }
+
+    /**
+     * Workspaces the user belongs to, by name (served from the permission cache)
+     */
+    public List<WorkspaceResponse> getWorkspaces(Long userId) {
+        return permissionResolver.memberships(userId).values().stream()
+                .sorted(Comparator.comparing(WorkspaceAccess::workspaceName, String.CASE_INSENSITIVE_ORDER))
+                .map(access -> new WorkspaceResponse(access.workspaceId(), access.workspaceName(),
+                        access.ownerId(), access.role()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Members of a workspace (any member may list them)
+     */
+    public List<WorkspaceMemberResponse> getMembers(Long workspaceId, Long userId) {
+        permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.VIEWER);
+        return memberRepository.findByWorkspaceIdOrderByCreatedAt(workspaceId).stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a user to the workspace, or changes their role (owner only)
+     */
+    public WorkspaceMemberResponse addMember(Long workspaceId, WorkspaceMemberRequest request, Long userId) {
+        permissionResolver.require(userId, workspaceId, WorkspaceMember.Role.OWNER);
+        if (request.getRole() == WorkspaceMember.Role.OWNER) {
+            throw new ValidationException("A workspace has exactly one owner", "WORKSPACE_ERROR");
+        }
+        User member = userRepository.findByEmail(request.getEmail())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+
+        WorkspaceMember membership = transactionTemplate.execute(status -> {
+            WorkspaceMember existing = memberRepository.findByWorkspaceIdAndUserId(workspaceId, member.getId())
+                    .orElse(null);
+            if (existing == null) {
+                existing = new WorkspaceMember();
+                existing.setWorkspace(workspaceRepository.getReferenceById(workspaceId));
+                existing.setUser(member);
+            } else if (existing.getRole() == WorkspaceMember.Role.OWNER) {
+                throw new ConflictException("The owner's role cannot be changed", "WORKSPACE_ERROR");
+            }
+            existing.setRole(request.getRole());
+            return memberRepository.save(existing);
+        });
+        permissionResolver.invalidate(member.getId());
+        return new WorkspaceMemberResponse(member.getId(), member.getName(), member.getEmail(), membership.getRole());
+    }
+
+    /**
+     * Removes a member (owner only), or lets a member leave
+     */
+    public void removeMember(Long workspaceId, Long memberUserId, Long userId) {
+        WorkspaceAccess access = permissionResolver.require(userId, workspaceId,
+                memberUserId.equals(userId) ? WorkspaceMember.Role.VIEWER : WorkspaceMember.Role.OWNER);
+        if (memberUserId.equals(access.ownerId())) {
+            throw new ConflictException("The owner cannot leave the workspace", "WORKSPACE_ERROR");
+        }
+        Integer removed = transactionTemplate.execute(status -> memberRepository.deleteMember(workspaceId, memberUserId));
+        if (removed == null || removed == 0) {
+            throw new NotFoundException("Member not found");
+        }
+        permissionResolver.invalidate(memberUserId);
+    }
+
+    private WorkspaceMemberResponse convertToResponse(WorkspaceMember membership) {
+        User user = membership.getUser();
+        return new WorkspaceMemberResponse(user.getId(), user.getName(), user.getEmail(), membership.getRole());
+    }
+}
@@ -0,0 +1,58 @@
+package com.ardentix.taskmanagement.sharding;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent Hash Ring
+ *
+ * Each shard owns many points (virtual nodes) on a 64-bit ring.
+ * A key belongs to the first point clockwise from its hash.
+ * Adding a shard only moves about 1/N of the keys, instead of almost all of them with (userId % N).
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Long, Integer> points = new TreeMap<>();
+    private final int shardCount;
+
+    public ConsistentHashRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("Ring needs at least one shard and one virtual node");
+        }
+        this.shardCount = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                // Hashed twice: mix((shard << 32) | node) alone equals mix(key) for the small
+                // user IDs 0..virtualNodes-1, which would all land on shard 0
+                points.put(mix(mix(((long) shard << 32) | node)), shard);
+            }
+        }
+    }
+
+    /**
+     * Shard that owns the given key
+     */
+    public int shardFor(long key) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        Map.Entry<Long, Integer> point = points.ceilingEntry(mix(key));
+        return (point != null ? point : points.firstEntry()).getValue();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * MurmurHash3 finalizer: spreads sequential IDs evenly over the ring
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.ardentix.taskmanagement.entity.User;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Consistent Hash Shard Router
+ *
+ * Active when sharding.enabled=true.
+ * forUser() holds a striped read lock for the user while the scope is open;
+ * ShardRebalancer takes the write lock to move a user, so requests never see half-moved data.
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ConsistentHashShardRouter implements ShardRouter {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final ShardDirectory directory;
+    private final int shardCount;
+    private final ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[LOCK_STRIPES];
+
+    public ConsistentHashShardRouter(ShardDirectory directory, ShardDataSources shards) {
+        this.directory = directory;
+        this.shardCount = shards.size();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @Override
+    public ShardScope forUser(Long userId) {
+        Lock lock = lockFor(userId).readLock();
+        lock.lock();
+        try {
+            return bind(directory.shardOf(userId), lock);
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    @Override
+    public ShardScope forShard(int shard) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("No such shard: " + shard);
+        }
+        return bind(shard, null);
+    }
+
+    @Override
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Override
+    public void onUserRegistered(User user) {
+        directory.replicateUser(user.getId(), directory.shardOf(user.getId()));
+    }
+
+    /**
+     * Lock guarding a user's placement (write lock = user is being moved)
+     */
+    ReentrantReadWriteLock lockFor(Long userId) {
+        return locks[(int) (ConsistentHashRing.mix(userId) & (LOCK_STRIPES - 1))];
+    }
+
+    private ShardScope bind(int shard, Lock lock) {
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        return new ShardScope() {
+            @Override
+            public int shard() {
+                return shard;
+            }
+
+            @Override
+            public void close() {
+                ShardContext.set(previous);
+                if (lock != null) {
+                    lock.unlock();
+                }
+            }
+        };
+    }
+}
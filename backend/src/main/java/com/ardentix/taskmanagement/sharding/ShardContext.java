@@ -0,0 +1,28 @@
+package com.ardentix.taskmanagement.sharding;
+
+/**
+ * Shard Context
+ *
+ * Holds the shard index bound to the current thread.
+ * ShardRoutingDataSource reads it when a connection is acquired;
+ * no shard bound means the directory shard (0), where users live.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Shard DataSources
+ *
+ * The physical connection pools, one per shard, indexed by shard number.
+ * Jobs that must address a shard directly (schema setup, rebalancing) use these;
+ * request code goes through the routing DataSource instead.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    public static final int DIRECTORY_SHARD = 0;
+
+    private final List<HikariDataSource> pools;
+    private final List<JdbcTemplate> jdbcTemplates;
+    private final List<TransactionTemplate> transactionTemplates;
+
+    public ShardDataSources(List<HikariDataSource> pools) {
+        this.pools = List.copyOf(pools);
+        this.jdbcTemplates = this.pools.stream().map(JdbcTemplate::new).toList();
+        this.transactionTemplates = this.pools.stream()
+                .map(pool -> new TransactionTemplate(new DataSourceTransactionManager(pool)))
+                .toList();
+    }
+
+    public int size() {
+        return pools.size();
+    }
+
+    public HikariDataSource pool(int shard) {
+        return pools.get(shard);
+    }
+
+    public JdbcTemplate jdbc(int shard) {
+        return jdbcTemplates.get(shard);
+    }
+
+    public TransactionTemplate transaction(int shard) {
+        return transactionTemplates.get(shard);
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,138 @@
+package com.ardentix.taskmanagement.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shard Directory
+ *
+ * Placement = consistent-hash ring, except for "pinned" users.
+ * A pin records that a user's tasks still sit on a shard other than the ring's choice
+ * (after the ring changed, or while a user is being moved). Pins live in user_shards on
+ * the directory shard and are held in memory, so routing never queries the database.
+ *
+ * When the configured shard count changes, every user whose ring placement changes is pinned
+ * to the old placement at startup; ShardRebalancer then moves them and removes the pins.
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardDirectory.class);
+
+    private final ShardDataSources shards;
+    private final ShardingProperties properties;
+    private final ConsistentHashRing ring;
+    private final Map<Long, Integer> pins = new ConcurrentHashMap<>();
+
+    public ShardDirectory(ShardDataSources shards, ShardingProperties properties) {
+        this.shards = shards;
+        this.properties = properties;
+        this.ring = new ConsistentHashRing(shards.size(), properties.getVirtualNodes());
+    }
+
+    /**
+     * Shard currently holding the user's tasks
+     */
+    public int shardOf(Long userId) {
+        Integer pinned = pins.get(userId);
+        return pinned != null ? pinned : ring.shardFor(userId);
+    }
+
+    /**
+     * Shard the ring wants the user on
+     */
+    public int ringShardOf(Long userId) {
+        return ring.shardFor(userId);
+    }
+
+    public Map<Long, Integer> pins() {
+        return Map.copyOf(pins);
+    }
+
+    /**
+     * Records that the user's tasks now live on the given shard
+     */
+    void moveTo(Long userId, int shard) {
+        JdbcTemplate directory = shards.jdbc(ShardDataSources.DIRECTORY_SHARD);
+        directory.update("DELETE FROM user_shards WHERE user_id = ?", userId);
+        if (ring.shardFor(userId) == shard) {
+            pins.remove(userId);
+        } else {
+            directory.update("INSERT INTO user_shards (user_id, shard) VALUES (?, ?)", userId, shard);
+            pins.put(userId, shard);
+        }
+    }
+
+    /**
+     * Copies the user row from the directory shard, so tasks.user_id has its foreign key target
+     */
+    void replicateUser(Long userId, int shard) {
+        if (shard == ShardDataSources.DIRECTORY_SHARD) {
+            return;
+        }
+        Integer present = shards.jdbc(shard)
+                .queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId);
+        if (present == null || present == 0) {
+            ShardRowCopier.copy(shards.jdbc(ShardDataSources.DIRECTORY_SHARD), shards.jdbc(shard),
+                    "users", "id", userId);
+        }
+    }
+
+    /**
+     * Creates the directory tables, pins users affected by a ring change and loads all pins
+     */
+    void initialize() {
+        JdbcTemplate directory = shards.jdbc(ShardDataSources.DIRECTORY_SHARD);
+        directory.execute("CREATE TABLE IF NOT EXISTS user_shards (user_id BIGINT PRIMARY KEY, shard INT NOT NULL)");
+        directory.execute("CREATE TABLE IF NOT EXISTS shard_ring (id INT PRIMARY KEY, "
+                + "shard_count INT NOT NULL, virtual_nodes INT NOT NULL)");
+
+        directory.query("SELECT user_id, shard FROM user_shards",
+                (RowCallbackHandler) rs -> pins.put(rs.getLong(1), rs.getInt(2)));
+
+        // Before sharding was enabled, all data lived on what is now the directory shard
+        ConsistentHashRing previous = directory.query("SELECT shard_count, virtual_nodes FROM shard_ring WHERE id = 1",
+                rs -> rs.next() ? new ConsistentHashRing(rs.getInt(1), rs.getInt(2)) : new ConsistentHashRing(1, 1));
+        if (previous.shardCount() != ring.shardCount() || !sameVirtualNodes(directory)) {
+            pinUsersMovedByRing(previous);
+            directory.update("DELETE FROM shard_ring WHERE id = 1");
+            directory.update("INSERT INTO shard_ring (id, shard_count, virtual_nodes) VALUES (1, ?, ?)",
+                    ring.shardCount(), properties.getVirtualNodes());
+        }
+        logger.info("Shard directory ready: {} shards, {} pinned users", ring.shardCount(), pins.size());
+    }
+
+    private boolean sameVirtualNodes(JdbcTemplate directory) {
+        List<Integer> stored = directory.queryForList("SELECT virtual_nodes FROM shard_ring WHERE id = 1", Integer.class);
+        return !stored.isEmpty() && stored.get(0) == properties.getVirtualNodes();
+    }
+
+    private void pinUsersMovedByRing(ConsistentHashRing previous) {
+        JdbcTemplate directory = shards.jdbc(ShardDataSources.DIRECTORY_SHARD);
+        List<Object[]> newPins = new ArrayList<>();
+        directory.query("SELECT id FROM users", (RowCallbackHandler) rs -> {
+            long userId = rs.getLong(1);
+            if (pins.containsKey(userId)) {
+                return;
+            }
+            int before = previous.shardFor(userId);
+            if (before != ring.shardFor(userId)) {
+                newPins.add(new Object[]{userId, before});
+                pins.put(userId, before);
+            }
+        });
+        directory.batchUpdate("INSERT INTO user_shards (user_id, shard) VALUES (?, ?)", newPins);
+        logger.info("Ring changed from {} to {} shards: pinned {} users to their current shard",
+                previous.shardCount(), ring.shardCount(), newPins.size());
+    }
+}
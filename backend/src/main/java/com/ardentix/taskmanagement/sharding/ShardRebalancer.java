@@ -0,0 +1,130 @@
+package com.ardentix.taskmanagement.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Shard Rebalancer (resharding tool)
+ *
+ * Moves a user's rows to another shard while the application keeps serving:
+ * 1. Take the user's write lock (only this user's requests wait; everyone else is unaffected)
+ * 2. Copy the user row and all user-scoped rows to the target shard in one transaction
+ * 3. Flip the placement in the directory
+ * 4. Delete the rows from the source shard
+ *
+ * Each step is idempotent, so a move interrupted by a crash can simply be run again.
+ * Locks are per JVM: run the rebalance on one instance, or drain the others first.
+ *
+ * Typical use: add a datasource to sharding.shards, restart with sharding.rebalance-on-startup=true.
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    /**
+     * Rows owned by a user, parents before children
+     * (task_labels has no user_id, so it is selected through the user's tasks)
+     */
+    static final List<UserScopedTable> USER_SCOPED_TABLES = List.of(
+            new UserScopedTable("labels", "user_id = ?"),
+            new UserScopedTable("tasks", "user_id = ?"),
+            new UserScopedTable("tasks_archive", "user_id = ?"),
+            new UserScopedTable("task_labels", "task_id IN (SELECT id FROM tasks WHERE user_id = ?)"),
+            new UserScopedTable("task_closure", "user_id = ?"),
+            new UserScopedTable("task_dependencies", "user_id = ?"),
+            new UserScopedTable("task_recurrences", "user_id = ?"),
+            new UserScopedTable("task_occurrences", "user_id = ?")
+    );
+
+    /**
+     * A table and the WHERE clause selecting one user's rows (the user ID is the only parameter)
+     */
+    record UserScopedTable(String table, String where) {
+    }
+
+    private final ShardDataSources shards;
+    private final ShardDirectory directory;
+    private final ConsistentHashShardRouter router;
+    private final ShardingProperties properties;
+
+    public ShardRebalancer(ShardDataSources shards, ShardDirectory directory,
+                           ConsistentHashShardRouter router, ShardingProperties properties) {
+        this.shards = shards;
+        this.directory = directory;
+        this.router = router;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebalanceOnStartup() {
+        if (properties.isRebalanceOnStartup()) {
+            Thread thread = new Thread(this::rebalance, "shard-rebalancer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Moves every pinned user to the shard the ring assigns them
+     *
+     * @return number of users moved
+     */
+    public int rebalance() {
+        int moved = 0;
+        for (Map.Entry<Long, Integer> pin : directory.pins().entrySet()) {
+            int target = directory.ringShardOf(pin.getKey());
+            if (target != pin.getValue()) {
+                moveUser(pin.getKey(), target);
+                moved++;
+            }
+        }
+        logger.info("Rebalance finished: moved {} users", moved);
+        return moved;
+    }
+
+    /**
+     * Moves one user's rows to the target shard
+     */
+    public void moveUser(Long userId, int target) {
+        Lock lock = router.lockFor(userId).writeLock();
+        lock.lock();
+        try {
+            int source = directory.shardOf(userId);
+            if (source == target) {
+                return;
+            }
+
+            directory.replicateUser(userId, target);
+            shards.transaction(target).executeWithoutResult(status -> {
+                deleteUserRows(target, userId);
+                for (UserScopedTable table : USER_SCOPED_TABLES) {
+                    ShardRowCopier.copyWhere(shards.jdbc(source), shards.jdbc(target), table.table(), table.where(),
+                            userId);
+                }
+            });
+            directory.moveTo(userId, target);
+            shards.transaction(source).executeWithoutResult(status -> deleteUserRows(source, userId));
+
+            logger.info("Moved user {} from shard {} to shard {}", userId, source, target);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deleteUserRows(int shard, Long userId) {
+        for (int i = USER_SCOPED_TABLES.size() - 1; i >= 0; i--) {
+            UserScopedTable table = USER_SCOPED_TABLES.get(i);
+            shards.jdbc(shard).update("DELETE FROM " + table.table() + " WHERE " + table.where(), userId);
+        }
+    }
+}
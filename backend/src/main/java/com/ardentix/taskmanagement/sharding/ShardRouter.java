@@ -0,0 +1,37 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.ardentix.taskmanagement.entity.User;
+
+/**
+ * Shard Router
+ *
+ * Decides which database holds a user's tasks.
+ * Tasks partition naturally by user_id because every task query is scoped to one user.
+ *
+ * Implementations:
+ * - SingleShardRouter: sharding disabled, everything stays on the one datasource
+ * - ConsistentHashShardRouter: userId mapped to one of N datasources through a consistent-hash ring
+ */
+public interface ShardRouter {
+
+    /**
+     * Binds the shard that owns this user's tasks to the current thread
+     */
+    ShardScope forUser(Long userId);
+
+    /**
+     * Binds a specific shard (for jobs that walk every shard)
+     */
+    ShardScope forShard(int shard);
+
+    /**
+     * Number of shards (1 when sharding is disabled)
+     */
+    int shardCount();
+
+    /**
+     * Called after a user is saved on the directory shard,
+     * so the user row also exists on the shard that will hold their tasks
+     */
+    void onUserRegistered(User user);
+}
@@ -0,0 +1,17 @@
+package com.ardentix.taskmanagement.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Shard Routing DataSource
+ *
+ * The DataSource JPA sees. Every time Hibernate acquires a connection,
+ * it is taken from the pool of the shard bound in ShardContext (directory shard if none).
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
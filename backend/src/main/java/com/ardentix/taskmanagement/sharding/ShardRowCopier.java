@@ -0,0 +1,62 @@
+package com.ardentix.taskmanagement.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shard Row Copier
+ *
+ * Copies rows between shards column-for-column (including IDs).
+ * Columns are read from result set metadata, so new entity fields are copied without code changes.
+ * Table and column names come from constants in this package, never from user input.
+ */
+final class ShardRowCopier {
+
+    private ShardRowCopier() {
+    }
+
+    /**
+     * Copies every row of a table where column = value from source to target
+     *
+     * @return number of rows copied
+     */
+    static int copy(JdbcTemplate source, JdbcTemplate target, String table, String column, Object value) {
+        return copyWhere(source, target, table, column + " = ?", value);
+    }
+
+    /**
+     * Copies every row of a table matching a WHERE clause with one parameter
+     *
+     * @return number of rows copied
+     */
+    static int copyWhere(JdbcTemplate source, JdbcTemplate target, String table, String where, Object value) {
+        List<String> columns = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+
+        source.query("SELECT * FROM " + table + " WHERE " + where, (RowCallbackHandler) rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            if (columns.isEmpty()) {
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    columns.add(meta.getColumnName(i));
+                }
+            }
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            rows.add(row);
+        }, value);
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", columns.stream().map(name -> "?").toList());
+        target.batchUpdate("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + placeholders + ")", rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.ardentix.taskmanagement.config.ConnectionPoolWarmer;
+import com.ardentix.taskmanagement.entity.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Shard Schema Initializer
+ *
+ * Runs once all beans exist, before the web server takes traffic:
+ * - Hibernate only creates/updates the schema on the directory shard (the routing default),
+ *   so the same entity mapping is applied to every other shard with a short-lived EntityManagerFactory
+ * - Task ID sequences are interleaved: shard i hands out i+1, i+1+stride, i+1+2*stride, ...
+ *   restarting above the highest ID on any shard. IDs stay globally unique, even for rows moved
+ *   between shards, and stay well inside JavaScript's safe integer range.
+ * - Loads the shard directory and warms up the extra connection pools
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final ShardDataSources shards;
+    private final ShardDirectory directory;
+    private final ShardingProperties shardingProperties;
+    private final EntityManagerFactoryBuilder entityManagerFactoryBuilder;
+    private final JpaProperties jpaProperties;
+    private final HibernateProperties hibernateProperties;
+    private final ConnectionPoolWarmer poolWarmer;
+
+    public ShardSchemaInitializer(ShardDataSources shards, ShardDirectory directory,
+                                  ShardingProperties shardingProperties,
+                                  EntityManagerFactoryBuilder entityManagerFactoryBuilder,
+                                  JpaProperties jpaProperties, HibernateProperties hibernateProperties,
+                                  ConnectionPoolWarmer poolWarmer) {
+        this.shards = shards;
+        this.directory = directory;
+        this.shardingProperties = shardingProperties;
+        this.entityManagerFactoryBuilder = entityManagerFactoryBuilder;
+        this.jpaProperties = jpaProperties;
+        this.hibernateProperties = hibernateProperties;
+        this.poolWarmer = poolWarmer;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int shard = 1; shard < shards.size(); shard++) {
+            updateSchema(shard);
+        }
+        interleaveTaskIds();
+        directory.initialize();
+
+        for (int shard = 1; shard < shards.size(); shard++) {
+            try {
+                poolWarmer.warmUp(shards.pool(shard));
+            } catch (SQLException e) {
+                logger.warn("Warm-up of shard {} failed: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Applies the JPA mapping to one shard (same naming strategy and ddl-auto as the main EntityManagerFactory)
+     */
+    private void updateSchema(int shard) {
+        Map<String, Object> vendorProperties = hibernateProperties.determineHibernateProperties(
+                jpaProperties.getProperties(), new HibernateSettings().ddlAuto(() -> "update"));
+
+        LocalContainerEntityManagerFactoryBean factory = entityManagerFactoryBuilder
+                .dataSource(shards.pool(shard))
+                .packages(Task.class)
+                .persistenceUnit("shard-" + shard)
+                .properties(vendorProperties)
+                .build();
+        factory.afterPropertiesSet();
+        factory.destroy();
+    }
+
+    private void interleaveTaskIds() {
+        long highestId = 0;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            Long max = shards.jdbc(shard).queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class);
+            highestId = Math.max(highestId, max == null ? 0 : max);
+        }
+
+        int stride = shardingProperties.getIdStride();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            JdbcTemplate jdbc = shards.jdbc(shard);
+            if (!supportsIdentityOptions(jdbc)) {
+                logger.warn("Shard {} cannot restart identity columns; configure auto_increment_increment={} "
+                        + "and auto_increment_offset={} on that server", shard, stride, shard + 1);
+                continue;
+            }
+            long offset = shard + 1;
+            long restart = highestId - Math.floorMod(highestId - offset, stride) + stride;
+            jdbc.execute("ALTER TABLE tasks ALTER COLUMN id SET INCREMENT BY " + stride);
+            jdbc.execute("ALTER TABLE tasks ALTER COLUMN id RESTART WITH " + restart);
+        }
+        logger.info("Task IDs interleaved across {} shards with stride {}", shards.size(), stride);
+    }
+
+    /**
+     * H2 and PostgreSQL support ALTER COLUMN ... RESTART WITH on identity columns; MySQL does not
+     */
+    private boolean supportsIdentityOptions(JdbcTemplate jdbc) {
+        String product = jdbc.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "H2".equalsIgnoreCase(product) || "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
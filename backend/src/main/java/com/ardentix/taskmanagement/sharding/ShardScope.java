@@ -0,0 +1,18 @@
+package com.ardentix.taskmanagement.sharding;
+
+/**
+ * Shard Scope
+ *
+ * Returned by ShardRouter: while open, repository calls on this thread go to one shard.
+ * Use with try-with-resources so the previous shard is always restored.
+ */
+public interface ShardScope extends AutoCloseable {
+
+    /**
+     * Index of the bound shard
+     */
+    int shard();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,68 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.ardentix.taskmanagement.config.ConnectionPoolTuner;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding Configuration
+ *
+ * Active when sharding.enabled=true. Replaces the auto-configured DataSource with:
+ * - One tuned Hikari pool per entry in sharding.shards
+ * - A routing DataSource that picks the pool from ShardContext
+ * - A lazy proxy, so a transaction only takes a connection at its first statement
+ *   (by then the service has bound the user's shard)
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(ShardingProperties properties, ConnectionPoolTuner poolTuner) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty() || shards.size() > properties.getIdStride()) {
+            throw new IllegalStateException("sharding.shards must list between 1 and "
+                    + properties.getIdStride() + " datasources");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("TaskPool-shard-" + i);
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            poolTuner.tune(pool);
+            pools.add(pool);
+        }
+        return new ShardDataSources(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shardDataSources.size(); i++) {
+            targets.put(i, shardDataSources.pool(i));
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shardDataSources.pool(ShardDataSources.DIRECTORY_SHARD));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
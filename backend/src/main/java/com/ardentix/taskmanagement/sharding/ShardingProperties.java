@@ -0,0 +1,107 @@
+package com.ardentix.taskmanagement.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding Properties
+ *
+ * Bound from sharding.* (see application-sharded.properties).
+ * Shard 0 is also the directory shard: users, logins and shard metadata live there.
+ */
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    /**
+     * Points per shard on the hash ring (more points = more even spread)
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Task IDs are interleaved across shards: shard i generates i+1, i+1+stride, ...
+     * This is also the maximum number of shards.
+     */
+    private int idStride = 64;
+
+    /**
+     * Move users whose shard differs from the ring placement in the background after startup
+     */
+    private boolean rebalanceOnStartup;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public int getIdStride() {
+        return idStride;
+    }
+
+    public void setIdStride(int idStride) {
+        this.idStride = idStride;
+    }
+
+    public boolean isRebalanceOnStartup() {
+        return rebalanceOnStartup;
+    }
+
+    public void setRebalanceOnStartup(boolean rebalanceOnStartup) {
+        this.rebalanceOnStartup = rebalanceOnStartup;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+}
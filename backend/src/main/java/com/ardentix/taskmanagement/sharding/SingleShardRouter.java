@@ -0,0 +1,45 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.ardentix.taskmanagement.entity.User;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single Shard Router
+ * Default router when sharding.enabled is not set: every scope is a no-op on shard 0
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class SingleShardRouter implements ShardRouter {
+
+    private static final ShardScope NO_OP = new ShardScope() {
+        @Override
+        public int shard() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Override
+    public ShardScope forUser(Long userId) {
+        return NO_OP;
+    }
+
+    @Override
+    public ShardScope forShard(int shard) {
+        return NO_OP;
+    }
+
+    @Override
+    public int shardCount() {
+        return 1;
+    }
+
+    @Override
+    public void onUserRegistered(User user) {
+        // Nothing to replicate with a single database
+    }
+}
@@ -0,0 +1,518 @@
+package com.ardentix.taskmanagement.store;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Embedded Task Store (task-store.type=embedded)
+ *
+ * For single-node deployments that would otherwise run a file-based H2 just for tasks.
+ * Each user's tasks live in memory in a LongObjectMap (task ID -> immutable StoredTask), with
+ * sorted views per TaskSort built on first read and dropped on the next change, so reads are
+ * map lookups and array slices.
+ *
+ * Durability: every change is appended to a WriteAheadLog and the call returns only after a
+ * group commit has forced it to disk. A scheduled snapshot rolls the log to a new segment,
+ * writes all live tasks to snapshot-<segment>.bin (temp file + atomic rename) and deletes
+ * the older segments, so replay at startup is "latest snapshot + newer segments".
+ *
+ * Changes are visible to readers as soon as they are logged, slightly before they are durable;
+ * the writer's request only succeeds after the fsync.
+ */
+@Component
+@ConditionalOnProperty(name = "task-store.type", havingValue = "embedded")
+public class EmbeddedTaskStore implements TaskStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedTaskStore.class);
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private static final int SNAPSHOT_MAGIC = 0x54534B53; // "TSKS"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Map<Long, UserTasks> users = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Writers hold the read lock (they only exclude each other per user);
+     * a snapshot holds the write lock while it rolls the log and copies the task references
+     */
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    private WriteAheadLog wal;
+    private Path directory;
+
+    @Value("${task-store.directory:/tmp/taskstore}")
+    private String directoryPath;
+
+    @Value("${task-store.wal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${task-store.wal.group-commit-micros:200}")
+    private long groupCommitMicros;
+
+    /**
+     * Replays the latest snapshot and the log segments written after it
+     */
+    @PostConstruct
+    public void recover() {
+        long start = System.nanoTime();
+        directory = Path.of(directoryPath);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create task store directory " + directory, e);
+        }
+        long fromSegment = loadLatestSnapshot();
+        wal = new WriteAheadLog(directory, segmentSizeMb * 1024 * 1024, groupCommitMicros * 1000);
+        wal.replay(fromSegment, this::applyRecord);
+        wal.open(fromSegment);
+        logger.info("Embedded task store recovered {} tasks of {} users from {} in {}ms",
+                users.values().stream().mapToInt(UserTasks::size).sum(), users.size(), directory,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void close() {
+        wal.close();
+    }
+
+    @Override
+    public Task save(Task task) {
+        long userId = task.getUser().getId();
+        LocalDateTime now = LocalDateTime.now();
+        StoredTask stored;
+        long position;
+        snapshotLock.readLock().lock();
+        try {
+            UserTasks tasks = users.computeIfAbsent(userId, id -> new UserTasks());
+            synchronized (tasks) {
+                LocalDateTime createdAt = now;
+                long id;
+                if (task.getId() == null) {
+                    id = nextId.getAndIncrement();
+                } else {
+                    StoredTask existing = tasks.get(task.getId());
+                    if (existing == null) {
+                        throw new NotFoundException("Task not found");
+                    }
+                    id = existing.id();
+                    createdAt = existing.createdAt();
+                }
+                task.setCreatedAt(createdAt);
+                task.setUpdatedAt(now);
+                stored = StoredTask.from(task, id, userId);
+                position = wal.append(encodePut(stored));
+                tasks.put(stored);
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        wal.sync(position);
+        task.setId(stored.id());
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findPersonalTask(User user, Long taskId) {
+        UserTasks tasks = users.get(user.getId());
+        if (tasks == null || taskId == null) {
+            return Optional.empty();
+        }
+        synchronized (tasks) {
+            return Optional.ofNullable(tasks.get(taskId)).map(StoredTask::toTask);
+        }
+    }
+
+    @Override
+    public List<Task> findPersonalTasks(User user, TaskSort sort) {
+        return Arrays.stream(sortedView(user.getId(), sort))
+                .map(StoredTask::toTask)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Window<Task> findPersonalTasks(User user, TaskSort sort, ScrollPosition position, int limit) {
+        StoredTask[] view = sortedView(user.getId(), sort);
+        int from = 0;
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            from = firstAfter(view, keyset.getKeys(), sort);
+        }
+        int to = Math.min(view.length, from + limit);
+        List<Task> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            items.add(view[i].toTask());
+        }
+        return Window.from(items, i -> ScrollPosition.forward(sort.keysOf(items.get(i))), to < view.length);
+    }
+
+    @Override
+    public void delete(Task task) {
+        long userId = task.getUser().getId();
+        long position;
+        snapshotLock.readLock().lock();
+        try {
+            UserTasks tasks = users.get(userId);
+            if (tasks == null) {
+                return;
+            }
+            synchronized (tasks) {
+                if (tasks.get(task.getId()) == null) {
+                    return;
+                }
+                position = wal.append(encodeDelete(userId, task.getId()));
+                tasks.remove(task.getId());
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        wal.sync(position);
+    }
+
+    /**
+     * Writes a compacted snapshot and drops the log segments it covers
+     * Skipped when nothing was logged since the last roll
+     */
+    @Scheduled(fixedDelayString = "${task-store.snapshot-interval-ms:300000}",
+            initialDelayString = "${task-store.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (wal.currentSegmentBytes() == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        long segment;
+        long idWatermark;
+        List<StoredTask> all = new ArrayList<>();
+        snapshotLock.writeLock().lock();
+        try {
+            segment = wal.roll();
+            idWatermark = nextId.get();
+            for (UserTasks tasks : users.values()) {
+                synchronized (tasks) {
+                    all.addAll(tasks.values());
+                }
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+
+        try {
+            writeSnapshot(segment, idWatermark, all);
+            wal.deleteSegmentsBefore(segment);
+            deleteSnapshotsBefore(segment);
+        } catch (IOException e) {
+            // The log segments are still there, so nothing is lost; the next run tries again
+            logger.error("Task store snapshot failed: {}", e.getMessage());
+            return;
+        }
+        logger.info("Task store snapshot of {} tasks written in {}ms", all.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private StoredTask[] sortedView(Long userId, TaskSort sort) {
+        UserTasks tasks = users.get(userId);
+        if (tasks == null) {
+            return new StoredTask[0];
+        }
+        synchronized (tasks) {
+            return tasks.sorted(sort);
+        }
+    }
+
+    /**
+     * Binary search for the first task that comes after the cursor keys in the sort order
+     */
+    private static int firstAfter(StoredTask[] view, Map<String, Object> keys, TaskSort sort) {
+        int low = 0;
+        int high = view.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToKeys(view[mid], keys, sort) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Property values as the database compares them (status as its stored name)
+     */
+    private static Comparable<?> property(StoredTask task, String property) {
+        return switch (property) {
+            case "createdAt" -> task.createdAt();
+            case "updatedAt" -> task.updatedAt();
+            case "status" -> task.status() == null ? null : task.status().name();
+            case "title" -> task.title();
+            default -> task.id();
+        };
+    }
+
+    private static Comparator<StoredTask> comparator(TaskSort sort) {
+        return (a, b) -> {
+            for (Sort.Order order : sort.getSort()) {
+                int result = compare(property(a, order.getProperty()), property(b, order.getProperty()), order);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private static int compareToKeys(StoredTask task, Map<String, Object> keys, TaskSort sort) {
+        for (Sort.Order order : sort.getSort()) {
+            Object key = keys.get(order.getProperty());
+            Comparable<?> value = key instanceof Task.TaskStatus status ? status.name() : (Comparable<?>) key;
+            int result = compare(property(task, order.getProperty()), value, order);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Comparable a, Comparable b, Sort.Order order) {
+        if (a == null || b == null) {
+            return a == b ? 0 : (a == null ? 1 : -1); // nulls last
+        }
+        int result = a.compareTo(b);
+        return order.isAscending() ? result : -result;
+    }
+
+    private static byte[] encodePut(StoredTask task) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(PUT);
+            task.write(out);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encodeDelete(long userId, long taskId) {
+        ByteBuffer buffer = ByteBuffer.allocate(17);
+        buffer.put(DELETE).putLong(userId).putLong(taskId);
+        return buffer.array();
+    }
+
+    /**
+     * Applies one replayed log record (startup only, single-threaded)
+     */
+    private void applyRecord(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            byte type = in.readByte();
+            if (type == PUT) {
+                StoredTask task = StoredTask.read(in);
+                users.computeIfAbsent(task.userId(), id -> new UserTasks()).put(task);
+                nextId.accumulateAndGet(task.id() + 1, Math::max);
+            } else if (type == DELETE) {
+                long userId = in.readLong();
+                long taskId = in.readLong();
+                UserTasks tasks = users.get(userId);
+                if (tasks != null) {
+                    tasks.remove(taskId);
+                }
+            } else {
+                throw new IllegalStateException("Unknown task store record type " + type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt task store record", e);
+        }
+    }
+
+    /**
+     * Snapshot layout: magic, version, first segment after it, next ID, task count, tasks, CRC32C of all that
+     */
+    private void writeSnapshot(long segment, long idWatermark, List<StoredTask> tasks) throws IOException {
+        Path temp = directory.resolve("snapshot.tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            BufferedOutputStream buffered = new BufferedOutputStream(file, 1 << 16);
+            CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(segment);
+            out.writeLong(idWatermark);
+            out.writeInt(tasks.size());
+            for (StoredTask task : tasks) {
+                task.write(out);
+            }
+            out.flush();
+            DataOutputStream trailer = new DataOutputStream(buffered);
+            trailer.writeLong(checked.getChecksum().getValue());
+            trailer.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, snapshotPath(segment), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+    }
+
+    /**
+     * Loads the newest snapshot, if any
+     *
+     * @return first log segment to replay after it (0 = no snapshot, replay everything)
+     */
+    private long loadLatestSnapshot() {
+        List<Long> snapshots = snapshotSegments();
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        long segment = snapshots.get(snapshots.size() - 1);
+        Path path = snapshotPath(segment);
+        try (FileInputStream file = new FileInputStream(path.toFile())) {
+            BufferedInputStream buffered = new BufferedInputStream(file, 1 << 16);
+            CheckedInputStream checked = new CheckedInputStream(buffered, new CRC32C());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION || in.readLong() != segment) {
+                throw new IllegalStateException("Unrecognized task store snapshot " + path);
+            }
+            long idWatermark = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                StoredTask task = StoredTask.read(in);
+                users.computeIfAbsent(task.userId(), id -> new UserTasks()).put(task);
+            }
+            long expected = checked.getChecksum().getValue();
+            if (new DataInputStream(buffered).readLong() != expected) {
+                throw new IllegalStateException("Task store snapshot " + path + " is corrupt");
+            }
+            nextId.set(idWatermark);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read task store snapshot " + path, e);
+        }
+    }
+
+    private void deleteSnapshotsBefore(long segment) throws IOException {
+        for (long existing : snapshotSegments()) {
+            if (existing < segment) {
+                Files.deleteIfExists(snapshotPath(existing));
+            }
+        }
+    }
+
+    private List<Long> snapshotSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("snapshot-\\d{10}\\.bin"))
+                    .map(name -> Long.parseLong(name.substring(9, 19)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list task store directory " + directory, e);
+        }
+    }
+
+    private Path snapshotPath(long segment) {
+        return directory.resolve(String.format("snapshot-%010d.bin", segment));
+    }
+
+    /**
+     * Makes the rename durable (not supported on every platform, e.g. Windows)
+     */
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            logger.debug("Directory fsync not supported: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * One user's tasks, guarded by synchronizing on the instance
+     */
+    private static final class UserTasks {
+
+        private final LongObjectMap<StoredTask> byId = new LongObjectMap<>();
+        private final StoredTask[][] sortedViews = new StoredTask[TaskSort.values().length][];
+
+        StoredTask get(long id) {
+            return byId.get(id);
+        }
+
+        void put(StoredTask task) {
+            byId.put(task.id(), task);
+            Arrays.fill(sortedViews, null);
+        }
+
+        void remove(long id) {
+            byId.remove(id);
+            Arrays.fill(sortedViews, null);
+        }
+
+        int size() {
+            return byId.size();
+        }
+
+        List<StoredTask> values() {
+            return byId.values();
+        }
+
+        /**
+         * Tasks in the given order; the array is shared and must not be modified
+         */
+        StoredTask[] sorted(TaskSort sort) {
+            StoredTask[] view = sortedViews[sort.ordinal()];
+            if (view == null) {
+                view = byId.values().toArray(new StoredTask[0]);
+                Arrays.sort(view, comparator(sort));
+                sortedViews[sort.ordinal()] = view;
+            }
+            return view;
+        }
+    }
+}
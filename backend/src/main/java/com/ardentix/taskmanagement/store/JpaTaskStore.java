@@ -0,0 +1,53 @@
+package com.ardentix.taskmanagement.store;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.repository.TaskRepository;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Task Store (default)
+ *
+ * Personal tasks in the tasks table; every call goes to the database of the current shard.
+ */
+@Component
+@ConditionalOnProperty(name = "task-store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaTaskStore implements TaskStore {
+
+    private final TaskRepository taskRepository;
+
+    @Override
+    public Task save(Task task) {
+        return taskRepository.save(task);
+    }
+
+    @Override
+    public Optional<Task> findPersonalTask(User user, Long taskId) {
+        return taskRepository.findByIdAndUserAndWorkspaceIdIsNull(taskId, user);
+    }
+
+    @Override
+    public List<Task> findPersonalTasks(User user, TaskSort sort) {
+        return taskRepository.findByUserAndWorkspaceIdIsNull(user, sort.getSort());
+    }
+
+    @Override
+    public Window<Task> findPersonalTasks(User user, TaskSort sort, ScrollPosition position, int limit) {
+        return taskRepository.findByUserAndWorkspaceIdIsNull(user, position, sort.getSort(), Limit.of(limit));
+    }
+
+    @Override
+    public void delete(Task task) {
+        taskRepository.delete(task);
+    }
+}
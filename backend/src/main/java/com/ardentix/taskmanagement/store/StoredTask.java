@@ -0,0 +1,93 @@
+package com.ardentix.taskmanagement.store;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Immutable copy of a personal task as held by EmbeddedTaskStore
+ *
+ * Callers only ever get fresh Task objects (toTask), so a task they change is not
+ * seen by anyone else until it is saved. The same binary form is used in the WAL and in snapshots.
+ */
+record StoredTask(long id, long userId, String title, String description, Task.TaskStatus status,
+                  Task.TaskPriority priority, LocalDateTime dueAt, LocalDateTime createdAt,
+                  LocalDateTime updatedAt) {
+
+    static StoredTask from(Task task, long id, long userId) {
+        return new StoredTask(id, userId, task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueAt(), task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    Task toTask() {
+        User user = new User();
+        user.setId(userId);
+        Task task = new Task();
+        task.setId(id);
+        task.setUser(user);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueAt(dueAt);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+
+    /**
+     * Enums are written by name, so reordering or adding constants keeps old logs readable
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeLong(userId);
+        out.writeUTF(title);
+        writeNullableString(out, description);
+        writeNullableString(out, status == null ? null : status.name());
+        writeNullableString(out, priority == null ? null : priority.name());
+        writeNullableTime(out, dueAt);
+        writeNullableTime(out, createdAt);
+        writeNullableTime(out, updatedAt);
+    }
+
+    static StoredTask read(DataInput in) throws IOException {
+        long id = in.readLong();
+        long userId = in.readLong();
+        String title = in.readUTF();
+        String description = readNullableString(in);
+        String status = readNullableString(in);
+        String priority = readNullableString(in);
+        return new StoredTask(id, userId, title, description,
+                status == null ? null : Task.TaskStatus.valueOf(status),
+                priority == null ? null : Task.TaskPriority.valueOf(priority),
+                readNullableTime(in), readNullableTime(in), readNullableTime(in));
+    }
+
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readNullableTime(DataInput in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+}
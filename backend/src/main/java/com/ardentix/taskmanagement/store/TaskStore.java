@@ -0,0 +1,48 @@
+package com.ardentix.taskmanagement.store;
+
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task Store
+ *
+ * Storage for a user's personal tasks, as used by TaskService for create/read/update/delete
+ * and the sorted task list. Two implementations, chosen with task-store.type:
+ * - jpa (default): JpaTaskStore, the tasks table through TaskRepository
+ * - embedded: EmbeddedTaskStore, in memory with a write-ahead log on disk (single node only)
+ *
+ * Features that query the tasks table directly (labels, subtasks, recurrence, workspaces,
+ * reminders, archiving) need the jpa store; with the embedded store the label, subtask and
+ * recurrence endpoints answer 501 (EmbeddedStoreWebConfig).
+ */
+public interface TaskStore {
+
+    /**
+     * Inserts (id == null) or updates a personal task of task.getUser()
+     * Returns the saved task, with ID and timestamps set
+     */
+    Task save(Task task);
+
+    /**
+     * A personal task of the user, or empty if it does not exist or belongs to someone else
+     */
+    Optional<Task> findPersonalTask(User user, Long taskId);
+
+    /**
+     * All personal tasks of the user in the given order
+     */
+    List<Task> findPersonalTasks(User user, TaskSort sort);
+
+    /**
+     * One keyset page of the user's personal tasks, starting after position
+     */
+    Window<Task> findPersonalTasks(User user, TaskSort sort, ScrollPosition position, int limit);
+
+    void delete(Task task);
+}
@@ -0,0 +1,297 @@
+package com.ardentix.taskmanagement.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-Ahead Log
+ *
+ * Append-only log in fixed-size segment files (wal-0000000001.log, ...), each memory-mapped
+ * for writing. A record is [int length][int CRC32C][payload]; a zero length marks the end of the
+ * data in a segment (files are pre-sized and start zeroed). On replay, a record with a bad
+ * checksum ends the log: it was being written when the process died.
+ *
+ * Group commit: append() only copies the record into the mapping and returns its log position.
+ * sync(position) makes it durable. The first waiting thread forces the mapping to disk for
+ * everyone written so far, the others wait for that flush, so one fsync covers many writers.
+ */
+class WriteAheadLog implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long groupCommitNanos;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition flushed = syncLock.newCondition();
+
+    // Guarded by appendLock
+    private long segmentNumber;
+    private FileChannel channel;
+    private MappedByteBuffer mapping;
+    private long segmentStart; // log position of the segment's first byte
+    private long written;      // log position after the last appended record
+
+    // Guarded by syncLock
+    private long durable;
+    private boolean flushing;
+
+    WriteAheadLog(Path directory, int segmentSize, long groupCommitNanos) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.groupCommitNanos = groupCommitNanos;
+    }
+
+    /**
+     * Starts writing to a new segment after the newest existing one
+     * (the tail of an old segment is never appended to, so a torn record stays the last one there)
+     * and numbered at least minSegment, so it is replayed after the snapshot that points there
+     */
+    void open(long minSegment) {
+        try {
+            Files.createDirectories(directory);
+            List<Long> existing = segments();
+            long next = existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1;
+            openSegment(Math.max(next, minSegment));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open write-ahead log in " + directory, e);
+        }
+    }
+
+    /**
+     * Copies a record into the log
+     *
+     * @return log position after the record, to pass to sync()
+     */
+    long append(byte[] payload) {
+        int length = HEADER_BYTES + payload.length;
+        if (length > segmentSize - HEADER_BYTES) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        appendLock.lock();
+        try {
+            // Keep room for the zero length that ends a segment
+            if (mapping.remaining() < length + HEADER_BYTES) {
+                rollLocked();
+            }
+            mapping.putInt(payload.length);
+            mapping.putInt((int) crc.getValue());
+            mapping.put(payload);
+            written = segmentStart + mapping.position();
+            return written;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until everything up to position is on disk
+     */
+    void sync(long position) {
+        syncLock.lock();
+        try {
+            while (durable < position) {
+                if (flushing) {
+                    flushed.await(10, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                flushing = true;
+                syncLock.unlock();
+                long reached = 0;
+                try {
+                    if (groupCommitNanos > 0) {
+                        // Give concurrent writers a moment to join this flush
+                        LockSupport.parkNanos(groupCommitNanos);
+                    }
+                    reached = force();
+                } finally {
+                    syncLock.lock();
+                    flushing = false;
+                    durable = Math.max(durable, reached);
+                    flushed.signalAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the write-ahead log", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the current segment and starts the next one
+     *
+     * @return number of the new segment: everything logged before it is in older segments
+     */
+    long roll() {
+        appendLock.lock();
+        try {
+            rollLocked();
+            return segmentNumber;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Bytes appended to the current segment so far
+     */
+    long currentSegmentBytes() {
+        appendLock.lock();
+        try {
+            return written - segmentStart;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Feeds every intact record of segments fromSegment and newer to the consumer, oldest first
+     */
+    void replay(long fromSegment, Consumer<ByteBuffer> consumer) {
+        try {
+            for (long number : segments()) {
+                if (number < fromSegment || number == segmentNumber) {
+                    continue;
+                }
+                try (FileChannel file = FileChannel.open(segmentPath(number), StandardOpenOption.READ)) {
+                    ByteBuffer data = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+                    while (data.remaining() >= HEADER_BYTES) {
+                        int length = data.getInt();
+                        int checksum = data.getInt();
+                        if (length <= 0 || length > data.remaining()) {
+                            break;
+                        }
+                        ByteBuffer payload = data.slice(data.position(), length);
+                        CRC32C crc = new CRC32C();
+                        crc.update(payload.duplicate());
+                        if ((int) crc.getValue() != checksum) {
+                            break;
+                        }
+                        consumer.accept(payload);
+                        data.position(data.position() + length);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replay write-ahead log", e);
+        }
+    }
+
+    /**
+     * Deletes segments older than the given one (their records are in a snapshot)
+     */
+    void deleteSegmentsBefore(long number) {
+        try {
+            for (long existing : segments()) {
+                if (existing < number) {
+                    Files.deleteIfExists(segmentPath(existing));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete old log segments", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (mapping != null) {
+                mapping.force();
+                channel.close();
+                mapping = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close write-ahead log", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces the appended part of the current segment to disk
+     *
+     * @return log position that is now durable
+     */
+    private long force() {
+        MappedByteBuffer target;
+        int length;
+        long reached;
+        appendLock.lock();
+        try {
+            target = mapping;
+            length = (int) (written - segmentStart);
+            reached = written;
+        } finally {
+            appendLock.unlock();
+        }
+        // Outside the append lock: writers keep appending while the pages are flushed
+        // (a roll in between forces the old segment itself, so forcing it again is harmless)
+        target.force(0, length);
+        return reached;
+    }
+
+    private void rollLocked() {
+        try {
+            // Everything in the old segment becomes durable before the new one is used
+            mapping.force();
+            channel.close();
+            long end = written;
+            openSegment(segmentNumber + 1);
+            segmentStart = end;
+            written = end;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll write-ahead log", e);
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        segmentNumber = number;
+        channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        // Make the file's new size durable, so the mapping is not lost with the directory entry
+        channel.force(true);
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("wal-%010d.log", number));
+    }
+
+    /**
+     * Numbers of the segment files on disk, ascending
+     */
+    private List<Long> segments() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("wal-\\d{10}\\.log"))
+                    .map(name -> Long.parseLong(name.substring(4, 14)))
+                    .sorted()
+                    .forEach(numbers::add);
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ardentix.taskmanagement.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC Observation Listener
+ *
+ * Wraps every SQL statement in a "jdbc.query" observation, which becomes a child span of the
+ * service method (or request) that ran it, plus a timer per statement type.
+ *
+ * The SQL on the span is sanitized: string and number literals are replaced by ?, so
+ * passwords, emails or task titles written into a query never reach the trace backend.
+ * Hibernate already binds values as ?, this covers native and hand-written SQL.
+ */
+public class JdbcObservationListener implements QueryExecutionListener {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final int MAX_STATEMENT_LENGTH = 1000;
+
+    // beforeQuery and afterQuery run on the same thread, and a thread runs one statement at a time
+    private static final ThreadLocal<Observation> CURRENT = new ThreadLocal<>();
+
+    private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+    private volatile ObservationRegistry observationRegistry;
+
+    public JdbcObservationListener(ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        this.observationRegistryProvider = observationRegistryProvider;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        String operation = operation(sql);
+        Observation observation = Observation.createNotStarted("jdbc.query", registry())
+                .contextualName(operation)
+                .lowCardinalityKeyValue("db.operation", operation)
+                .highCardinalityKeyValue("db.statement", sanitize(sql));
+        if (execInfo.isBatch()) {
+            observation.highCardinalityKeyValue("db.batch.size", Integer.toString(execInfo.getBatchSize()));
+        }
+        CURRENT.set(observation.start());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Observation observation = CURRENT.get();
+        if (observation == null) {
+            return;
+        }
+        CURRENT.remove();
+        if (execInfo.getThrowable() != null) {
+            observation.error(execInfo.getThrowable());
+        }
+        observation.stop();
+    }
+
+    /**
+     * Looked up on the first statement, not when the DataSource is created: the registry's
+     * handlers (tracer, meters) are not ready that early
+     */
+    private ObservationRegistry registry() {
+        ObservationRegistry registry = observationRegistry;
+        if (registry == null) {
+            registry = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+            observationRegistry = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * Replaces literals with ? and cuts very long statements
+     */
+    static String sanitize(String sql) {
+        String sanitized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        sanitized = NUMBER_LITERAL.matcher(sanitized).replaceAll("?");
+        if (sanitized.length() > MAX_STATEMENT_LENGTH) {
+            sanitized = sanitized.substring(0, MAX_STATEMENT_LENGTH) + "...";
+        }
+        return sanitized;
+    }
+
+    /**
+     * First keyword of the statement (SELECT, INSERT, ...), used as the span name
+     */
+    private static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "SQL" : trimmed.substring(0, end).toUpperCase();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ardentix.taskmanagement.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC Tracing Post Processor
+ *
+ * Wraps the application's "dataSource" bean in a datasource-proxy that reports every statement
+ * to JdbcObservationListener.
+ *
+ * - Only the bean named "dataSource" is wrapped: the Hikari pool in a single-database setup,
+ *   the routing DataSource in the sharded profile (so each shard's pools stay unwrapped)
+ * - The proxy passes unwrap()/isWrapperFor() through, so ConnectionPoolWarmer and the
+ *   pool metrics still find the HikariDataSource behind it
+ * - tracing.jdbc.enabled=false leaves the DataSource untouched
+ */
+@Component
+public class JdbcTracingPostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private final boolean enabled;
+
+    public JdbcTracingPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry,
+                                    @Value("${tracing.jdbc.enabled:true}") boolean enabled) {
+        this.observationRegistry = observationRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new JdbcObservationListener(observationRegistry))
+                .build();
+    }
+}
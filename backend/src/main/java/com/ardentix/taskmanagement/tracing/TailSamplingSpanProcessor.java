@@ -0,0 +1,162 @@
+package com.ardentix.taskmanagement.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tail Sampling Span Processor
+ *
+ * Decides whether to export a trace once it is finished, not when it starts:
+ * - every span of a request is held in memory until the request's root span ends
+ * - the trace is kept when any span failed, when the root took longer than the slow threshold,
+ *   or for a small random baseline (so normal traffic stays visible too)
+ * - kept spans go to the delegate (a BatchSpanProcessor), the others are dropped
+ *
+ * Head sampling (deciding at the start) at 1% would throw away 99% of the slow and failing
+ * requests, which are the ones worth looking at.
+ *
+ * Memory is bounded: at most maxPendingTraces traces are held, and traces whose root never ends
+ * in this process (spans finishing after their request) are dropped after maxTraceAgeMs.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+    private static final AttributeKey<String> EXCEPTION = AttributeKey.stringKey("exception");
+    private static final int SWEEP_EVERY = 1024;
+
+    private final SpanProcessor delegate;
+    private final long slowThresholdNanos;
+    private final double baselineRatio;
+    private final int maxPendingTraces;
+    private final long maxTraceAgeNanos;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final AtomicLong endedSpans = new AtomicLong();
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, long slowThresholdMs, double baselineRatio,
+                                     int maxPendingTraces, long maxTraceAgeMs) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+        this.baselineRatio = baselineRatio;
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxTraceAgeNanos = maxTraceAgeMs * 1_000_000;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (endedSpans.incrementAndGet() % SWEEP_EVERY == 0) {
+            evictStale();
+        }
+
+        String traceId = span.getSpanContext().getTraceId();
+        if (isLocalRoot(span)) {
+            PendingTrace trace = pending.remove(traceId);
+            List<ReadableSpan> children = trace != null ? trace.close() : List.of();
+            boolean failed = isFailed(span) || (trace != null && trace.failed);
+            if (failed || span.getLatencyNanos() >= slowThresholdNanos
+                    || ThreadLocalRandom.current().nextDouble() < baselineRatio) {
+                children.forEach(delegate::onEnd);
+                delegate.onEnd(span);
+            }
+            return;
+        }
+
+        PendingTrace trace = pending.get(traceId);
+        if (trace == null) {
+            if (pending.size() >= maxPendingTraces) {
+                return;
+            }
+            trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+        }
+        trace.add(span, isFailed(span));
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * The first span of the request in this process: no parent, or a parent from another service
+     */
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    /**
+     * Error status, a 5xx HTTP outcome, or an exception recorded by an observation
+     */
+    private static boolean isFailed(ReadableSpan span) {
+        if ("SERVER_ERROR".equals(span.getAttribute(OUTCOME))) {
+            return true;
+        }
+        String exception = span.getAttribute(EXCEPTION);
+        if (exception != null && !"none".equals(exception)) {
+            return true;
+        }
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    private void evictStale() {
+        long now = System.nanoTime();
+        pending.values().removeIf(trace -> now - trace.startedAt > maxTraceAgeNanos);
+    }
+
+    private static final class PendingTrace {
+
+        private final long startedAt;
+        private final List<ReadableSpan> spans = new ArrayList<>();
+        private boolean closed;
+        private volatile boolean failed;
+
+        private PendingTrace(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private synchronized void add(ReadableSpan span, boolean spanFailed) {
+            // A span ending after its root has been decided on is dropped
+            if (!closed) {
+                spans.add(span);
+                failed |= spanFailed;
+            }
+        }
+
+        private synchronized List<ReadableSpan> close() {
+            closed = true;
+            return spans;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ardentix.taskmanagement.tracing;
+
+import com.ardentix.taskmanagement.warmup.WarmUpRequests;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.RequestReplyReceiverContext;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Tracing Configuration
+ *
+ * Spans of one request, all in the same trace:
+ * - HTTP request: one span per endpoint (e.g. "http get /api/tasks/{id}"), created by Spring Boot
+ * - JwtAuthenticationFilter: "jwt authenticate"
+ * - TaskService / AuthService / SecurityUtil methods: one span per call, from @Observed (ObservedAspect)
+ * - every SQL statement: "SELECT", "INSERT", ... with the sanitized SQL (JdbcTracingPostProcessor)
+ *
+ * The trace context travels in the W3C "traceparent" header, and traceId/spanId are added to
+ * every log line of the request.
+ *
+ * Every span is recorded and TailSamplingSpanProcessor decides at the end of the request which
+ * traces to export: failed ones, slow ones and a small baseline.
+ *
+ * Export: set management.otlp.tracing.endpoint (e.g. MANAGEMENT_OTLP_TRACING_ENDPOINT=
+ * http://collector:4318/v1/traces). Without it spans are recorded but not sent anywhere.
+ * Tests can register an InMemorySpanExporter bean to read the exported spans.
+ *
+ * WarmUpRunner's requests are not observed at all: no spans and no metrics.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * Skips observations of warm-up requests
+     *
+     * - HTTP request observation (servlet and reactive): by its X-Warm-Up header
+     * - everything inside a servlet request (JWT, service methods, SQL): by the request attribute
+     *   RequestLoggingFilter sets
+     */
+    @Bean
+    public ObservationPredicate skipWarmUpRequests() {
+        return (name, context) -> {
+            if (context instanceof RequestReplyReceiverContext<?, ?> request && request.getCarrier() != null) {
+                return !isWarmUpHeader(request);
+            }
+            return !WarmUpRequests.isCurrentRequest();
+        };
+    }
+
+    private static <C> boolean isWarmUpHeader(RequestReplyReceiverContext<C, ?> request) {
+        return WarmUpRequests.isWarmUp(request.getGetter().get(request.getCarrier(), WarmUpRequests.HEADER));
+    }
+
+    /**
+     * Replaces Spring Boot's tracer provider: always samples (the decision is made at the end,
+     * by TailSamplingSpanProcessor) and exports through all SpanExporter beans
+     */
+    @Bean
+    public SdkTracerProvider tailSamplingTracerProvider(
+            ObjectProvider<SpanExporter> spanExporters,
+            @Value("${spring.application.name:task-management}") String serviceName,
+            @Value("${tracing.tail-sampling.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${tracing.tail-sampling.baseline-ratio:0.01}") double baselineRatio,
+            @Value("${tracing.tail-sampling.max-pending-traces:10000}") int maxPendingTraces,
+            @Value("${tracing.tail-sampling.max-trace-age-ms:60000}") long maxTraceAgeMs) {
+
+        Resource resource = Resource.getDefault()
+                .merge(Resource.builder().put(AttributeKey.stringKey("service.name"), serviceName).build());
+        SdkTracerProviderBuilder builder = SdkTracerProvider.builder()
+                .setResource(resource)
+                .setSampler(Sampler.alwaysOn());
+
+        List<SpanExporter> exporters = spanExporters.orderedStream().toList();
+        if (!exporters.isEmpty()) {
+            BatchSpanProcessor export = BatchSpanProcessor.builder(SpanExporter.composite(exporters)).build();
+            builder.addSpanProcessor(new TailSamplingSpanProcessor(
+                    export, slowThresholdMs, baselineRatio, maxPendingTraces, maxTraceAgeMs));
+        }
+        return builder.build();
+    }
+}
@@ -1,12 +1,24 @@
 package com.ardentix.taskmanagement.util;
 
+import com.ardentix.taskmanagement.security.JwtKeyManager;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 
 /**
@@ -21,22 +33,69 @@ import java.util.Date;
  * - Header: Algorithm and token type
  * - Payload: User data (claims)
  * - Signature: Ensures token hasn't been modified
+ * 
+ * Signing: ES256 with the active key from JwtKeyManager; the header carries its "kid",
+ * so anyone holding the public JWKS (/.well-known/jwks.json) can verify tokens.
+ * Tokens without a kid were signed with the old HMAC secret. With jwt.keys.accept-legacy-hmac=true
+ * (off by default) they are accepted for one access-token lifetime after the first ES256 key became
+ * active, so switching over logs nobody out. After that no HMAC token can still be valid, and a
+ * leaked jwt.secret can no longer be used to sign tokens.
  */
 @Component
 public class JwtUtil {
     
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+    
+    private final JwtKeyManager keyManager;
+    
     @Value("${jwt.secret}")
     private String secret;
     
     @Value("${jwt.expiration}")
     private Long expiration;
     
+    @Value("${jwt.keys.accept-legacy-hmac:false}")
+    private boolean acceptLegacyHmac;
+    
+    // Built once: deriving the key and building the parser on every request is pure overhead
+    private SecretKey legacyKey;
+    private long legacyHmacUntilMillis;
+    private JwtParser parser;
+    
+    public JwtUtil(JwtKeyManager keyManager) {
+        this.keyManager = keyManager;
+    }
+    
     /**
-     * Generates a secret key from the secret string
-     * HS512: HMAC-SHA512 algorithm for signing
+     * Builds the parser: the verification key is looked up by the token's kid
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @PostConstruct
+    void init() {
+        legacyKey = Keys.hmacShaKeyFor(secret.getBytes());
+        if (acceptLegacyHmac) {
+            LocalDateTime until = keyManager.firstKeyActivatesAt().plusNanos(expiration * 1_000_000);
+            legacyHmacUntilMillis = until.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            logger.info("Accepting HMAC-signed tokens without a key ID until {}", until);
+        }
+        parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            if (acceptLegacyHmac && System.currentTimeMillis() < legacyHmacUntilMillis) {
+                                return legacyKey;
+                            }
+                            throw new UnsupportedJwtException("Token has no key ID");
+                        }
+                        PublicKey key = keyManager.verificationKey(kid);
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
     }
     
     /**
@@ -47,15 +106,27 @@ public class JwtUtil {
      * @return JWT token string
      */
     public String generateToken(String email, Long userId) {
+        return generateToken(email, userId, null);
+    }
+    
+    /**
+     * Generates a short-lived access token tied to a refresh token family
+     * 
+     * @param familyId Refresh token family ("fid" claim); revoking the family revokes this token
+     */
+    public String generateToken(String email, Long userId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        JwtKeyManager.ActiveKey key = keyManager.activeKey();
         
         return Jwts.builder()
+                .header().keyId(key.kid()).and() // Tells verifiers which public key to use
                 .subject(email) // Sets email as subject
                 .claim("userId", userId) // Adds custom claim
+                .claim("fid", familyId) // Refresh token family (null claims are left out)
                 .issuedAt(now) // Token creation time
                 .expiration(expiryDate) // Token expiration time
-                .signWith(getSigningKey()) // Signs token with secret key
+                .signWith(key.privateKey(), Jwts.SIG.ES256) // Signs token with the private key
                 .compact(); // Converts to string
     }
     
@@ -89,14 +160,20 @@ public class JwtUtil {
         }
     }
     
+    /**
+     * Validates the token and returns its claims in one parse
+     * Throws JwtException if token is invalid/expired
+     */
+    public Claims parseClaims(String token) {
+        return getClaimsFromToken(token);
+    }
+    
     /**
      * Extracts claims (data) from token
      * Throws exception if token is invalid/expired
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey()) // Verifies signature
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -0,0 +1,41 @@
+package com.ardentix.taskmanagement.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log Rate Limiter
+ *
+ * Counts an event on every call but allows at most one log line per interval.
+ * Used for events an attacker can trigger at will (e.g. invalid tokens),
+ * where logging each one would turn into a log storm.
+ *
+ * Usage:
+ *   long count = limiter.record();
+ *   if (count > 0) logger.warn("{} invalid tokens in the last interval", count);
+ */
+public class LogRateLimiter {
+
+    private final long intervalNanos;
+    private final LongAdder pending = new LongAdder();
+    private final AtomicLong nextLogAt = new AtomicLong(System.nanoTime());
+
+    public LogRateLimiter(long intervalMillis) {
+        this.intervalNanos = intervalMillis * 1_000_000;
+    }
+
+    /**
+     * Records one event
+     *
+     * @return number of events since the last permitted log line if this call may log now, otherwise 0
+     */
+    public long record() {
+        pending.increment();
+        long now = System.nanoTime();
+        long next = nextLogAt.get();
+        if (now - next >= 0 && nextLogAt.compareAndSet(next, now + intervalNanos)) {
+            return pending.sumThenReset();
+        }
+        return 0;
+    }
+}
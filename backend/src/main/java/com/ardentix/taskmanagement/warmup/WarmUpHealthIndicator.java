@@ -0,0 +1,36 @@
+package com.ardentix.taskmanagement.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warm-Up Health Indicator
+ *
+ * The "warmUp" component of the readiness probe (/actuator/health/readiness):
+ * - OUT_OF_SERVICE until WarmUpRunner has finished, so no traffic is routed to a cold instance
+ * - UP once it completed, was skipped, or failed (a failed warm-up must not keep the instance out)
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpRunner warmUpRunner;
+
+    public WarmUpHealthIndicator(WarmUpRunner warmUpRunner) {
+        this.warmUpRunner = warmUpRunner;
+    }
+
+    @Override
+    public Health health() {
+        WarmUpRunner.Phase phase = warmUpRunner.getPhase();
+        Health.Builder health = phase == WarmUpRunner.Phase.PENDING || phase == WarmUpRunner.Phase.RUNNING
+                ? Health.outOfService()
+                : Health.up();
+        return health
+                .withDetail("phase", phase)
+                .withDetail("rounds", warmUpRunner.getRounds())
+                .withDetail("stable", warmUpRunner.isStable())
+                .withDetail("medianMs", warmUpRunner.getMedianMs())
+                .build();
+    }
+}
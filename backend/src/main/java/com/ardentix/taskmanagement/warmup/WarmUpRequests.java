@@ -0,0 +1,50 @@
+package com.ardentix.taskmanagement.warmup;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.UUID;
+
+/**
+ * Warm-Up Requests
+ *
+ * WarmUpRunner sends its requests with an X-Warm-Up header, so they can be left out of
+ * metrics, traces and the access log:
+ * - the header value is a random token created at startup, so clients cannot hide their
+ *   own requests by sending the header
+ * - RequestLoggingFilter marks a matching request with the WARM_UP_ATTRIBUTE request attribute,
+ *   which isCurrentRequest() reads for observations made while the request is handled
+ */
+public final class WarmUpRequests {
+
+    public static final String HEADER = "X-Warm-Up";
+    public static final String WARM_UP_ATTRIBUTE = WarmUpRequests.class.getName() + ".warmUp";
+
+    private static final String TOKEN = UUID.randomUUID().toString();
+
+    private WarmUpRequests() {
+    }
+
+    /**
+     * Value WarmUpRunner sends in the X-Warm-Up header
+     */
+    static String token() {
+        return TOKEN;
+    }
+
+    /**
+     * True if the X-Warm-Up header value was sent by this instance's WarmUpRunner
+     */
+    public static boolean isWarmUp(String headerValue) {
+        return TOKEN.equals(headerValue);
+    }
+
+    /**
+     * True while a warm-up request is handled on this thread (servlet stack only)
+     */
+    public static boolean isCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(WARM_UP_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
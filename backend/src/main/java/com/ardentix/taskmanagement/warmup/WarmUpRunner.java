@@ -0,0 +1,314 @@
+package com.ardentix.taskmanagement.warmup;
+
+import com.ardentix.taskmanagement.dto.RegisterRequest;
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.ConflictException;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import com.ardentix.taskmanagement.service.AuthService;
+import com.ardentix.taskmanagement.util.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Warm-Up Runner
+ *
+ * Right after a deploy the JIT has not compiled anything yet, Hibernate has no query plans cached
+ * and Jackson has no serializers built, so the first real users see slow responses.
+ * Spring Boot only reports the application ready (readiness probe UP) after all ApplicationRunners
+ * have finished, so this runner replays a small workload first, through the real HTTP stack:
+ *
+ * - token: create and validate a JWT
+ * - create / read / update / delete: task CRUD via /api/tasks as a scratch user
+ * - list: GET /api/tasks with a few dozen tasks (list serialization)
+ *
+ * The workload runs in rounds of warm-up.iterations-per-round. It stops when the median latency of
+ * every operation changed less than warm-up.stable-tolerance since the previous round
+ * (after at least warm-up.min-rounds), or after warm-up.max-duration-ms.
+ *
+ * The scratch user (warm-up@task-management.invalid, random password nobody knows) is created once
+ * and reused; its tasks are deleted again. If warm-up fails the application still starts:
+ * slow first requests are better than no capacity.
+ *
+ * - Off by default (WARM_UP_ENABLED=true turns it on): the scratch user stays in the database and
+ *   every round uses up task IDs (and write-ahead log entries with the embedded store)
+ * - Requests carry the X-Warm-Up header (see WarmUpRequests), so they are not counted in metrics,
+ *   traced or written to the access log
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    public enum Phase { PENDING, RUNNING, COMPLETED, SKIPPED, FAILED }
+
+    private static final String SCRATCH_EMAIL = "warm-up@task-management.invalid";
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+    private static final int LISTED_TASKS = 25;
+    // Medians closer than this are equal: sub-millisecond timings jitter by more than 10%
+    private static final double MIN_DELTA_MS = 0.05;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Environment environment;
+    private final UserRepository userRepository;
+    private final AuthService authService;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxDurationNanos;
+    private final int iterationsPerRound;
+    private final int minRounds;
+    private final double stableTolerance;
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile int rounds;
+    private volatile boolean stable;
+    private volatile Map<String, Double> medianMs = Map.of();
+
+    public WarmUpRunner(Environment environment,
+                        UserRepository userRepository,
+                        AuthService authService,
+                        JwtUtil jwtUtil,
+                        ObjectMapper objectMapper,
+                        @Value("${warm-up.enabled:false}") boolean enabled,
+                        @Value("${warm-up.max-duration-ms:60000}") long maxDurationMs,
+                        @Value("${warm-up.iterations-per-round:50}") int iterationsPerRound,
+                        @Value("${warm-up.min-rounds:3}") int minRounds,
+                        @Value("${warm-up.stable-tolerance:0.1}") double stableTolerance) {
+        this.environment = environment;
+        this.userRepository = userRepository;
+        this.authService = authService;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxDurationNanos = maxDurationMs * 1_000_000;
+        this.iterationsPerRound = Math.max(1, iterationsPerRound);
+        this.minRounds = Math.max(2, minRounds);
+        this.stableTolerance = stableTolerance;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (!enabled || port == null) {
+            // No embedded server (e.g. a test with a mock web environment): nothing to warm up
+            phase = Phase.SKIPPED;
+            return;
+        }
+
+        phase = Phase.RUNNING;
+        long start = System.nanoTime();
+        try {
+            warmUp(new ApiClient(port), start + maxDurationNanos);
+            phase = Phase.COMPLETED;
+            logger.info("Warm-up {} after {} rounds in {}ms, median latency (ms): {}",
+                    stable ? "stable" : "stopped at time limit", rounds,
+                    (System.nanoTime() - start) / 1_000_000, medianMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            phase = Phase.FAILED;
+        } catch (IOException | RuntimeException e) {
+            phase = Phase.FAILED;
+            logger.warn("Warm-up stopped after {} rounds: {}", rounds, e.toString());
+        }
+    }
+
+    private void warmUp(ApiClient api, long deadline) throws IOException, InterruptedException {
+        User user = scratchUser();
+        api.token = jwtUtil.generateToken(user.getEmail(), user.getId());
+
+        // Tasks left behind by a warm-up that was cut short
+        for (JsonNode task : objectMapper.readTree(api.send(api.request("").GET()))) {
+            api.send(api.request("/" + task.get("id").asLong()).DELETE());
+        }
+
+        List<Long> listed = new ArrayList<>();
+        try {
+            for (int i = 0; i < LISTED_TASKS; i++) {
+                listed.add(api.createTask(i));
+            }
+            Map<String, Double> previous = null;
+            while (System.nanoTime() < deadline) {
+                Map<String, Double> current = runRound(api, user);
+                rounds++;
+                medianMs = current;
+                if (previous != null && rounds >= minRounds && isStable(previous, current)) {
+                    stable = true;
+                    return;
+                }
+                previous = current;
+            }
+        } finally {
+            deleteTasks(api, listed);
+        }
+    }
+
+    private void deleteTasks(ApiClient api, List<Long> ids) {
+        try {
+            for (Long id : ids) {
+                api.send(api.request("/" + id).DELETE());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // Removed by the next warm-up
+            logger.debug("Warm-up tasks not deleted: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * One round of the workload; returns the median latency of each operation in milliseconds
+     */
+    private Map<String, Double> runRound(ApiClient api, User user) throws IOException, InterruptedException {
+        Map<String, long[]> timings = new LinkedHashMap<>();
+        for (int i = 0; i < iterationsPerRound; i++) {
+            long t = System.nanoTime();
+            String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+            jwtUtil.parseClaims(token);
+            api.token = token;
+            t = record(timings, "token", i, t);
+
+            long id = api.createTask(i);
+            t = record(timings, "create", i, t);
+            api.send(api.request("/" + id).GET());
+            t = record(timings, "read", i, t);
+            api.send(api.request("/" + id).PUT(api.taskBody(i, true)));
+            t = record(timings, "update", i, t);
+            api.send(api.request("").GET());
+            t = record(timings, "list", i, t);
+            api.send(api.request("/" + id).DELETE());
+            record(timings, "delete", i, t);
+        }
+
+        Map<String, Double> medians = new LinkedHashMap<>();
+        timings.forEach((operation, nanos) -> {
+            Arrays.sort(nanos);
+            medians.put(operation, Math.round(nanos[nanos.length / 2] / 1_000.0) / 1_000.0);
+        });
+        return medians;
+    }
+
+    /**
+     * Stores the time since start for this iteration and returns the current time
+     */
+    private long record(Map<String, long[]> timings, String operation, int iteration, long start) {
+        long now = System.nanoTime();
+        timings.computeIfAbsent(operation, op -> new long[iterationsPerRound])[iteration] = now - start;
+        return now;
+    }
+
+    private boolean isStable(Map<String, Double> previous, Map<String, Double> current) {
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            double before = previous.get(entry.getKey());
+            double delta = Math.abs(entry.getValue() - before);
+            if (delta > Math.max(before * stableTolerance, MIN_DELTA_MS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The scratch user, registered on first start (concurrent instances may race, either one wins)
+     */
+    private User scratchUser() {
+        if (userRepository.findByEmail(SCRATCH_EMAIL).isEmpty()) {
+            RegisterRequest request = new RegisterRequest();
+            request.setName("Warm-up");
+            request.setEmail(SCRATCH_EMAIL);
+            request.setPassword(UUID.randomUUID().toString());
+            try {
+                authService.register(request);
+            } catch (ConflictException e) {
+                // Registered by another instance in the meantime
+            }
+        }
+        return userRepository.findByEmail(SCRATCH_EMAIL)
+                .orElseThrow(() -> new IllegalStateException("Warm-up user could not be created"));
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public boolean isStable() {
+        return stable;
+    }
+
+    /**
+     * Median latency per operation in the last round, in milliseconds
+     */
+    public Map<String, Double> getMedianMs() {
+        return medianMs;
+    }
+
+    /**
+     * Calls /api/tasks on this instance's own port as the scratch user
+     */
+    private final class ApiClient {
+
+        private final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        private final String baseUrl;
+        private String token;
+
+        private ApiClient(int port) {
+            this.baseUrl = "http://127.0.0.1:" + port + "/api/tasks";
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + token)
+                    .header(WarmUpRequests.HEADER, WarmUpRequests.token())
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/json");
+        }
+
+        private long createTask(int i) throws IOException, InterruptedException {
+            String body = send(request("").POST(taskBody(i, false)));
+            return objectMapper.readTree(body).get("id").asLong();
+        }
+
+        private HttpRequest.BodyPublisher taskBody(int i, boolean updated) throws IOException {
+            TaskRequest task = new TaskRequest();
+            task.setTitle("Warm-up task " + i);
+            task.setDescription(updated ? "Updated during warm-up" : "Created during warm-up");
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(task));
+        }
+
+        private String send(HttpRequest.Builder request) throws IOException, InterruptedException {
+            HttpRequest built = request.build();
+            HttpResponse<String> response = client.send(built, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IOException(built.method() + " " + built.uri().getPath() + " returned " + response.statusCode());
+            }
+            return response.body();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ardentix.taskmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With SPRING_PROFILES_ACTIVE=prod,embedded the features that need the tasks table answer 501,
+ * while the personal task API keeps working
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:embedded-web;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"prod", "embedded"})
+class EmbeddedStoreWebConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String bearer;
+
+    @DynamicPropertySource
+    static void storeDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("taskstore").toString();
+        registry.add("task-store.directory", () -> directory);
+    }
+
+    @BeforeEach
+    void register() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Embedded",
+                                "email", UUID.randomUUID() + "@example.com", "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        bearer = "Bearer " + objectMapper.readTree(body).get("token").asText();
+    }
+
+    @Test
+    void taskTableFeaturesAnswer501() throws Exception {
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Stored in memory\", \"status\": \"PENDING\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+
+        mockMvc.perform(get("/api/tasks/{id}", id).header("Authorization", bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}/labels", id).header("Authorization", bearer))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.error").value("NOT_IMPLEMENTED"));
+        mockMvc.perform(get("/api/tasks/{id}/tree", id).header("Authorization", bearer))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(get("/api/tasks/{id}/blockers", id).header("Authorization", bearer))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(put("/api/recurrences/{id}", id).header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"frequency\": \"DAILY\", \"startsAt\": \"2026-10-19T09:00:00\"}"))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(get("/api/tasks").header("Authorization", bearer)
+                        .param("from", "2026-10-19T00:00:00").param("to", "2026-10-26T00:00:00"))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(get("/api/tasks").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id));
+    }
+
+    @Test
+    void anonymousRequestsStillGet401() throws Exception {
+        mockMvc.perform(get("/api/recurrences"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,152 @@
+package com.ardentix.taskmanagement.config;
+
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Content negotiation of the REST API: CBOR through the reconfigured Spring MVC converter,
+ * JSON by default, and gzip above server.compression.min-response-size (a real server, because
+ * compression is done by Tomcat, not by MockMvc)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:web-config;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class WebConfigTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+    private static final int TASKS = 10;
+
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor()
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    private String bearer;
+
+    @BeforeEach
+    void registerAndCreateTasks() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Web",
+                                "email", UUID.randomUUID() + "@example.com", "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        bearer = "Bearer " + objectMapper.readTree(body).get("token").asText();
+
+        // About 5KB of JSON in the task list, above the 2KB compression threshold
+        for (int i = 0; i < TASKS; i++) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("Authorization", bearer)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Task " + i + "\", \"description\": \"" + "x".repeat(400) + "\"}"))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Test
+    void taskListIsCborWhenAskedFor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/tasks").header("Authorization", bearer).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Dates are numeric arrays, not ISO strings
+        assertThat(cborMapper.readTree(body).get(0).get("createdAt").isArray()).isTrue();
+        List<TaskResponse> tasks = cborMapper.readValue(body, new TypeReference<>() { });
+        assertThat(tasks).hasSize(TASKS);
+    }
+
+    @Test
+    void anyAcceptStillGetsJson() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", bearer).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void taskRequestRoundTripsAsCbor() throws Exception {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Binary");
+        request.setDescription("Sent as CBOR");
+        request.setStatus(Task.TaskStatus.IN_PROGRESS);
+        request.setDueAt(LocalDateTime.of(2030, 1, 2, 3, 4, 5));
+
+        byte[] body = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", bearer)
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        TaskResponse created = cborMapper.readValue(body, TaskResponse.class);
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getTitle()).isEqualTo(request.getTitle());
+        assertThat(created.getDescription()).isEqualTo(request.getDescription());
+        assertThat(created.getStatus()).isEqualTo(request.getStatus());
+        assertThat(created.getDueAt()).isEqualTo(request.getDueAt());
+    }
+
+    @Test
+    void largeJsonResponseIsGzipped() throws Exception {
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + port + "/api/tasks"))
+                        .header("Authorization", bearer)
+                        .header("Accept", "application/json")
+                        .header("Accept-Encoding", "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        byte[] json;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            json = in.readAllBytes();
+        }
+        assertThat(json.length).isGreaterThan(2048);
+        assertThat(objectMapper.readTree(json)).hasSize(TASKS);
+    }
+}
@@ -0,0 +1,208 @@
+package com.ardentix.taskmanagement.graphql;
+
+import com.ardentix.taskmanagement.querycount.QueryBudget;
+import com.ardentix.taskmanagement.querycount.QueryCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /graphql: column projection, one query per association level, depth and complexity
+ * limits, and hash-only persisted queries
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:graphql;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class GraphQlEndpointTest {
+
+    private static final int TASKS = 3;
+    private static final int SUBTASKS_PER_TASK = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String bearer;
+
+    /**
+     * TASKS top-level tasks, each with SUBTASKS_PER_TASK subtasks; every task has one label
+     */
+    @BeforeEach
+    void registerAndCreateTasks() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Graph",
+                                "email", UUID.randomUUID() + "@example.com", "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        bearer = "Bearer " + objectMapper.readTree(body).get("token").asText();
+
+        long labelId = id(mockMvc.perform(post("/api/labels")
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"urgent\", \"color\": \"#ff0000\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+
+        for (int i = 0; i < TASKS; i++) {
+            long parentId = createTask("Task " + i, labelId);
+            for (int j = 0; j < SUBTASKS_PER_TASK; j++) {
+                long subtaskId = createTask("Task " + i + "." + j, labelId);
+                mockMvc.perform(put("/api/tasks/{id}/parent", subtaskId)
+                                .header("Authorization", bearer)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"parentId\": " + parentId + "}"))
+                        .andExpect(status().isOk());
+            }
+        }
+    }
+
+    @Test
+    void listQueryReadsOnlySelectedColumns() throws Exception {
+        List<String> selects = new ArrayList<>();
+        JsonNode response;
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            response = graphQl(Map.of("query", "{ tasks { id title } }"));
+            scope.repeatedSelects(1).forEach(entry -> selects.add(entry.getKey().toLowerCase()));
+        }
+
+        assertThat(response.path("errors").isMissingNode()).isTrue();
+        assertThat(response.path("data").path("tasks")).hasSize(TASKS * (1 + SUBTASKS_PER_TASK));
+        String taskSelect = selects.stream()
+                .filter(sql -> sql.contains("from tasks"))
+                .findFirst()
+                .orElseThrow();
+        String selectList = taskSelect.substring(0, taskSelect.indexOf(" from "));
+        assertThat(selectList).contains("title")
+                .doesNotContain("description", "status", "priority", "due_at", "created_at", "updated_at");
+    }
+
+    @Test
+    void labelsAndSubtasksLoadWithOneQueryPerLevel() throws Exception {
+        String query = "{ tasks(limit: 20) { id title labels { name } subtasks { id title labels { name } } } }";
+
+        // Warm-up request: the JWT check and the first parse may run statements of their own
+        graphQl(Map.of("query", "{ me { id } }"));
+        int baseline;
+        try (QueryBudget budget = QueryBudget.atMost(Integer.MAX_VALUE)) {
+            graphQl(Map.of("query", "{ me { id } }"));
+            baseline = budget.count() - 1; // the user query
+        }
+
+        // tasks, labels of the tasks, subtasks, labels of the subtasks
+        try (QueryBudget budget = QueryBudget.atMost(baseline + 4)) {
+            JsonNode response = graphQl(Map.of("query", query));
+            assertThat(response.path("errors").isMissingNode()).isTrue();
+            JsonNode tasks = response.path("data").path("tasks");
+            assertThat(tasks).hasSize(TASKS * (1 + SUBTASKS_PER_TASK));
+            for (JsonNode task : tasks) {
+                assertThat(task.path("labels")).hasSize(1);
+                for (JsonNode subtask : task.path("subtasks")) {
+                    assertThat(subtask.path("labels")).hasSize(1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void tooDeepQueryIsRejected() throws Exception {
+        // 10 levels, graphql.max-depth is 8
+        String query = "{ tasks { subtasks { subtasks { subtasks { subtasks { subtasks { subtasks { subtasks "
+                + "{ subtasks { id } } } } } } } } } }";
+
+        JsonNode response = graphQl(Map.of("query", query));
+
+        assertThat(response.path("errors")).isNotEmpty();
+        assertThat(response.path("errors").get(0).path("message").asText()).containsIgnoringCase("depth");
+        assertThat(response.path("data").path("tasks").isMissingNode()).isTrue();
+    }
+
+    @Test
+    void tooComplexQueryIsRejected() throws Exception {
+        // 100 tasks x 10 subtasks x 10 subtasks x 2 fields, graphql.max-complexity is 5000
+        String query = "{ tasks(limit: 100) { id subtasks { id subtasks { id title } } } }";
+
+        JsonNode response = graphQl(Map.of("query", query));
+
+        assertThat(response.path("errors")).isNotEmpty();
+        assertThat(response.path("errors").get(0).path("message").asText()).containsIgnoringCase("complexity");
+        assertThat(response.path("data").path("tasks").isMissingNode()).isTrue();
+    }
+
+    @Test
+    void hashOnlyPersistedQueryWorksOnceRegistered() throws Exception {
+        String query = "{ tasks(sort: \"updatedAt\") { id } }";
+        Map<String, Object> extensions = Map.of("persistedQuery",
+                Map.of("version", 1, "sha256Hash", PersistedQueryDocumentProvider.sha256(query)));
+
+        JsonNode unknown = graphQl(Map.of("extensions", extensions));
+        assertThat(unknown.path("errors").get(0).path("message").asText()).isEqualTo("PersistedQueryNotFound");
+
+        JsonNode registered = graphQl(Map.of("query", query, "extensions", extensions));
+        assertThat(registered.path("errors").isMissingNode()).isTrue();
+        assertThat(registered.path("data").path("tasks")).hasSize(TASKS * (1 + SUBTASKS_PER_TASK));
+
+        JsonNode hashOnly = graphQl(Map.of("extensions", extensions));
+        assertThat(hashOnly.path("errors").isMissingNode()).isTrue();
+        assertThat(hashOnly.path("data")).isEqualTo(registered.path("data"));
+    }
+
+    private long createTask(String title, long labelId) throws Exception {
+        long taskId = id(mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\", \"status\": \"PENDING\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+        mockMvc.perform(put("/api/tasks/{id}/labels", taskId)
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"labelIds\": [" + labelId + "]}"))
+                .andExpect(status().isOk());
+        return taskId;
+    }
+
+    private long id(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    /**
+     * Posts a GraphQL request and returns the response body (the handler may answer asynchronously)
+     */
+    private JsonNode graphQl(Map<String, Object> request) throws Exception {
+        MvcResult result = mockMvc.perform(post("/graphql")
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
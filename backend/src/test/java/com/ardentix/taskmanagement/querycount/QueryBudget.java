@@ -0,0 +1,62 @@
+package com.ardentix.taskmanagement.querycount;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query Budget
+ *
+ * Asserts that a block of code runs at most a given number of SQL statements,
+ * e.g. in a test that calls an endpoint through MockMvc (same thread, so the request's
+ * statements are counted):
+ *
+ *   try (QueryBudget budget = QueryBudget.atMost(3)) {
+ *       mockMvc.perform(get("/api/tasks/1").header("Authorization", token));
+ *   }
+ *
+ * Closing the budget throws an AssertionError listing the repeated SELECTs when it was exceeded,
+ * so a change that adds queries to a request fails its test instead of slowing production.
+ */
+public final class QueryBudget implements AutoCloseable {
+
+    private final int maxQueries;
+    private final QueryCounter.Scope scope;
+
+    private QueryBudget(int maxQueries) {
+        this.maxQueries = maxQueries;
+        this.scope = QueryCounter.open();
+    }
+
+    /**
+     * Starts counting; the budget is checked when it is closed
+     */
+    public static QueryBudget atMost(int maxQueries) {
+        if (maxQueries < 0) {
+            throw new IllegalArgumentException("Query budget cannot be negative");
+        }
+        return new QueryBudget(maxQueries);
+    }
+
+    /**
+     * Statements run since the budget was opened
+     */
+    public int count() {
+        return scope.count();
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+        int count = scope.count();
+        if (count > maxQueries) {
+            StringBuilder message = new StringBuilder()
+                    .append("Expected at most ").append(maxQueries)
+                    .append(" SQL statements but ").append(count).append(" ran");
+            List<Map.Entry<String, Integer>> repeated = scope.repeatedSelects(2);
+            for (Map.Entry<String, Integer> entry : repeated) {
+                message.append("\n  ").append(entry.getValue()).append("x ").append(entry.getKey());
+            }
+            throw new AssertionError(message.toString());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ardentix.taskmanagement.querycount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statements per request stay within budget (JWT check included), and the dev-only
+ * X-Query-Count header does not hold back the streamed export
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false",
+        "query-count.header-enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class QueryBudgetTest {
+
+    private static final int TASKS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String bearer;
+    private long lastTaskId;
+
+    @BeforeEach
+    void registerAndCreateTasks() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Budget",
+                                "email", UUID.randomUUID() + "@example.com", "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        bearer = "Bearer " + objectMapper.readTree(body).get("token").asText();
+
+        for (int i = 0; i < TASKS; i++) {
+            String task = mockMvc.perform(post("/api/tasks")
+                            .header("Authorization", bearer)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Task " + i + "\", \"status\": \"PENDING\"}"))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            lastTaskId = objectMapper.readTree(task).get("id").asLong();
+        }
+    }
+
+    @Test
+    void getTaskByIdRunsAtMostTwoStatements() throws Exception {
+        try (QueryBudget budget = QueryBudget.atMost(2)) {
+            mockMvc.perform(get("/api/tasks/{id}", lastTaskId).header("Authorization", bearer))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(QueryCountFilter.HEADER));
+        }
+    }
+
+    @Test
+    void taskListDoesNotQueryPerTask() throws Exception {
+        try (QueryBudget budget = QueryBudget.atMost(2)) {
+            mockMvc.perform(get("/api/tasks").header("Authorization", bearer))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void exportIsStreamedWithoutTheHeader() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/tasks/export").header("Authorization", bearer))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(QueryCountFilter.HEADER))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(TASKS);
+    }
+}
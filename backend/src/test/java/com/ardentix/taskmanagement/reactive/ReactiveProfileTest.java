@@ -0,0 +1,89 @@
+package com.ardentix.taskmanagement.reactive;
+
+import com.ardentix.taskmanagement.dto.AuthResponse;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots SPRING_PROFILES_ACTIVE=prod,reactive (in-memory H2 shared by JDBC and R2DBC) and
+ * goes through register, create, list, get and delete on the reactive stack.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-profile;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-profile?options=DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@ActiveProfiles({"prod", "reactive"})
+class ReactiveProfileTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void servesTheTaskApiWithJpaAndR2dbcRepositories() {
+        AuthResponse auth = client.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "Reactive", "email", "reactive@example.com", "password", "secret123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AuthResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(auth).isNotNull();
+        String bearer = "Bearer " + auth.getToken();
+
+        TaskResponse created = client.post().uri("/api/tasks")
+                .header("Authorization", bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "Reactive task", "status", "PENDING"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(created).isNotNull();
+
+        client.get().uri("/api/tasks")
+                .header("Authorization", bearer)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .value(tasks -> assertThat(tasks).extracting(TaskResponse::getId).containsExactly(created.getId()));
+
+        client.get().uri("/api/tasks/{id}", created.getId())
+                .header("Authorization", bearer)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.title").isEqualTo("Reactive task");
+
+        client.delete().uri("/api/tasks/{id}", created.getId())
+                .header("Authorization", bearer)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/api/tasks/{id}", created.getId())
+                .header("Authorization", bearer)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void rejectsMissingOrInvalidTokensWith401() {
+        client.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        client.get().uri("/api/tasks")
+                .header("Authorization", "Bearer not-a-jwt")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
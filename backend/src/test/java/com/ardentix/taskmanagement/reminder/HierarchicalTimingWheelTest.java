@@ -0,0 +1,59 @@
+package com.ardentix.taskmanagement.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Timers fire once their deadline has passed, never before, also after cascading
+ * (wheel of 10ms ticks, 4 buckets, 2 levels: level 0 covers 40ms, level 1 160ms)
+ */
+class HierarchicalTimingWheelTest {
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 2, 0);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void cascadedTimerWithDeadlineInsideTheCurrentTickIsNotFiredEarly() {
+        assertThat(wheel.schedule(45, "a")).isNotNull(); // level 1, bucket [40, 80)
+
+        wheel.advance(40, fired::add); // cascades "a" while the clock is at 40
+        assertThat(fired).isEmpty();
+        wheel.advance(49, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(50, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlineInsideTheCurrentTickIsScheduled() {
+        wheel.advance(20, fired::add);
+
+        assertThat(wheel.schedule(25, "b")).isNotNull();
+        wheel.advance(29, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(30, fired::add);
+        assertThat(fired).containsExactly("b");
+    }
+
+    @Test
+    void pastDeadlineIsRejected() {
+        wheel.advance(20, fired::add);
+
+        assertThat(wheel.schedule(19, "c")).isNull();
+    }
+
+    @Test
+    void cancelledTimerIsDropped() {
+        wheel.schedule(15, "d").cancel();
+
+        wheel.advance(100, fired::add);
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
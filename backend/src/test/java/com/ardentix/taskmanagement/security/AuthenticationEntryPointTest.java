@@ -0,0 +1,38 @@
+package com.ardentix.taskmanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requests to a protected endpoint without a valid token get 401 (the frontend refreshes on 401)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entry-point;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class AuthenticationEntryPointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void missingTokenGets401() throws Exception {
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void invalidTokenGets401() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,45 @@
+package com.ardentix.taskmanagement.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A successful login clears the email's lockout but not the client IP's
+ * (2 free attempts, lockout capped at 60s)
+ */
+class LoginAttemptGuardTest {
+
+    private final LoginAttemptGuard guard = new LoginAttemptGuard(100);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(guard, "freeAttempts", 2);
+        ReflectionTestUtils.setField(guard, "maxLockoutSeconds", 60L);
+    }
+
+    @Test
+    void locksOutAfterTheFreeAttempts() {
+        guard.recordFailure("victim@example.com", "10.0.0.1");
+        guard.recordFailure("victim@example.com", "10.0.0.1");
+        assertThat(guard.secondsLocked("victim@example.com", "10.0.0.2")).isZero();
+
+        guard.recordFailure("victim@example.com", "10.0.0.1");
+        assertThat(guard.secondsLocked("victim@example.com", "10.0.0.2")).isEqualTo(1);
+        assertThat(guard.secondsLocked("other@example.com", "10.0.0.1")).isEqualTo(1);
+    }
+
+    @Test
+    void successClearsTheEmailButKeepsTheIpLockout() {
+        for (int i = 0; i < 3; i++) {
+            guard.recordFailure("victim@example.com", "10.0.0.1");
+        }
+
+        guard.recordSuccess("victim@example.com");
+
+        assertThat(guard.secondsLocked("victim@example.com", "10.0.0.2")).isZero();
+        assertThat(guard.secondsLocked("own@example.com", "10.0.0.1")).isEqualTo(1);
+    }
+}
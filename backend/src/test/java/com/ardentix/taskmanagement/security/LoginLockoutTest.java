@@ -0,0 +1,65 @@
+package com.ardentix.taskmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A locked-out login answers 429 with Retry-After, also for the right password
+ * (2 free failures, then a 1 second lockout)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:login-lockout;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false",
+        "login.free-attempts=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class LoginLockoutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void lockedOutLoginAnswers429WithRetryAfter() throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Locked",
+                                "email", email, "password", "secret123"))))
+                .andExpect(status().isOk());
+
+        for (int i = 0; i < 3; i++) {
+            login(email, "wrong-password").andExpect(status().isUnauthorized());
+        }
+
+        login(email, "secret123")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.error").value("LOGIN_LOCKED"));
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("email", email, "password", password))));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ardentix.taskmanagement.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * TaskServiceContractTest on the embedded store (SPRING_PROFILES_ACTIVE=prod,embedded),
+ * with its write-ahead log in a fresh temporary directory
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:embedded-store;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@ActiveProfiles({"prod", "embedded"})
+class EmbeddedTaskServiceTest extends TaskServiceContractTest {
+
+    @DynamicPropertySource
+    static void storeDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("taskstore").toString();
+        registry.add("task-store.directory", () -> directory);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.TaskPage;
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskServiceContractTest on the tasks table (task-store.type=jpa)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jpa-store;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@ActiveProfiles("prod")
+class JpaTaskServiceTest extends TaskServiceContractTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskTimestampBackfill backfill;
+
+    /**
+     * A table from before created_at/updated_at were NOT NULL may hold NULLs there:
+     * the backfill fills them in, and keyset pages then return every task once, in list order
+     */
+    @Test
+    void backfilledTasksArePagedOnce() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setName("Legacy");
+        user.setPassword("not-a-hash");
+        Long userId = userRepository.save(user).getId();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Task " + i);
+            request.setStatus(Task.TaskStatus.PENDING);
+            ids.add(taskService.createTask(request, userId).getId());
+        }
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN created_at SET NULL");
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN updated_at SET NULL");
+        try {
+            jdbcTemplate.update("UPDATE tasks SET updated_at = NULL WHERE id IN (?, ?, ?)",
+                    ids.get(0), ids.get(2), ids.get(4));
+            jdbcTemplate.update("UPDATE tasks SET created_at = NULL, updated_at = NULL WHERE id = ?", ids.get(5));
+
+            assertThat(backfill.backfill()).isEqualTo(5); // 1 createdAt + 4 updatedAt
+            assertThat(backfill.backfill()).isZero();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN created_at SET NOT NULL");
+            jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL");
+        }
+
+        for (TaskSort sort : List.of(TaskSort.CREATED_AT, TaskSort.UPDATED_AT)) {
+            List<Long> expected = taskService.getAllTasks(userId, sort, false).stream()
+                    .map(TaskResponse::getId)
+                    .toList();
+            List<Long> paged = new ArrayList<>();
+            String cursor = null;
+            do {
+                TaskPage page = taskService.getTaskPage(userId, sort, cursor, 2);
+                page.getTasks().forEach(task -> paged.add(task.getId()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertThat(paged).containsExactlyElementsOf(expected).containsExactlyInAnyOrderElementsOf(ids);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.entity.TaskRecurrence;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OccurrenceGeneratorTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 19, 0, 0);
+
+    @Test
+    void everyOtherWeekIncludesTheStart() {
+        OccurrenceGenerator generator = OccurrenceGenerator.of(weekly(2, MONDAY));
+
+        assertThat(generator.isOccurrence(MONDAY)).isTrue();
+        assertThat(generator.between(MONDAY, MONDAY.plusWeeks(6), 10)).containsExactly(
+                MONDAY, MONDAY.plusWeeks(2), MONDAY.plusWeeks(4));
+    }
+
+    @Test
+    void windowStartingBeforeTheSeriesBeginsAtTheStart() {
+        OccurrenceGenerator generator = OccurrenceGenerator.of(weekly(2, MONDAY));
+
+        assertThat(generator.between(MONDAY.minusWeeks(3), MONDAY.plusWeeks(1), 10)).containsExactly(MONDAY);
+        assertThat(generator.isOccurrence(MONDAY.plusWeeks(1))).isFalse();
+    }
+
+    @Test
+    void dailyIntervalSkipsDays() {
+        TaskRecurrence rule = new TaskRecurrence();
+        rule.setFrequency(TaskRecurrence.Frequency.DAILY);
+        rule.setInterval(3);
+        rule.setStartsAt(MONDAY.withHour(9));
+
+        assertThat(OccurrenceGenerator.of(rule).between(MONDAY, MONDAY.plusDays(7), 10)).containsExactly(
+                MONDAY.withHour(9), MONDAY.plusDays(3).withHour(9), MONDAY.plusDays(6).withHour(9));
+    }
+
+    private static TaskRecurrence weekly(int interval, LocalDateTime startsAt) {
+        TaskRecurrence rule = new TaskRecurrence();
+        rule.setFrequency(TaskRecurrence.Frequency.WEEKLY);
+        rule.setInterval(interval);
+        rule.setStartsAt(startsAt);
+        return rule;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only completed tasks older than the cutoff are moved, an archived task is still found by ID,
+ * and it leaves the owner's cached filter bitmaps
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archiver;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false",
+        "archive.initial-delay-ms=3600000"
+})
+@ActiveProfiles("prod")
+class TaskArchiverTest {
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskBitmapIndex taskBitmapIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archivesOldCompletedTasksOnly() {
+        Long userId = newUser();
+        Long oldCompleted = create(userId, "Old and done", Task.TaskStatus.COMPLETED);
+        Long oldPending = create(userId, "Old and open", Task.TaskStatus.PENDING);
+        Long recentCompleted = create(userId, "Recently done", Task.TaskStatus.COMPLETED);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id IN (?, ?)",
+                LocalDateTime.now().minusDays(90), oldCompleted, oldPending);
+        assertThat(completedInIndex(userId)).containsExactlyInAnyOrder(oldCompleted, recentCompleted);
+
+        taskArchiver.archiveCompletedTasks();
+
+        assertThat(completedInIndex(userId)).containsExactly(recentCompleted);
+
+        assertThat(taskService.getAllTasks(userId, TaskSort.CREATED_AT, false))
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(oldPending, recentCompleted);
+        TaskResponse archived = taskService.getTaskById(oldCompleted, userId);
+        assertThat(archived.isArchived()).isTrue();
+        assertThat(archived.getTitle()).isEqualTo("Old and done");
+        assertThat(taskService.getAllTasks(userId, TaskSort.CREATED_AT, true))
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(oldCompleted, oldPending, recentCompleted);
+    }
+
+    private List<Long> completedInIndex(Long userId) {
+        List<Long> ids = new ArrayList<>();
+        taskBitmapIndex.filter(userId, List.of(), List.of(), List.of(), List.of(Task.TaskStatus.COMPLETED))
+                .forEach((long id) -> ids.add(id));
+        return ids;
+    }
+
+    private Long create(Long userId, String title, Task.TaskStatus status) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setStatus(status);
+        return taskService.createTask(request, userId).getId();
+    }
+
+    private Long newUser() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setName("Archiver");
+        user.setPassword("not-a-hash");
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.repository.TaskDependencyRepository;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Blocker chains with shared blockers, and deletes that fail halfway
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-hierarchy;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=false"
+})
+@ActiveProfiles("prod")
+class TaskHierarchyServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskDependencyRepository dependencyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void createUser() {
+        User user = new User();
+        user.setName("Hierarchy");
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("not-a-hash");
+        userId = userRepository.save(user).getId();
+    }
+
+    @Test
+    void sharedBlockerIsListedOnce() {
+        Long top = create("Release");
+        Long left = create("Backend");
+        Long right = create("Frontend");
+        Long bottom = create("Schema");
+        taskHierarchyService.addBlocker(userId, top, left);
+        taskHierarchyService.addBlocker(userId, top, right);
+        taskHierarchyService.addBlocker(userId, left, bottom);
+        taskHierarchyService.addBlocker(userId, right, bottom);
+
+        assertThat(dependencyRepository.findBlockerChainEdges(top))
+                .extracting(edge -> ((Number) edge[0]).longValue() + "->" + ((Number) edge[1]).longValue())
+                .containsExactlyInAnyOrder(top + "->" + left, top + "->" + right,
+                        left + "->" + bottom, right + "->" + bottom);
+        assertThat(taskHierarchyService.getBlockerChain(userId, top))
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(left, right, bottom)
+                .first().isEqualTo(bottom);
+    }
+
+    @Test
+    void failedDeleteKeepsParentAndBlockers() {
+        Long parent = create("Parent");
+        Long child = create("Child");
+        Long blocker = create("Blocker");
+        taskHierarchyService.setParent(userId, child, parent);
+        taskHierarchyService.addBlocker(userId, parent, blocker);
+
+        assertThatThrownBy(() -> taskHierarchyService.deleteTask(userId, parent, () -> {
+            throw new IllegalStateException("delete failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(taskService.getTaskById(child, userId).getParentId()).isEqualTo(parent);
+        assertThat(taskHierarchyService.getBlockerChain(userId, parent))
+                .extracting(TaskResponse::getId)
+                .containsExactly(blocker);
+    }
+
+    private Long create(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setStatus(Task.TaskStatus.PENDING);
+        return taskService.createTask(request, userId).getId();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ardentix.taskmanagement.service;
+
+import com.ardentix.taskmanagement.dto.TaskPage;
+import com.ardentix.taskmanagement.dto.TaskRequest;
+import com.ardentix.taskmanagement.dto.TaskResponse;
+import com.ardentix.taskmanagement.entity.Task;
+import com.ardentix.taskmanagement.entity.User;
+import com.ardentix.taskmanagement.exception.NotFoundException;
+import com.ardentix.taskmanagement.repository.TaskSort;
+import com.ardentix.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TaskService tests that every TaskStore has to pass
+ *
+ * - JpaTaskServiceTest runs them on the tasks table (task-store.type=jpa)
+ * - EmbeddedTaskServiceTest runs them on the in-memory store with its write-ahead log
+ */
+abstract class TaskServiceContractTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void createUser() {
+        userId = newUser();
+    }
+
+    @Test
+    void createdTaskCanBeReadUpdatedAndDeleted() {
+        TaskResponse created = taskService.createTask(request("Write report", Task.TaskStatus.PENDING), userId);
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getCreatedAt()).isNotNull();
+        assertThat(created.getPriority()).isEqualTo(Task.TaskPriority.MEDIUM);
+
+        assertThat(taskService.getTaskById(created.getId(), userId).getTitle()).isEqualTo("Write report");
+
+        TaskResponse updated = taskService.updateTask(created.getId(),
+                request("Write final report", Task.TaskStatus.COMPLETED), userId);
+        assertThat(updated.getTitle()).isEqualTo("Write final report");
+        assertThat(updated.getStatus()).isEqualTo(Task.TaskStatus.COMPLETED);
+        assertThat(taskService.getTaskById(created.getId(), userId).getStatus()).isEqualTo(Task.TaskStatus.COMPLETED);
+
+        taskService.deleteTask(created.getId(), userId);
+        assertThatThrownBy(() -> taskService.getTaskById(created.getId(), userId))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(taskService.getAllTasks(userId, TaskSort.CREATED_AT, false)).isEmpty();
+    }
+
+    @Test
+    void tasksOfOtherUsersAreNotVisible() {
+        TaskResponse created = taskService.createTask(request("Private", Task.TaskStatus.PENDING), userId);
+        Long otherUserId = newUser();
+
+        assertThatThrownBy(() -> taskService.getTaskById(created.getId(), otherUserId))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> taskService.updateTask(created.getId(), request("Mine now", Task.TaskStatus.PENDING), otherUserId))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> taskService.deleteTask(created.getId(), otherUserId))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(taskService.getAllTasks(otherUserId, TaskSort.CREATED_AT, false)).isEmpty();
+    }
+
+    @Test
+    void listIsSortedByTitleThenId() {
+        Long b = taskService.createTask(request("b", Task.TaskStatus.PENDING), userId).getId();
+        Long a = taskService.createTask(request("a", Task.TaskStatus.PENDING), userId).getId();
+        Long b2 = taskService.createTask(request("b", Task.TaskStatus.PENDING), userId).getId();
+
+        assertThat(taskService.getAllTasks(userId, TaskSort.TITLE, false))
+                .extracting(TaskResponse::getId)
+                .containsExactly(a, b, b2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSort.class)
+    void keysetPagesReturnEveryTaskOnceInListOrder(TaskSort sort) {
+        Task.TaskStatus[] statuses = Task.TaskStatus.values();
+        for (int i = 0; i < 7; i++) {
+            taskService.createTask(request("Task " + (i % 3), statuses[i % statuses.length]), userId);
+        }
+        List<Long> expected = taskService.getAllTasks(userId, sort, false).stream()
+                .map(TaskResponse::getId)
+                .toList();
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskService.getTaskPage(userId, sort, cursor, 3);
+            assertThat(page.getTasks()).hasSizeLessThanOrEqualTo(3);
+            page.getTasks().forEach(task -> paged.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(paged).hasSize(7).containsExactlyElementsOf(expected);
+    }
+
+    private Long newUser() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setName("Contract");
+        user.setPassword("not-a-hash");
+        return userRepository.save(user).getId();
+    }
+
+    private static TaskRequest request(String title, Task.TaskStatus status) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setStatus(status);
+        return request;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ardentix.taskmanagement.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The ring of the sharded profile (4 shards, 128 virtual nodes) spreads sequential user IDs
+ * evenly, and adding a shard only moves keys onto the new shard
+ */
+class ConsistentHashRingTest {
+
+    private static final int SHARDS = 4;
+    private static final int VIRTUAL_NODES = 128;
+    private static final int KEYS = 100_000;
+
+    @Test
+    void sequentialKeysAreSpreadEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(SHARDS, VIRTUAL_NODES);
+        int[] keysPerShard = new int[SHARDS];
+        for (long key = 1; key <= KEYS; key++) {
+            keysPerShard[ring.shardFor(key)]++;
+        }
+
+        int fairShare = KEYS / SHARDS;
+        for (int keys : keysPerShard) {
+            assertThat(keys).isBetween((int) (fairShare * 0.8), (int) (fairShare * 1.2));
+        }
+    }
+
+    @Test
+    void firstUserIdsAreSpreadToo() {
+        // IDs below the virtual node count once hashed onto shard 0's own points
+        ConsistentHashRing ring = new ConsistentHashRing(SHARDS, VIRTUAL_NODES);
+        int[] keysPerShard = new int[SHARDS];
+        for (long key = 1; key <= VIRTUAL_NODES; key++) {
+            keysPerShard[ring.shardFor(key)]++;
+        }
+
+        for (int keys : keysPerShard) {
+            assertThat(keys).isGreaterThan(VIRTUAL_NODES / SHARDS / 2);
+        }
+    }
+
+    @Test
+    void addingAShardMovesAboutOneFifthOfTheKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(SHARDS, VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(SHARDS + 1, VIRTUAL_NODES);
+        int moved = 0;
+        for (long key = 1; key <= KEYS; key++) {
+            int from = before.shardFor(key);
+            int to = after.shardFor(key);
+            if (from != to) {
+                // Existing shards keep their points, so keys only move to the new one
+                assertThat(to).isEqualTo(SHARDS);
+                moved++;
+            }
+        }
+
+        // 1/5 expected; userId % N would move 4/5
+        assertThat(moved).isBetween((int) (KEYS * 0.15), (int) (KEYS * 0.25));
+    }
+
+    @Test
+    void singleShardOwnsEveryKey() {
+        ConsistentHashRing ring = new ConsistentHashRing(1, VIRTUAL_NODES);
+        for (long key = 1; key <= 1000; key++) {
+            assertThat(ring.shardFor(key)).isZero();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.ardentix.taskmanagement.sharding;
+
+import com.ardentix.taskmanagement.service.TaskArchiver;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The sharded profile (4 in-memory H2 shards): task IDs never collide across shards, and
+ * ShardRebalancer moves every user-scoped table while the user's API keeps working
+ */
+@SpringBootTest(properties = {
+        "warm-up.enabled=false",
+        "archive.initial-delay-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"prod", "sharded"})
+class ShardRebalancerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardDataSources shards;
+
+    @Autowired
+    private ShardDirectory directory;
+
+    @Autowired
+    private ShardRebalancer rebalancer;
+
+    @Autowired
+    private ShardingProperties properties;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    /**
+     * Shard i hands out task IDs i+1, i+1+stride, ...: users on all four shards create tasks,
+     * and no ID is used twice
+     */
+    @Test
+    void taskIdsDoNotCollideAcrossShards() throws Exception {
+        Map<Integer, User> userPerShard = new HashMap<>();
+        for (int i = 0; i < 100 && userPerShard.size() < shards.size(); i++) {
+            User user = register();
+            userPerShard.putIfAbsent(directory.shardOf(user.id()), user);
+        }
+        assertThat(userPerShard).hasSize(shards.size());
+
+        int stride = properties.getIdStride();
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Integer, User> entry : userPerShard.entrySet()) {
+            for (int i = 0; i < 5; i++) {
+                long id = createTask(entry.getValue(), "Task " + i);
+                assertThat(Math.floorMod(id - (entry.getKey() + 1), stride)).isZero();
+                ids.add(id);
+            }
+        }
+        assertThat(ids).doesNotHaveDuplicates();
+
+        // Also across everything stored so far, including rows moved by other tests
+        List<Long> stored = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            stored.addAll(shards.jdbc(shard).queryForList("SELECT id FROM tasks", Long.class));
+        }
+        assertThat(stored).containsAll(ids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void moveUserCopiesEveryUserScopedTable() throws Exception {
+        User user = register();
+        long labelId = id(mockMvc.perform(post("/api/labels")
+                        .header("Authorization", user.bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"moving\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        long parentId = createTask(user, "Parent");
+        long childId = createTask(user, "Child");
+        long doneId = createTask(user, "Done long ago");
+        perform(user, put("/api/tasks/{id}/labels", childId), "{\"labelIds\": [" + labelId + "]}");
+        perform(user, put("/api/tasks/{id}/parent", childId), "{\"parentId\": " + parentId + "}");
+        mockMvc.perform(post("/api/tasks/{id}/blockers", parentId)
+                        .header("Authorization", user.bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blockedById\": " + childId + "}"))
+                .andExpect(status().isNoContent());
+        perform(user, put("/api/recurrences/{taskId}", parentId),
+                "{\"frequency\": \"DAILY\", \"startsAt\": \"2030-01-01T09:00:00\"}");
+        perform(user, put("/api/recurrences/{taskId}/occurrences/{occursAt}", parentId, "2030-01-02T09:00:00"),
+                "{\"status\": \"COMPLETED\", \"title\": \"Skipped once\"}");
+
+        // Archive one task, so tasks_archive has a row too
+        int source = directory.shardOf(user.id());
+        perform(user, put("/api/tasks/{id}", doneId), "{\"title\": \"Done long ago\", \"status\": \"COMPLETED\"}");
+        shards.jdbc(source).update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(90), doneId);
+        taskArchiver.archiveCompletedTasks();
+
+        Map<String, List<Map<String, Object>>> before = userRows(source, user.id());
+        before.forEach((table, rows) -> assertThat(rows).as(table).isNotEmpty());
+
+        int target = (source + 1) % shards.size();
+        rebalancer.moveUser(user.id(), target);
+
+        assertThat(directory.shardOf(user.id())).isEqualTo(target);
+        assertThat(userRows(target, user.id())).isEqualTo(before);
+        userRows(source, user.id()).forEach((table, rows) -> assertThat(rows).as(table).isEmpty());
+
+        // The API reads the moved rows
+        mockMvc.perform(get("/api/tasks").header("Authorization", user.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(get("/api/tasks/{id}/labels", childId).header("Authorization", user.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(labelId));
+        mockMvc.perform(get("/api/tasks/{id}", doneId).header("Authorization", user.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived").value(true));
+        mockMvc.perform(get("/api/recurrences").header("Authorization", user.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        long newTaskId = createTask(user, "Created after the move");
+        assertThat(shards.jdbc(target).queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?",
+                Integer.class, newTaskId)).isOne();
+
+        // Running the same move again changes nothing
+        Map<String, List<Map<String, Object>>> moved = userRows(target, user.id());
+        rebalancer.moveUser(user.id(), target);
+        assertThat(userRows(target, user.id())).isEqualTo(moved);
+        userRows(source, user.id()).forEach((table, rows) -> assertThat(rows).as(table).isEmpty());
+    }
+
+    /**
+     * The user's rows of every table in USER_SCOPED_TABLES on one shard, in a stable order
+     */
+    private Map<String, List<Map<String, Object>>> userRows(int shard, Long userId) {
+        Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        for (ShardRebalancer.UserScopedTable table : ShardRebalancer.USER_SCOPED_TABLES) {
+            rows.put(table.table(), shards.jdbc(shard).queryForList(
+                    "SELECT * FROM " + table.table() + " WHERE " + table.where() + " ORDER BY 1, 2", userId));
+        }
+        return rows;
+    }
+
+    private User register() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Sharded",
+                                "email", UUID.randomUUID() + "@example.com", "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode auth = objectMapper.readTree(body);
+        return new User(auth.get("userId").asLong(), "Bearer " + auth.get("token").asText());
+    }
+
+    private long createTask(User user, String title) throws Exception {
+        return id(mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", user.bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\", \"status\": \"PENDING\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private void perform(User user, MockHttpServletRequestBuilder request, String json) throws Exception {
+        mockMvc.perform(request.header("Authorization", user.bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk());
+    }
+
+    private long id(String json) throws Exception {
+        return objectMapper.readTree(json).get("id").asLong();
+    }
+
+    private record User(Long id, String bearer) {
+    }
+}
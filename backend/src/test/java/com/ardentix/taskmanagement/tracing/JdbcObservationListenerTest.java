@@ -0,0 +1,37 @@
+package com.ardentix.taskmanagement.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * String and number literals never reach the db.statement span attribute
+ */
+class JdbcObservationListenerTest {
+
+    @Test
+    void replacesStringAndNumberLiterals() {
+        assertThat(JdbcObservationListener.sanitize(
+                "SELECT * FROM users WHERE email = 'ann@example.com' AND id = 42 AND score > -1.5"))
+                .isEqualTo("SELECT * FROM users WHERE email = ? AND id = ? AND score > ?");
+    }
+
+    @Test
+    void replacesStringsWithEscapedQuotes() {
+        assertThat(JdbcObservationListener.sanitize("INSERT INTO tasks (title) VALUES ('Ann''s secret')"))
+                .isEqualTo("INSERT INTO tasks (title) VALUES (?)");
+    }
+
+    @Test
+    void keepsIdentifiersAndPlaceholders() {
+        assertThat(JdbcObservationListener.sanitize("SELECT t1_0.id, t1_0.title FROM tasks t1_0 WHERE t1_0.user_id = ?"))
+                .isEqualTo("SELECT t1_0.id, t1_0.title FROM tasks t1_0 WHERE t1_0.user_id = ?");
+    }
+
+    @Test
+    void cutsVeryLongStatements() {
+        String sanitized = JdbcObservationListener.sanitize("SELECT " + "x, ".repeat(600) + "y FROM t");
+
+        assertThat(sanitized).hasSize(1003).endsWith("...");
+    }
+}
@@ -0,0 +1,104 @@
+package com.ardentix.taskmanagement.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Whole traces are kept when a span failed or the root was slow, and dropped otherwise
+ * (slow threshold 500ms, no random baseline unless a test sets one)
+ */
+class TailSamplingSpanProcessorTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void shutdown() {
+        tracerProvider.shutdown();
+    }
+
+    @Test
+    void fastSuccessfulTraceIsDropped() {
+        Tracer tracer = tracer(0.0);
+        Span root = tracer.spanBuilder("http get /api/tasks").startSpan();
+        tracer.spanBuilder("SELECT").setParent(Context.current().with(root)).startSpan().end();
+        root.end();
+
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    }
+
+    @Test
+    void traceWithAFailedChildIsKeptWhole() {
+        Tracer tracer = tracer(0.0);
+        Span root = tracer.spanBuilder("http get /api/tasks").startSpan();
+        tracer.spanBuilder("SELECT").setParent(Context.current().with(root)).startSpan().end();
+        Span failing = tracer.spanBuilder("UPDATE").setParent(Context.current().with(root)).startSpan();
+        failing.setStatus(StatusCode.ERROR);
+        failing.end();
+        root.end();
+
+        assertThat(exporter.getFinishedSpanItems())
+                .extracting(SpanData::getName)
+                .containsExactlyInAnyOrder("SELECT", "UPDATE", "http get /api/tasks");
+    }
+
+    @Test
+    void serverErrorOutcomeKeepsTheTrace() {
+        Tracer tracer = tracer(0.0);
+        tracer.spanBuilder("http get /api/tasks").setAttribute("outcome", "SERVER_ERROR").startSpan().end();
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+    }
+
+    @Test
+    void slowRootKeepsTheTrace() {
+        Tracer tracer = tracer(0.0);
+        long start = System.nanoTime();
+        Span root = tracer.spanBuilder("http get /api/tasks").setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        tracer.spanBuilder("SELECT").setParent(Context.current().with(root)).startSpan().end();
+        root.end(start + TimeUnit.MILLISECONDS.toNanos(600), TimeUnit.NANOSECONDS);
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(2);
+    }
+
+    @Test
+    void baselineKeepsNormalTraces() {
+        Tracer tracer = tracer(1.0);
+        tracer.spanBuilder("http get /api/tasks").startSpan().end();
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+    }
+
+    @Test
+    void spanEndingAfterItsRootIsDropped() {
+        Tracer tracer = tracer(1.0);
+        Span root = tracer.spanBuilder("http get /api/tasks/export").startSpan();
+        Span late = tracer.spanBuilder("SELECT").setParent(Context.current().with(root)).startSpan();
+        root.end();
+        late.end();
+
+        assertThat(exporter.getFinishedSpanItems())
+                .extracting(SpanData::getName)
+                .containsExactly("http get /api/tasks/export");
+    }
+
+    private Tracer tracer(double baselineRatio) {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new TailSamplingSpanProcessor(
+                        SimpleSpanProcessor.create(exporter), 500, baselineRatio, 100, 60_000))
+                .build();
+        return tracerProvider.get("test");
+    }
+}
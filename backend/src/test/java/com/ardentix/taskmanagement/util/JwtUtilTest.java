@@ -0,0 +1,69 @@
+package com.ardentix.taskmanagement.util;
+
+import com.ardentix.taskmanagement.security.JwtKeyManager;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * HMAC-signed tokens without a key ID (from before the switch to ES256) are rejected, unless
+ * jwt.keys.accept-legacy-hmac is on and the first ES256 key is younger than one token lifetime
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-that-is-long-enough-for-hmac-sha-256";
+    private static final long EXPIRATION_MS = 900_000;
+
+    private final JwtKeyManager keyManager = mock(JwtKeyManager.class);
+
+    @Test
+    void legacyTokensAreRejectedByDefault() {
+        JwtUtil jwtUtil = jwtUtil(false, LocalDateTime.now());
+
+        assertThat(jwtUtil.validateToken(legacyToken())).isFalse();
+    }
+
+    @Test
+    void legacyTokensAreAcceptedRightAfterTheSwitch() {
+        JwtUtil jwtUtil = jwtUtil(true, LocalDateTime.now().minusMinutes(1));
+
+        assertThat(jwtUtil.validateToken(legacyToken())).isTrue();
+        assertThat(jwtUtil.getUserIdFromToken(legacyToken())).isEqualTo(7L);
+    }
+
+    @Test
+    void legacyTokensAreRejectedOneTokenLifetimeAfterTheSwitch() {
+        JwtUtil jwtUtil = jwtUtil(true, LocalDateTime.now().minusMinutes(16));
+
+        assertThat(jwtUtil.validateToken(legacyToken())).isFalse();
+    }
+
+    private JwtUtil jwtUtil(boolean acceptLegacyHmac, LocalDateTime firstKeyActivatesAt) {
+        when(keyManager.firstKeyActivatesAt()).thenReturn(firstKeyActivatesAt);
+        JwtUtil jwtUtil = new JwtUtil(keyManager);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtUtil, "acceptLegacyHmac", acceptLegacyHmac);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static String legacyToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject("legacy@example.com")
+                .claim("userId", 7L)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + EXPIRATION_MS))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ardentix.taskmanagement.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A short warm-up on a real port: it completes, and none of its requests show up in the
+ * HTTP or service metrics
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:warm-up;DB_CLOSE_DELAY=-1",
+        "warm-up.enabled=true",
+        "warm-up.max-duration-ms=5000",
+        "warm-up.iterations-per-round=2",
+        "warm-up.min-rounds=2"
+})
+@ActiveProfiles("prod")
+class WarmUpRunnerTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void warmUpRequestsAreNotObserved() {
+        assertThat(warmUpRunner.getPhase()).isEqualTo(WarmUpRunner.Phase.COMPLETED);
+        assertThat(warmUpRunner.getRounds()).isPositive();
+
+        assertThat(meterRegistry.find("http.server.requests").timers()).isEmpty();
+        assertThat(meterRegistry.find("task.service").timers()).isEmpty();
+        assertThat(meterRegistry.find("jwt.authenticate").timers()).isEmpty();
+    }
+}
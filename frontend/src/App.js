@@ -3,6 +3,7 @@ import { BrowserRouter as Router, Routes, Route, Navigate } from 'react-router-d
 import Login from './components/Login';
 import Register from './components/Register';
 import TaskList from './components/TaskList';
+import { authAPI } from './services/api';
 import './App.css';
 
 /**
@@ -43,7 +44,13 @@ function App() {
    * Handle logout: Remove token and update state
    */
   const handleLogout = () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      // Revoke the refresh token family on the server (best effort)
+      authAPI.logout(refreshToken).catch(() => {});
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userName');
     setIsAuthenticated(false);
@@ -51,6 +51,7 @@ function Login({ onLogin }) {
       // Save token and user info, notify parent component
       localStorage.setItem('userEmail', response.email);
       localStorage.setItem('userName', response.name);
+      localStorage.setItem('refreshToken', response.refreshToken);
       onLogin(response.token);
     } catch (err) {
       // Handle error
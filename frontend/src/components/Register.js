@@ -33,6 +33,7 @@ function Register({ onLogin }) {
       // Save user info and auto-login after registration
       localStorage.setItem('userEmail', response.email);
       localStorage.setItem('userName', response.name);
+      localStorage.setItem('refreshToken', response.refreshToken);
       onLogin(response.token);
     } catch (err) {
       // Extract error message from backend response
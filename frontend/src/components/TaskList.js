@@ -11,6 +11,7 @@ import { taskAPI } from '../services/api';
  * - Edit existing tasks
  * - Delete tasks
  * - Filter by status
+ * - Sort (done by the server)
  */
 function TaskList({ onLogout }) {
   const [tasks, setTasks] = useState([]);
@@ -18,11 +19,14 @@ function TaskList({ onLogout }) {
   const [error, setError] = useState('');
   const [editingTask, setEditingTask] = useState(null);
   const [filterStatus, setFilterStatus] = useState('ALL');
+  const [sortBy, setSortBy] = useState('createdAt');
   
   const [formData, setFormData] = useState({
     title: '',
     description: '',
     status: 'PENDING',
+    dueAt: '',
+    priority: 'MEDIUM',
   });
 
   /**
@@ -32,7 +36,8 @@ function TaskList({ onLogout }) {
    */
   useEffect(() => {
     fetchTasks();
-  }, []);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [sortBy]);
 
   /**
    * Fetch all tasks from API
@@ -41,7 +46,7 @@ function TaskList({ onLogout }) {
     try {
       setLoading(true);
       console.log('Fetching tasks from:', process.env.REACT_APP_API_URL);
-      const data = await taskAPI.getAll();
+      const data = await taskAPI.getAll(sortBy);
       console.log('Tasks fetched:', data);
       setTasks(data);
       setError('');
@@ -75,13 +80,16 @@ function TaskList({ onLogout }) {
     e.preventDefault();
     setError('');
 
+    // An empty date input means "no due date"
+    const taskData = { ...formData, dueAt: formData.dueAt || null };
+
     try {
       if (editingTask) {
         // Update existing task
-        await taskAPI.update(editingTask.id, formData);
+        await taskAPI.update(editingTask.id, taskData);
       } else {
         // Create new task
-        await taskAPI.create(formData);
+        await taskAPI.create(taskData);
       }
       
       // Reset form and refresh tasks
@@ -103,6 +111,8 @@ function TaskList({ onLogout }) {
       title: task.title,
       description: task.description || '',
       status: task.status,
+      dueAt: task.dueAt ? task.dueAt.slice(0, 16) : '',
+      priority: task.priority || 'MEDIUM',
     });
     // Scroll to form
     window.scrollTo({ top: 0, behavior: 'smooth' });
@@ -141,6 +151,8 @@ function TaskList({ onLogout }) {
       title: '',
       description: '',
       status: 'PENDING',
+      dueAt: '',
+      priority: 'MEDIUM',
     });
     setEditingTask(null);
   };
@@ -231,6 +243,32 @@ function TaskList({ onLogout }) {
             </select>
           </div>
 
+          <div className="form-group">
+            <label htmlFor="priority">Priority</label>
+            <select
+              id="priority"
+              name="priority"
+              value={formData.priority}
+              onChange={handleChange}
+            >
+              <option value="LOW">Low</option>
+              <option value="MEDIUM">Medium</option>
+              <option value="HIGH">High</option>
+              <option value="URGENT">Urgent</option>
+            </select>
+          </div>
+
+          <div className="form-group">
+            <label htmlFor="dueAt">Due (optional, you get a reminder)</label>
+            <input
+              type="datetime-local"
+              id="dueAt"
+              name="dueAt"
+              value={formData.dueAt}
+              onChange={handleChange}
+            />
+          </div>
+
           {error && <div className="error-message">{error}</div>}
 
           <div className="form-actions">
@@ -264,6 +302,17 @@ function TaskList({ onLogout }) {
             <option value="IN_PROGRESS">In Progress</option>
             <option value="COMPLETED">Completed</option>
           </select>
+          <label style={{ fontWeight: '600' }}>Sort by:</label>
+          <select
+            value={sortBy}
+            onChange={(e) => setSortBy(e.target.value)}
+            style={{ padding: '8px', borderRadius: '5px', border: '1px solid #ddd' }}
+          >
+            <option value="createdAt">Newest first</option>
+            <option value="updatedAt">Recently updated</option>
+            <option value="status">By status, then title</option>
+            <option value="title">By title</option>
+          </select>
           <span style={{ color: '#666', marginLeft: 'auto' }}>
             Showing {filteredTasks.length} of {tasks.length} tasks
           </span>
@@ -302,6 +351,8 @@ function TaskList({ onLogout }) {
 
               <div className="task-meta">
                 <div className="task-date">
+                  {task.dueAt && <span>Due: {formatDate(task.dueAt)} • </span>}
+                  {task.priority && task.priority !== 'MEDIUM' && <span>{task.priority} • </span>}
                   Created: {formatDate(task.createdAt)}
                   {task.updatedAt !== task.createdAt && (
                     <span> • Updated: {formatDate(task.updatedAt)}</span>
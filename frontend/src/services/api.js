@@ -21,9 +21,29 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// Access tokens are short-lived: on a 401, exchange the refresh token once and retry.
+// Parallel requests share one refresh call.
+let refreshPromise = null;
+
+const refreshTokens = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshPromise = (refreshToken
+      ? axios.post(`${process.env.REACT_APP_API_URL || ''}/api/auth/refresh`, { refreshToken })
+          .then((res) => {
+            localStorage.setItem('token', res.data.token);
+            localStorage.setItem('refreshToken', res.data.refreshToken);
+            return res.data.token;
+          })
+      : Promise.reject(new Error('No refresh token')))
+      .finally(() => { refreshPromise = null; });
+  }
+  return refreshPromise;
+};
+
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     // Log error for debugging
     console.error('API Error:', {
       status: error.response?.status,
@@ -31,8 +51,22 @@ api.interceptors.response.use(
       data: error.response?.data,
     });
     
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retried
+        && !original.url?.startsWith('/api/auth/')) {
+      original._retried = true;
+      try {
+        const token = await refreshTokens();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch (refreshError) {
+        // Refresh failed: fall through to logout
+      }
+    }
+    
     if (error.response?.status === 401) {
       localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -42,10 +76,12 @@ api.interceptors.response.use(
 export const authAPI = {
   register: (userData) => api.post('/api/auth/register', userData).then(res => res.data),
   login: (credentials) => api.post('/api/auth/login', credentials).then(res => res.data),
+  logout: (refreshToken) => api.post('/api/auth/logout', { refreshToken }),
 };
 
 export const taskAPI = {
-  getAll: () => api.get('/api/tasks').then(res => res.data),
+  // sort: createdAt (default), updatedAt, status or title - ordered by the server
+  getAll: (sort = 'createdAt') => api.get('/api/tasks', { params: { sort } }).then(res => res.data),
   getById: (id) => api.get(`/api/tasks/${id}`).then(res => res.data),
   create: (taskData) => {
     console.log('Creating task:', taskData);